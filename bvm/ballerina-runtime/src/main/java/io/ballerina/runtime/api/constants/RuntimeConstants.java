@@ -133,6 +133,9 @@ public final class RuntimeConstants {
     public static final String SYSTEM_PROP_BAL_DEBUG = "debug";
     public static final String SYSTEM_PROP_PROFILE_DEBUG = "profilerDebug";
 
+    // Name of the system property to select how non-isolated strands are serialized by the scheduler
+    public static final String SYSTEM_PROP_NON_ISOLATED_LOCK_MODE = "ballerina.scheduler.nonIsolatedLockMode";
+
     // Transaction constants
     public static final String GLOBAL_TRANSACTION_ID = "globalTransactionId";
     public static final String TRANSACTION_URL = "transactionUrl";
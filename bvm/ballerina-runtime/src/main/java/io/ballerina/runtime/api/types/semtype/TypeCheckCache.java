@@ -18,31 +18,134 @@
 
 package io.ballerina.runtime.api.types.semtype;
 
-import java.util.HashMap;
-import java.util.Map;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Generalized implementation of type check result cache. It is okay to access this from multiple threads but makes no
  * guarantee about the consistency of the cache under parallel access. Given result don't change due to race conditions
  * this should eventually become consistent.
+ * <p>
+ * Results are kept in a fixed-size table indexed by the id of the target type, with the id and the result of an
+ * entry packed into a single {@code long}, so that neither lookups nor updates allocate or lock. The table starts
+ * small and doubles whenever a result would replace the result of a different type, up to {@value #MAX_CAPACITY}
+ * entries. After that, the new result replaces the old one.
+ * <p>
+ * Hits, misses and evictions of all the caches are counted once metrics are enabled, and published through
+ * {@link #registerMetrics(MetricRegistry)}.
  *
  * @since 2201.12.0
  */
 public class TypeCheckCache {
 
+    public static final String HITS_METRIC_NAME = "type_check_cache_hits_total";
+    public static final String MISSES_METRIC_NAME = "type_check_cache_misses_total";
+    public static final String EVICTIONS_METRIC_NAME = "type_check_cache_evictions_total";
+
+    private static final int INITIAL_CAPACITY = 8;
     private static final int MAX_CAPACITY = 1024;
-    private final Map<Integer, Boolean> cache = new HashMap<>();
+    private static final long EMPTY = 0;
+    private static final long FALSE_RESULT = 1;
+    private static final long TRUE_RESULT = 2;
+    private static final long RESULT_MASK = 3;
+    // Shared by the caches with no results, nothing is ever written to it
+    private static final AtomicLongArray NO_ENTRIES = new AtomicLongArray(1);
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static volatile boolean recordStatistics = false;
+
+    private volatile AtomicLongArray entries = NO_ENTRIES;
 
     public Boolean cachedTypeCheckResult(CacheableTypeDescriptor other) {
         int targetTypeId = other.typeId();
-        return cache.get(targetTypeId);
+        AtomicLongArray entries = this.entries;
+        long entry = entries.getOpaque(indexOf(targetTypeId, entries.length()));
+        if (entry == EMPTY || typeIdOf(entry) != targetTypeId) {
+            if (recordStatistics) {
+                misses.increment();
+            }
+            return null;
+        }
+        if (recordStatistics) {
+            hits.increment();
+        }
+        return (entry & RESULT_MASK) == TRUE_RESULT;
     }
 
     public void cacheTypeCheckResult(CacheableTypeDescriptor other, boolean result) {
         int targetTypeId = other.typeId();
-        if (cache.size() > MAX_CAPACITY) {
-            cache.clear();
+        long entry = ((long) targetTypeId << Integer.SIZE) | (result ? TRUE_RESULT : FALSE_RESULT);
+        AtomicLongArray entries = this.entries;
+        int index = indexOf(targetTypeId, entries.length());
+        long current = entries.getOpaque(index);
+        if (entries == NO_ENTRIES) {
+            entries = grow(entries, INITIAL_CAPACITY);
+            index = indexOf(targetTypeId, entries.length());
+        } else if (current != EMPTY && typeIdOf(current) != targetTypeId) {
+            if (entries.length() < MAX_CAPACITY) {
+                entries = grow(entries, entries.length() * 2);
+                index = indexOf(targetTypeId, entries.length());
+            } else if (recordStatistics) {
+                evictions.increment();
+            }
         }
-        cache.put(targetTypeId, result);
+        entries.setOpaque(index, entry);
+    }
+
+    private AtomicLongArray grow(AtomicLongArray entries, int capacity) {
+        // Results added concurrently to the old table may be lost, which only means they are computed again
+        AtomicLongArray newEntries = new AtomicLongArray(capacity);
+        for (int i = 0; i < entries.length(); i++) {
+            long entry = entries.getOpaque(i);
+            if (entry != EMPTY) {
+                newEntries.setOpaque(indexOf(typeIdOf(entry), capacity), entry);
+            }
+        }
+        this.entries = newEntries;
+        return newEntries;
+    }
+
+    private static int indexOf(int typeId, int capacity) {
+        // Type ids are sequential, so they are spread out before taking the lower bits
+        int hash = typeId * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (capacity - 1);
+    }
+
+    private static int typeIdOf(long entry) {
+        return (int) (entry >>> Integer.SIZE);
+    }
+
+    /**
+     * Starts counting the hits, misses and evictions of the type check caches, and publishes the counts as polled
+     * gauges in the given registry.
+     *
+     * @param registry metric registry
+     * @since 2201.14.0
+     */
+    public static void registerMetrics(MetricRegistry registry) {
+        recordStatistics = true;
+        PolledGauge.builder(HITS_METRIC_NAME, hits, LongAdder::sum)
+                .description("Number of type checks answered by the type check cache").register(registry);
+        PolledGauge.builder(MISSES_METRIC_NAME, misses, LongAdder::sum)
+                .description("Number of type checks not found in the type check cache").register(registry);
+        PolledGauge.builder(EVICTIONS_METRIC_NAME, evictions, LongAdder::sum)
+                .description("Number of type check results evicted from the type check cache").register(registry);
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static long getEvictionCount() {
+        return evictions.sum();
     }
 }
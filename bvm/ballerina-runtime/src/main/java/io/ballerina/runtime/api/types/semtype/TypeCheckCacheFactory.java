@@ -40,13 +40,7 @@ public class TypeCheckCacheFactory {
         if (identifier.avoidCaching()) {
             return create();
         }
-        var cached = cache.get(identifier);
-        if (cached != null) {
-            return cached;
-        }
-        var newCache = create();
-        cache.put(identifier, newCache);
-        return newCache;
+        return cache.computeIfAbsent(identifier, ignored -> create());
     }
 
     public static TypeCheckCache create() {
@@ -38,18 +38,23 @@ import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.commons.TypeValuePair;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.json.JsonArrayReader;
 import io.ballerina.runtime.internal.json.JsonGenerator;
 import io.ballerina.runtime.internal.json.JsonInternalUtils;
 import io.ballerina.runtime.internal.json.JsonParser;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -149,6 +154,39 @@ public final class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Returns an iterator over the members of the JSON array in the given {@link InputStream}. Members are parsed
+     * into values of the given type one at a time, as the iterator is advanced, so the whole array is never kept in
+     * memory. The iterator throws a {@link BError} for any parsing error.
+     *
+     * @param in          input stream which contains a JSON array
+     * @param charsetName the character set name of the input stream
+     * @param memberType  type of the values the members are parsed into
+     * @return iterator over the members of the array
+     * @throws BError if the character set is not supported
+     */
+    public static Iterator<Object> parseArrayMembers(InputStream in, String charsetName, Type memberType)
+            throws BError {
+        try {
+            return parseArrayMembers(new InputStreamReader(in, charsetName), memberType);
+        } catch (UnsupportedEncodingException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("error in parsing input stream: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns an iterator over the members of the JSON array in the given {@link Reader}. Members are parsed into
+     * values of the given type one at a time, as the iterator is advanced, so the whole array is never kept in
+     * memory. The iterator throws a {@link BError} for any parsing error.
+     *
+     * @param reader     reader which contains a JSON array
+     * @param memberType type of the values the members are parsed into
+     * @return iterator over the members of the array
+     */
+    public static Iterator<Object> parseArrayMembers(Reader reader, Type memberType) {
+        return new JsonArrayReader(reader, memberType);
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -279,6 +317,24 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * Serialize the JSON constructs to be written out to a given {@link WritableByteChannel} as UTF-8. The JSON
+     * constructs are encoded directly into a byte buffer, which is written to the channel as it fills up. The channel
+     * is not closed.
+     *
+     * @param json    JSON construct
+     * @param channel Output channel
+     * @throws BError If error occur while serialize json construct.
+     */
+    public static void serialize(Object json, WritableByteChannel channel) throws BError {
+        try (JsonGenerator gen = new JsonGenerator(channel)) {
+            gen.serialize(json);
+            gen.flush();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage()), e);
+        }
+    }
+
     /**
      * Create a json value from the given source value.
      *
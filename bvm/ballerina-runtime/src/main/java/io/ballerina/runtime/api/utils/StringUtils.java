@@ -39,9 +39,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -108,27 +108,31 @@ public final class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+        // Most strings have no surrogate pairs, so they are checked without keeping track of the surrogates
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                return new NonBmpStringValue(s, getHighSurrogates(s, i));
             }
         }
-        if (highSurrogates == null) {
-            return new BmpStringValue(s);
-        }
-
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
+        return new BmpStringValue(s);
+    }
 
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+    private static int[] getHighSurrogates(String s, int firstHighSurrogate) {
+        int[] highSurrogates = new int[4];
+        highSurrogates[0] = firstHighSurrogate;
+        int count = 1;
+        // The next char is scanned as well, as the first high surrogate may not be followed by a low surrogate
+        for (int i = firstHighSurrogate + 1; i < s.length(); i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                if (count == highSurrogates.length) {
+                    highSurrogates = Arrays.copyOf(highSurrogates, count * 2);
+                }
+                highSurrogates[count] = i - count;
+                count++;
+            }
         }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return count == highSurrogates.length ? highSurrogates : Arrays.copyOf(highSurrogates, count);
     }
 
     public static BArray fromStringArray(String[] s) {
@@ -253,11 +257,11 @@ public final class StringUtils {
     }
 
     private static String stringToJson(BString value) {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = new JsonGenerator(writer)) {
             gen.writeString(value.getValue());
             gen.flush();
-            return byteOut.toString();
+            return writer.toString();
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(
                     "Error in converting string value to a json string: " + e.getMessage()), e);
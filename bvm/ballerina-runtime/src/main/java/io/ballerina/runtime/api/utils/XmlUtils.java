@@ -17,17 +17,23 @@
  */
 package io.ballerina.runtime.api.utils;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
 import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.xml.XmlElementReader;
 import io.ballerina.runtime.internal.xml.XmlFactory;
 import io.ballerina.runtime.internal.xml.XmlValidator;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Class {@link XmlUtils} provides APIs to handle xml values.
@@ -89,6 +95,41 @@ public final class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Returns an iterator over the elements at the given path of the XML document in the given input stream.
+     * Elements are parsed one at a time, as the iterator is advanced, so the whole document is never kept in memory.
+     * The iterator throws a {@link BError} for any parsing error.
+     *
+     * @param xmlStream XML input stream
+     * @param charset   Charset to be used for parsing
+     * @param path      names of the elements from the root element to the elements to parse, in the
+     *                  {@code {namespace}localName} form; the root element is parsed if the path is empty
+     * @return iterator over the elements at the path
+     * @throws BError if the charset is not supported
+     */
+    public static Iterator<BXml> parseElements(InputStream xmlStream, String charset, List<String> path)
+            throws BError {
+        try {
+            return parseElements(new InputStreamReader(xmlStream, charset), path);
+        } catch (UnsupportedEncodingException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements at the given path of the XML document in the given reader. Elements are
+     * parsed one at a time, as the iterator is advanced, so the whole document is never kept in memory. The iterator
+     * throws a {@link BError} for any parsing error.
+     *
+     * @param reader XML reader
+     * @param path   names of the elements from the root element to the elements to parse, in the
+     *               {@code {namespace}localName} form; the root element is parsed if the path is empty
+     * @return iterator over the elements at the path
+     */
+    public static Iterator<BXml> parseElements(Reader reader, List<String> path) {
+        return new XmlElementReader(reader, path);
+    }
+
     /**
      * Converts a {@link BTable} to {@link BXml}.
      *
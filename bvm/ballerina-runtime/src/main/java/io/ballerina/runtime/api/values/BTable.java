@@ -198,4 +198,18 @@ public interface BTable<K, V> extends BRefValue, BCollection, JIteratorValue {
     long getNextKey();
 
     V put(V data);
+
+    /**
+     * Creates a secondary index on the given field of the members of this table. The index is maintained as members
+     * are added, replaced and removed, and is used by query {@code where} clauses that compare the field for
+     * equality. Creating an index on an already indexed field has no effect.
+     *
+     * @param fieldName name of a readonly field of the member type
+     * @throws BError if the field is not a readonly field of the member type
+     * @throws UnsupportedOperationException if the table implementation does not support secondary indexes
+     * @since 2201.14.0
+     */
+    default void createIndex(BString fieldName) {
+        throw new UnsupportedOperationException("secondary indexes are not supported by this table");
+    }
 }
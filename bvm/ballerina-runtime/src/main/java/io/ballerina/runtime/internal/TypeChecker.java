@@ -152,6 +152,10 @@ public final class TypeChecker {
     }
 
     public static long anyToInt(Object sourceVal) {
+        // Unbox ints without creating the error supplier
+        if (sourceVal instanceof Long longVal) {
+            return longVal;
+        }
         return TypeConverter.anyToIntCast(sourceVal,
                 () -> ErrorUtils.createTypeCastError(sourceVal, TYPE_INT));
     }
@@ -194,6 +198,10 @@ public final class TypeChecker {
     }
 
     public static double anyToFloat(Object sourceVal) {
+        // Unbox floats without creating the error supplier
+        if (sourceVal instanceof Double doubleVal) {
+            return doubleVal;
+        }
         return TypeConverter.anyToFloatCast(sourceVal, () -> ErrorUtils
                 .createTypeCastError(sourceVal, TYPE_FLOAT));
     }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the members of a JSON array from a {@link Reader} one at a time, as the iterator is advanced. Only the
+ * member being read is kept in memory, so arrays larger than the available memory can be processed. Each member is
+ * parsed into a value of the member type by the {@link JsonParser}.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2201.14.0
+ */
+public final class JsonArrayReader implements Iterator<Object> {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final Type memberType;
+    private final char[] buff = new char[BUFFER_SIZE];
+    private int index;
+    private int count;
+    private int line = 1;
+    private int column;
+
+    // Characters of the member being read, which are reused across members
+    private final StringBuilder member = new StringBuilder();
+    private boolean started;
+    private boolean ended;
+    private boolean hasMember;
+
+    public JsonArrayReader(Reader reader, Type memberType) {
+        this.reader = reader;
+        this.memberType = memberType;
+    }
+
+    /**
+     * Reads up to the next member of the array.
+     *
+     * @return {@code true} if the array has more members
+     * @throws BError if the content is not a valid JSON array or cannot be read
+     */
+    @Override
+    public boolean hasNext() throws BError {
+        if (this.hasMember) {
+            return true;
+        }
+        if (this.ended) {
+            return false;
+        }
+        try {
+            this.hasMember = readMember();
+            return this.hasMember;
+        } catch (IOException e) {
+            this.ended = true;
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (ParserException e) {
+            this.ended = true;
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line
+                                                                  + " column: " + this.column));
+        }
+    }
+
+    /**
+     * Parses the next member of the array.
+     *
+     * @return the next member, as a value of the member type
+     * @throws BError if the member cannot be parsed into a value of the member type
+     */
+    @Override
+    public Object next() throws BError {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.hasMember = false;
+        try {
+            return JsonParser.parse(this.member.toString(), this.memberType);
+        } catch (BError e) {
+            this.ended = true;
+            throw e;
+        }
+    }
+
+    private boolean readMember() throws IOException, ParserException {
+        int ch = readNonWhitespace();
+        if (!this.started) {
+            if (ch == EOF) {
+                throw new ParserException("empty JSON document");
+            }
+            if (ch != '[') {
+                throw new ParserException("expected '['");
+            }
+            this.started = true;
+            ch = readNonWhitespace();
+            if (ch == ']') {
+                return end();
+            }
+        } else if (ch == ']') {
+            return end();
+        } else if (ch == ',') {
+            ch = readNonWhitespace();
+        } else if (ch != EOF) {
+            throw new ParserException("expected ',' or ']'");
+        }
+        if (ch == EOF) {
+            throw new ParserException("unexpected end of input stream");
+        }
+        if (ch == ']' || ch == ',') {
+            throw new ParserException("expected an array element");
+        }
+
+        // Members are not validated here, but are only delimited by tracking the nesting of arrays, objects and
+        // strings. The parser validates them when they are parsed.
+        this.member.setLength(0);
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (ch != EOF) {
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (ch == '\\') {
+                    escaped = true;
+                } else if (ch == '"') {
+                    inString = false;
+                }
+            } else if (ch == '"') {
+                inString = true;
+            } else if (ch == '[' || ch == '{') {
+                depth++;
+            } else if (ch == ']' || ch == '}' || ch == ',') {
+                if (depth == 0) {
+                    // The delimiter is read again when the next member is read
+                    this.index--;
+                    this.column--;
+                    break;
+                }
+                if (ch != ',') {
+                    depth--;
+                }
+            }
+            this.member.append((char) ch);
+            ch = read();
+        }
+        return true;
+    }
+
+    private boolean end() throws IOException, ParserException {
+        this.ended = true;
+        if (readNonWhitespace() != EOF) {
+            throw new ParserException("input stream has already ended");
+        }
+        return false;
+    }
+
+    private int readNonWhitespace() throws IOException {
+        int ch;
+        do {
+            ch = read();
+        } while (ch != EOF && StateMachine.isWhitespace((char) ch));
+        return ch;
+    }
+
+    private int read() throws IOException {
+        if (this.index == this.count) {
+            this.count = this.reader.read(this.buff);
+            this.index = 0;
+            if (this.count <= 0) {
+                this.count = 0;
+                return EOF;
+            }
+        }
+        char ch = this.buff[this.index++];
+        if (ch == '\n') {
+            this.line++;
+            this.column = 0;
+        } else {
+            this.column++;
+        }
+        return ch;
+    }
+}
@@ -21,6 +21,8 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.utils.Utf8BufferWriter;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
@@ -32,9 +34,14 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -49,6 +56,9 @@ public class JsonGenerator implements Closeable {
 
     private final Writer writer;
 
+    // Set when writing UTF-8 bytes, so that field names of records can be written already encoded
+    private final Utf8BufferWriter utf8Writer;
+
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
     private int currentLevel;
@@ -71,11 +81,23 @@ public class JsonGenerator implements Closeable {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        this(StandardCharsets.UTF_8.equals(charset) ? new Utf8BufferWriter(out) :
+                new BufferedWriter(new OutputStreamWriter(out, charset)));
+    }
+
+    /**
+     * Creates a generator that writes UTF-8 encoded JSON to the given channel. The channel is not closed when the
+     * generator is closed.
+     *
+     * @param channel channel to write to
+     */
+    public JsonGenerator(WritableByteChannel channel) {
+        this(new Utf8BufferWriter(channel));
     }
 
     public JsonGenerator(Writer writer) {
         this.writer = writer;
+        this.utf8Writer = writer instanceof Utf8BufferWriter utf8BufferWriter ? utf8BufferWriter : null;
     }
 
     private void setLevelInit(int index, boolean init) {
@@ -152,6 +174,11 @@ public class JsonGenerator implements Closeable {
         this.writer.write(":");
     }
 
+    private void writeFieldName(byte[] encodedFieldName) throws IOException {
+        this.processFieldInit();
+        this.utf8Writer.writeEncoded(encodedFieldName);
+    }
+
     private void writeStringValue(String value) throws IOException {
         this.writer.write("\"");
         int count = value.length();
@@ -316,9 +343,15 @@ public class JsonGenerator implements Closeable {
             case TypeTags.BYTE_TAG:
                 this.writeNumber(((Number) json).intValue());
                 break;
+            case TypeTags.RECORD_TYPE_TAG:
+                if (this.utf8Writer != null) {
+                    this.serializeRecord((MapValueImpl<BString, RefValue>) json,
+                            (BRecordType) TypeUtils.getImpliedType(TypeChecker.getType(json)));
+                    break;
+                }
+                // fall through
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
-            case TypeTags.RECORD_TYPE_TAG:
                 this.startObject();
                 for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
                     this.writeFieldName(entry.getKey().getValue());
@@ -333,4 +366,46 @@ public class JsonGenerator implements Closeable {
                 break;
         }
     }
+
+    private void serializeRecord(MapValueImpl<BString, RefValue> record, BRecordType recordType) throws IOException {
+        Map<String, byte[]> encodedFieldNames = getEncodedFieldNames(recordType);
+        this.startObject();
+        for (Entry<BString, RefValue> entry : record.entrySet()) {
+            String fieldName = entry.getKey().getValue();
+            byte[] encodedFieldName = encodedFieldNames.get(fieldName);
+            if (encodedFieldName != null) {
+                this.writeFieldName(encodedFieldName);
+            } else {
+                // Rest fields are not known in advance
+                this.writeFieldName(fieldName);
+            }
+            serialize(entry.getValue());
+        }
+        this.endObject();
+    }
+
+    private static Map<String, byte[]> getEncodedFieldNames(BRecordType recordType) {
+        Map<String, byte[]> encodedFieldNames = recordType.getEncodedJsonFieldNames();
+        if (encodedFieldNames != null) {
+            return encodedFieldNames;
+        }
+        encodedFieldNames = new HashMap<>();
+        for (String fieldName : recordType.getFields().keySet()) {
+            encodedFieldNames.put(fieldName, encodeFieldName(fieldName));
+        }
+        recordType.setEncodedJsonFieldNames(encodedFieldNames);
+        return encodedFieldNames;
+    }
+
+    private static byte[] encodeFieldName(String fieldName) {
+        StringWriter writer = new StringWriter();
+        try {
+            new JsonGenerator(writer).writeStringValue(fieldName);
+        } catch (IOException e) {
+            // A string writer does not throw
+            throw new IllegalStateException(e);
+        }
+        writer.write(':');
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -52,6 +52,7 @@ import io.ballerina.runtime.internal.types.BIntersectionType;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.utils.CloneUtils;
+import io.ballerina.runtime.internal.utils.StringInternCache;
 import io.ballerina.runtime.internal.utils.ValueConverter;
 import io.ballerina.runtime.internal.utils.ValueUtils;
 import io.ballerina.runtime.internal.values.ArrayValue;
@@ -62,7 +63,6 @@ import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -120,7 +120,8 @@ public final class JsonParser {
      */
     public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
         try {
-            return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
+            // The reader decodes the stream in blocks already, so the stream does not need to be buffered
+            return parse(new InputStreamReader(in, charsetName), targetType);
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(("error in parsing input stream: "
                                                                    + e.getMessage())));
@@ -217,6 +218,8 @@ public final class JsonParser {
         private static final String TUPLE_SIZE_MISMATCH = "tuple size is not enough for the provided values";
         private static final String UNEXPECTED_END_OF_THE_INPUT_STREAM = "unexpected end of the input stream";
         private static final String UNRECOGNIZED_TOKEN = "unrecognized token '";
+        // Integers with up to this many digits can not overflow a long
+        private static final int MAX_PLAIN_INT_DIGITS = 18;
 
         // targetTypes list will always have effective referred types because we add only the implied types
         // if the target type is union we put the union type inside targetTypes list and do not add more types,
@@ -357,7 +360,7 @@ public final class JsonParser {
             return switch (parentTargetType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG -> {
                     ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                            StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                            StringInternCache.get(fieldNames.pop()), currentJsonNode);
                     this.currentJsonNode = parentNode;
                     yield FIELD_END_STATE;
                 }
@@ -372,7 +375,7 @@ public final class JsonParser {
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (TypeUtils.getImpliedType(TypeChecker.getType(parentNode)).getTag() == TypeTags.MAP_TAG) {
                         ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                                StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                                StringInternCache.get(fieldNames.pop()), currentJsonNode);
                         this.currentJsonNode = parentNode;
                         yield FIELD_END_STATE;
                     }
@@ -417,7 +420,7 @@ public final class JsonParser {
             List<String> notProvidedFields = new ArrayList<>();
             for (Map.Entry<String, Field> stringFieldEntry : recordType.getFields().entrySet()) {
                 String fieldName = stringFieldEntry.getKey();
-                BString bFieldName = StringUtils.fromString(fieldName);
+                BString bFieldName = StringInternCache.get(fieldName);
                 if (constructedMap.containsKey(bFieldName)) {
                     continue;
                 }
@@ -755,7 +758,7 @@ public final class JsonParser {
                         throw new ParserException(UNSUPPORTED_TYPE + targetType + "'");
                 }
                 ((MapValueImpl<BString, Object>) sm.currentJsonNode).putForcefully(
-                        StringUtils.fromString(sm.fieldNames.pop()), bString);
+                        StringInternCache.get(sm.fieldNames.pop()), bString);
             }
 
             private static Type getFieldType(StateMachine sm, BRecordType targetType) {
@@ -932,45 +935,44 @@ public final class JsonParser {
 
         @Override
         void processNonStringValue(ValueType type) throws ParserException {
-            String str = value();
             Type targetType = this.targetTypes.get(this.targetTypes.size() - 1);
             Type referredType = TypeUtils.getImpliedType(targetType);
             switch (referredType.getTag()) {
                 case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG -> {
-                    processNonStringValueAsJson(str, type);
+                    processNonStringValueAsJson(value(), type);
                     if (this.nodesStackSizeWhenUnionStarts == -1) {
                         this.currentJsonNode = convert(this.currentJsonNode, targetType);
                     }
                 }
                 case TypeTags.ANYDATA_TAG, TypeTags.JSON_TAG, TypeTags.TABLE_TAG ->
-                        processNonStringValueAsJson(str, type);
-                case TypeTags.ARRAY_TAG -> processArrayType(str, (ArrayType) referredType);
-                case TypeTags.TUPLE_TAG -> processTupleType(str, (TupleType) referredType);
-                case TypeTags.MAP_TAG -> processMapType(str, (MapType) referredType);
-                case TypeTags.RECORD_TYPE_TAG -> processRecordType(str, (BRecordType) referredType);
-                default -> this.currentJsonNode = convertValues(referredType, str);
+                        processNonStringValueAsJson(value(), type);
+                case TypeTags.ARRAY_TAG -> processArrayElement((ArrayType) referredType);
+                case TypeTags.TUPLE_TAG -> processTupleType(value(), (TupleType) referredType);
+                case TypeTags.MAP_TAG -> processMapType((MapType) referredType);
+                case TypeTags.RECORD_TYPE_TAG -> processRecordType((BRecordType) referredType);
+                default -> this.currentJsonNode = convertValue(referredType);
             }
         }
 
-        private void processRecordType(String str, BRecordType referredType) throws ParserException {
+        private void processRecordType(BRecordType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             String fieldName = this.fieldNames.pop();
             Map<String, Field> fields = referredType.getFields();
             Field field = fields.get(fieldName);
             Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+                    StringInternCache.get(fieldName), convertValue(TypeUtils.getImpliedType(fieldType)));
         }
 
-        private void processMapType(String str, MapType referredType) throws ParserException {
+        private void processMapType(MapType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             Type constrainedType = TypeUtils.getImpliedType(referredType.getConstrainedType());
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(this.fieldNames.pop()), convertValues(constrainedType, str));
+                    StringInternCache.get(this.fieldNames.pop()), convertValue(constrainedType));
         }
 
         private void processTupleType(String str, TupleType referredType) throws ParserException {
@@ -997,16 +999,63 @@ public final class JsonParser {
             this.listIndices.set(this.listIndices.size() - 1, tupleListIndex + 1);
         }
 
-        private void processArrayType(String str, ArrayType referredType) throws ParserException {
+        private void processArrayElement(ArrayType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             int listIndex = this.listIndices.get(this.listIndices.size() - 1);
             Type elementType = TypeUtils.getImpliedType(referredType.getElementType());
-            ((ArrayValueImpl) this.currentJsonNode).addRefValue(listIndex, convertValues(elementType, str));
+            ArrayValueImpl arrayValue = (ArrayValueImpl) this.currentJsonNode;
+            // Values are converted to the element type already, so they are added without boxing or type checks
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                        TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                        TypeTags.UNSIGNED8_INT_TAG -> arrayValue.addIntForcefully(listIndex, intValue(elementType));
+                case TypeTags.FLOAT_TAG -> arrayValue.addFloatForcefully(listIndex,
+                        convertToFloat(elementType, value()));
+                case TypeTags.BOOLEAN_TAG -> arrayValue.addBooleanForcefully(listIndex,
+                        convertToBoolean(elementType, value()));
+                case TypeTags.BYTE_TAG -> arrayValue.addByteForcefully(listIndex,
+                        (byte) convertToByte(elementType, value()));
+                default -> arrayValue.addRefValue(listIndex, convertValues(elementType, value()));
+            }
             this.listIndices.set(this.listIndices.size() - 1, listIndex + 1);
         }
 
+        private Object convertValue(Type targetType) throws ParserException {
+            return switch (targetType.getTag()) {
+                case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                        TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                        TypeTags.UNSIGNED8_INT_TAG -> intValue(targetType);
+                default -> convertValues(targetType, value());
+            };
+        }
+
+        private long intValue(Type targetType) throws ParserException {
+            // Plain decimal integers are parsed from the characters read, without creating a string for them
+            int length = this.charBuffIndex;
+            int i = length > 0 && this.charBuff[0] == '-' ? 1 : 0;
+            if (i == length || length - i > MAX_PLAIN_INT_DIGITS) {
+                return convertToInt(targetType, value());
+            }
+            long value = 0;
+            for (; i < length; i++) {
+                char ch = this.charBuff[i];
+                if (ch < '0' || ch > '9') {
+                    return convertToInt(targetType, value());
+                }
+                value = value * 10 + (ch - '0');
+            }
+            if (this.charBuff[0] == '-') {
+                value = -value;
+            }
+            if (!TypeConverter.isConvertibleToIntRange(targetType, value)) {
+                throw getConversionError(targetType, value());
+            }
+            this.charBuffIndex = 0;
+            return value;
+        }
+
         @Override
         void setValueToJsonType(ValueType type, Object value) {
             switch (type) {
@@ -1016,7 +1065,7 @@ public final class JsonParser {
                     break;
                 case FIELD:
                     ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                            StringInternCache.get(this.fieldNames.pop()), value);
                     break;
                 default:
                     this.currentJsonNode = value;
@@ -19,6 +19,7 @@
 package io.ballerina.runtime.internal.launch;
 
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.internal.BalRuntime;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.ConfigProvider;
 import io.ballerina.runtime.internal.configurable.ConfigResolver;
@@ -76,6 +77,17 @@ public final class LaunchUtils {
         }
     }
 
+    @SuppressWarnings("unused")
+    /*
+     * Used for codegen adding the modules imported by a module.
+     */
+    public static void addModuleDependencies(BalRuntime runtime, Module module, Module[] imports,
+                                             boolean hasNonIsolatedState) {
+        if (runtime != null) {
+            runtime.scheduler.addModuleDependencies(module, imports, hasNonIsolatedState);
+        }
+    }
+
     @SuppressWarnings("unused")
     /*
      * Used for codegen adding module configurable data.
@@ -21,30 +21,53 @@ package io.ballerina.runtime.internal.lock;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Class used for generating code to manage Ballerina locks.
+ * <p>
+ * Generated code resolves the global locks of a module once, when the module init class is loaded, and acquires them
+ * through {@link #lock(Strand, ReentrantLock)}. An uncontended lock is acquired without yielding the strand; only a
+ * strand that has to wait for the lock yields, so that other strands can run meanwhile. Such waits are counted per
+ * lock and, if metrics are enabled, published as the {@value #CONTENTION_METRIC_NAME} counter.
  *
  * @since 1.2.0
  */
 @SuppressWarnings("unused")
 public class BLockStore {
 
+    public static final String CONTENTION_METRIC_NAME = "lock_contentions_total";
+    private static final String CONTENTION_METRIC_DESCRIPTION = "Number of times a strand waited for a lock";
+    private static final String MODULE_TAG = "module";
+    private static final String LOCK_TAG = "lock";
+
     /**
      * The map of locks inferred.
      */
-    private final Map<String, ReentrantLock> globalLockMap;
+    private final Map<String, GlobalLock> globalLockMap = new ConcurrentHashMap<>();
 
-    private final ReentrantReadWriteLock storeLock;
+    private final String moduleName;
 
     public BLockStore() {
-        this.globalLockMap = new HashMap<>();
-        this.storeLock = new ReentrantReadWriteLock();
+        this("");
+    }
+
+    public BLockStore(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
+    /*
+        This is code generated method to get a Ballerina global lock from the lock name, once per module.
+    */
+    @SuppressWarnings("unused")
+    public ReentrantLock getLock(String lockName) {
+        return globalLockMap.computeIfAbsent(lockName, GlobalLock::new);
     }
 
     /*
@@ -52,20 +75,22 @@ public class BLockStore {
     */
     @SuppressWarnings("unused")
     public void lock(Strand strand, String lockName) {
-        try {
-            strand.yield();
-            getLockFromMap(lockName).lock();
-            strand.acquiredLockCount++;
-        } finally {
-            strand.resume();
-        }
+        lock(strand, getLock(lockName));
     }
 
     /*
-     This is code generated method to get Ballerina object lock and lock.
+     This is code generated method to lock a Ballerina object lock or a resolved global lock.
     */
     @SuppressWarnings("unused")
     public void lock(Strand strand, ReentrantLock lock) {
+        strand.checkStrandCancelled();
+        if (lock.tryLock()) {
+            strand.acquiredLockCount++;
+            return;
+        }
+        if (lock instanceof GlobalLock globalLock) {
+            recordContention(globalLock);
+        }
         try {
             strand.yield();
             lock.lock();
@@ -80,27 +105,43 @@ public class BLockStore {
     */
     @SuppressWarnings("unused")
     public void unlock(Strand strand, String lockName) {
-        try {
-            strand.yield();
-            getLockFromMap(lockName).unlock();
-            strand.acquiredLockCount--;
-        } finally {
-            strand.resume();
-        }
+        unlock(strand, getLock(lockName));
     }
 
     /*
-    This is code generated method to get Ballerina object lock and unlock.
+    This is code generated method to unlock a Ballerina object lock or a resolved global lock.
     */
     @SuppressWarnings("unused")
     public void unlock(Strand strand, ReentrantLock lock) {
-        try {
-            strand.yield();
-            lock.unlock();
-            strand.acquiredLockCount--;
-        } finally {
-            strand.resume();
+        // Releasing a lock never blocks, hence there is no need to yield the strand
+        lock.unlock();
+        strand.acquiredLockCount--;
+        strand.checkStrandCancelled();
+    }
+
+    /**
+     * Returns the number of times a strand had to wait for the given global lock.
+     *
+     * @param lockName name of the global lock
+     * @return the contention count, or zero if the lock is not used
+     */
+    public long getContentionCount(String lockName) {
+        GlobalLock lock = globalLockMap.get(lockName);
+        return lock == null ? 0 : lock.contentions.sum();
+    }
+
+    private void recordContention(GlobalLock lock) {
+        lock.contentions.increment();
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        Counter counter = lock.contentionCounter;
+        if (counter == null) {
+            counter = Counter.builder(CONTENTION_METRIC_NAME).description(CONTENTION_METRIC_DESCRIPTION)
+                    .tag(MODULE_TAG, moduleName).tag(LOCK_TAG, lock.name).register();
+            lock.contentionCounter = counter;
         }
+        counter.increment();
     }
 
     /*
@@ -113,26 +154,17 @@ public class BLockStore {
         }
     }
 
-    private ReentrantLock getLockFromMap(String lockName) {
-        ReentrantLock lock;
-        try {
-            storeLock.readLock().lock();
-            lock = globalLockMap.get(lockName);
-        } finally {
-            storeLock.readLock().unlock();
-        }
-        if (lock != null) {
-            return lock;
-        }
-        return addLockToMap(lockName);
-    }
+    /**
+     * Ballerina global lock, which keeps track of how often strands had to wait for it.
+     */
+    private static final class GlobalLock extends ReentrantLock {
 
-    private ReentrantLock addLockToMap(String lockName) {
-        try {
-            storeLock.writeLock().lock();
-            return globalLockMap.computeIfAbsent(lockName, k -> new ReentrantLock());
-        } finally {
-            storeLock.writeLock().unlock();
+        private final String name;
+        private final LongAdder contentions = new LongAdder();
+        private transient volatile Counter contentionCounter;
+
+        GlobalLock(String name) {
+            this.name = name;
         }
     }
 }
@@ -25,13 +25,10 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.pipeline.StreamPipeline;
+import io.ballerina.runtime.internal.query.utils.JoinHashTable;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
@@ -45,7 +42,7 @@ public class InnerJoin implements QueryClause {
     private final StreamPipeline pipelineToJoin;
     private final BFunctionPointer lhsKeyFunction;
     private final BFunctionPointer rhsKeyFunction;
-    private final Map<String, List<BMap<BString, Object>>> rhsFramesMap = new HashMap<>();
+    private final JoinHashTable rhsFramesTable = new JoinHashTable();
     private BError failureAtJoin = null;
     private final Environment env;
 
@@ -95,7 +92,7 @@ public class InnerJoin implements QueryClause {
                     failureAtJoin = error;
                     return;
                 }
-                rhsFramesMap.computeIfAbsent(key.toString(), k -> new ArrayList<>()).add(frame);
+                rhsFramesTable.add(key, frame);
             });
         } catch (QueryException e) {
             failureAtJoin = e.getError();
@@ -119,8 +116,7 @@ public class InnerJoin implements QueryClause {
                 if (lhsKey instanceof BError error) {
                     throw new QueryException(error);
                 }
-                List<BMap<BString, Object>> rhsCandidates = rhsFramesMap
-                        .getOrDefault(lhsKey.toString(), Collections.emptyList());
+                List<BMap<BString, Object>> rhsCandidates = rhsFramesTable.get(lhsKey);
                 return rhsCandidates.stream()
                         .map(rhsFrame -> mergeFrames(lhsFrame, rhsFrame));
 
@@ -35,6 +35,8 @@ import java.util.stream.Stream;
 public class Where implements QueryClause {
     private final BFunctionPointer filterFunc;
     private final Environment env;
+    private final BString indexedField;
+    private final Object indexedValue;
 
     /**
      * Constructor for the Where.
@@ -43,8 +45,22 @@ public class Where implements QueryClause {
      * @param filterFunc The function to filter frames.
      */
     private Where(Environment env, BFunctionPointer filterFunc) {
+        this(env, filterFunc, null, null);
+    }
+
+    /**
+     * Constructor for a Where whose condition compares a field of the input member with a value.
+     *
+     * @param env          The runtime environment.
+     * @param filterFunc   The function to filter frames.
+     * @param indexedField The field compared by the condition.
+     * @param indexedValue The value the field is compared with.
+     */
+    private Where(Environment env, BFunctionPointer filterFunc, BString indexedField, Object indexedValue) {
         this.filterFunc = filterFunc;
         this.env = env;
+        this.indexedField = indexedField;
+        this.indexedValue = indexedValue;
     }
 
     /**
@@ -58,6 +74,29 @@ public class Where implements QueryClause {
         return new Where(env, filterFunc);
     }
 
+    /**
+     * Static initializer for a Where that follows the input clause and whose condition is an equality check of a field
+     * of the input member. The pipeline may use an index of the input table to skip the members that cannot match.
+     *
+     * @param env          The runtime environment.
+     * @param filterFunc   The filter function.
+     * @param indexedField The field compared by the condition.
+     * @param indexedValue The value the field is compared with.
+     * @return A new instance of Where.
+     */
+    public static Where initIndexedWhereClause(Environment env, BFunctionPointer filterFunc, BString indexedField,
+                                               Object indexedValue) {
+        return new Where(env, filterFunc, indexedField, indexedValue);
+    }
+
+    public BString getIndexedField() {
+        return indexedField;
+    }
+
+    public Object getIndexedValue() {
+        return indexedValue;
+    }
+
     /**
      * Filters a stream of frames by applying the filter function to each frame.
      *
@@ -23,9 +23,11 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.query.clauses.QueryClause;
+import io.ballerina.runtime.internal.query.clauses.Where;
 import io.ballerina.runtime.internal.query.utils.IteratorUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -46,6 +48,7 @@ public class StreamPipeline {
     private final boolean isLazyLoading;
     private final Environment env;
     private final Iterator<?> itr;
+    private final Object collection;
 
     /**
      * Constructor for creating a StreamPipeline.
@@ -65,6 +68,7 @@ public class StreamPipeline {
         this.constraintType = constraintType;
         this.completionType = completionType;
         this.isLazyLoading = isLazyLoading;
+        this.collection = collection;
         this.itr = IteratorUtils.getIterator(env, collection);
         this.stream = initializeFrameStream(itr);
     }
@@ -129,11 +133,31 @@ public class StreamPipeline {
      * Processes the stream through all the pipeline stages.
      */
     public void execute() {
+        List<?> indexedMembers = getIndexedMembers();
+        if (indexedMembers != null) {
+            stream = IteratorUtils.toStream(indexedMembers.iterator());
+        }
         for (QueryClause clause : clauseList) {
             stream = clause.process(stream);
         }
     }
 
+    /**
+     * Looks up the members of the input table that can satisfy a where clause right after the input clause, if the
+     * where clause compares a field that is the key of the table or has an index. The where clause is still applied
+     * to the members found. Lazily consumed pipelines always iterate the table, since the table may change before
+     * the members are consumed.
+     *
+     * @return the members to process instead of all the members of the table, or null if the table has to be scanned
+     */
+    private List<?> getIndexedMembers() {
+        if (isLazyLoading || clauseList.size() < 2 || !(collection instanceof TableValueImpl<?, ?> table)
+                || !(clauseList.get(1) instanceof Where where) || where.getIndexedField() == null) {
+            return null;
+        }
+        return table.getIndexedMembers(where.getIndexedField(), where.getIndexedValue());
+    }
+
     /**
      * Initializes a stream of records from the provided Ballerina collection.
      *
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.utils;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.EqualityKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash table of the build side frames of an equi-join, bucketed by the join key value.
+ * <p>
+ * Keys are hashed directly from the Ballerina value and compared with the semantics of the {@code ==} operator, so
+ * no string is created per frame and distinct values with the same string form (e.g. {@code 1} and {@code "1"}) do
+ * not match each other.
+ *
+ * @since 2201.14.0
+ */
+public class JoinHashTable {
+
+    private final Map<EqualityKey, List<BMap<BString, Object>>> buckets = new HashMap<>();
+
+    /**
+     * Adds a build side frame under the given join key.
+     *
+     * @param key   join key of the frame
+     * @param frame build side frame
+     */
+    public void add(Object key, BMap<BString, Object> frame) {
+        buckets.computeIfAbsent(new EqualityKey(key), k -> new ArrayList<>(1)).add(frame);
+    }
+
+    /**
+     * Returns the build side frames whose join key is equal to the given key.
+     *
+     * @param key probe side join key
+     * @return matching frames in insertion order
+     */
+    public List<BMap<BString, Object>> get(Object key) {
+        return buckets.getOrDefault(new EqualityKey(key), Collections.emptyList());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Caches the {@link Pattern}s compiled for Ballerina regular expressions.
+ * <p>
+ * The compiled pattern is first memoized in the {@link RegExpValue} itself, once for each set of match flags, so a
+ * module level regular expression is translated and compiled only once for each set of flags. Regular expression
+ * values created at runtime (e.g. via {@code regexp:fromString}) fall back to a bounded cache keyed by the regular
+ * expression string.
+ * <p>
+ * Hits and misses are counted once metrics are enabled, and published through
+ * {@link #registerMetrics(MetricRegistry)}.
+ *
+ * @since 2201.14.0
+ */
+public final class RegExpPatternCache {
+
+    public static final String HITS_METRIC_NAME = "regexp_pattern_cache_hits_total";
+    public static final String MISSES_METRIC_NAME = "regexp_pattern_cache_misses_total";
+    public static final String SIZE_METRIC_NAME = "regexp_pattern_cache_size";
+
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private static final Cache<PatternKey, Pattern> PATTERN_CACHE =
+            Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    private static volatile boolean recordStatistics = false;
+
+    private RegExpPatternCache() {
+    }
+
+    /**
+     * Returns the Java pattern for the given Ballerina regular expression, compiling it only if it is not cached.
+     *
+     * @param regExpValue Ballerina regular expression
+     * @param flags       Java pattern match flags
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated expression is not a valid Java pattern
+     */
+    public static Pattern getPattern(RegExpValue regExpValue, int flags) {
+        Pattern pattern = regExpValue.getCompiledPattern(flags);
+        if (pattern != null) {
+            if (recordStatistics) {
+                HIT_COUNT.increment();
+            }
+            return pattern;
+        }
+        PatternKey key = new PatternKey(regExpValue.stringValue(null), flags);
+        pattern = PATTERN_CACHE.getIfPresent(key);
+        if (pattern == null) {
+            if (recordStatistics) {
+                MISS_COUNT.increment();
+            }
+            pattern = PATTERN_CACHE.get(key, k -> compile(regExpValue, flags));
+        } else if (recordStatistics) {
+            HIT_COUNT.increment();
+        }
+        regExpValue.addCompiledPattern(pattern);
+        return pattern;
+    }
+
+    private static Pattern compile(RegExpValue regExpValue, int flags) {
+        // Map the required ballerina regexp constructs to java.
+        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs(regExpValue);
+        return Pattern.compile(StringUtils.getStringValue(translatedRegExpVal), flags);
+    }
+
+    /**
+     * Starts counting the hits and misses of the pattern cache, and publishes the counts and the number of cached
+     * patterns as polled gauges in the given registry.
+     *
+     * @param registry metric registry
+     */
+    public static void registerMetrics(MetricRegistry registry) {
+        recordStatistics = true;
+        PolledGauge.builder(HITS_METRIC_NAME, HIT_COUNT, LongAdder::sum)
+                .description("Number of regular expression patterns found in the pattern cache").register(registry);
+        PolledGauge.builder(MISSES_METRIC_NAME, MISS_COUNT, LongAdder::sum)
+                .description("Number of regular expression patterns compiled").register(registry);
+        PolledGauge.builder(SIZE_METRIC_NAME, PATTERN_CACHE, Cache::estimatedSize)
+                .description("Number of regular expression patterns in the pattern cache").register(registry);
+    }
+
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+
+    public static long getCachedPatternCount() {
+        return PATTERN_CACHE.estimatedSize();
+    }
+
+    private record PatternKey(String regExp, int flags) {
+
+    }
+}
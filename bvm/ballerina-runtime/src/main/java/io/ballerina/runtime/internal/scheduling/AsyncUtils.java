@@ -65,7 +65,8 @@ public final class AsyncUtils {
     }
 
     public static Object handleWait(Strand strand, CompletableFuture<Object> completableFuture) {
-        if (strand.isIsolated) {
+        // The strand does not have to yield if there is nothing to wait for
+        if (strand.isIsolated || completableFuture.isDone()) {
             return getFutureResult(completableFuture);
         }
         return handleNonIsolatedStrand(strand, () -> getFutureResult(completableFuture));
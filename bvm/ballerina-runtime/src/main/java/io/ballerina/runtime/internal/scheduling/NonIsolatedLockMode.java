@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Locale;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_NON_ISOLATED_LOCK_MODE;
+
+/**
+ * Determines how the scheduler serializes the execution of non-isolated strands.
+ * <p>
+ * In {@link #GLOBAL} mode every non-isolated strand runs under the single scheduler wide lock. In {@link #MODULE}
+ * mode non-isolated strands are partitioned by the non-isolated module state reachable from the module through which
+ * they entered Ballerina code. Strands entering through modules, which can reach the state of a common module, share
+ * one lock, and the strands reaching the state of the root module use the global lock. Every strand started from
+ * another strand stays in the partition of its parent. So only the non-isolated work which cannot touch the same
+ * state runs in parallel.
+ *
+ * @since 2201.14.0
+ */
+public enum NonIsolatedLockMode {
+
+    GLOBAL,
+    MODULE;
+
+    /**
+     * Returns the lock mode configured through the {@code ballerina.scheduler.nonIsolatedLockMode} system property.
+     *
+     * @return configured lock mode, {@link #GLOBAL} if not configured or unknown
+     */
+    public static NonIsolatedLockMode fromSystemProperty() {
+        return fromString(System.getProperty(SYSTEM_PROP_NON_ISOLATED_LOCK_MODE));
+    }
+
+    public static NonIsolatedLockMode fromString(String value) {
+        if (value == null) {
+            return GLOBAL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return GLOBAL;
+        }
+    }
+}
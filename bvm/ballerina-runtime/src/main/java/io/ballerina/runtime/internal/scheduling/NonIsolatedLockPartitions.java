@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Partitions the modules of a program by the non-isolated state reachable from them, so that the strands entering
+ * Ballerina code through different modules share a lock whenever they can reach the same state.
+ * <p>
+ * Each module is registered along with the modules it imports and whether it has non-isolated state, i.e. mutable
+ * module level variables which are not isolated or non-isolated external functions. The state reachable from a
+ * module is the state of the modules in its transitive closure of imports. The modules reaching the state of a common
+ * module are merged into one partition, and the partition reaching the state of the root module, which imports every
+ * other module, uses the global lock. A module which is not registered always uses the global lock.
+ * <p>
+ * The lock of each module is computed once the modules are registered, and is then looked up without locking, as
+ * the lock is looked up whenever a strand is started.
+ *
+ * @since 2201.14.0
+ */
+final class NonIsolatedLockPartitions {
+
+    private final Map<Module, Module[]> moduleImports = new LinkedHashMap<>();
+    private final Set<Module> statefulModules = new HashSet<>();
+    // Immutable map of the lock of each registered module, which is null until the partitions are computed
+    private volatile Map<Module, ReentrantLock> moduleLocks;
+
+    synchronized void addModule(Module module, Module[] imports, boolean hasNonIsolatedState) {
+        moduleImports.put(module, imports);
+        if (hasNonIsolatedState) {
+            statefulModules.add(module);
+        }
+        // The partitions are computed again, as the module may merge existing partitions
+        moduleLocks = null;
+    }
+
+    ReentrantLock getLock(Module module, Module rootModule, ReentrantLock globalLock) {
+        Map<Module, ReentrantLock> locks = moduleLocks;
+        if (locks == null) {
+            locks = computeLocks(rootModule, globalLock);
+        }
+        return locks.getOrDefault(module, globalLock);
+    }
+
+    /**
+     * Computes the lock of each registered module, unless they are already computed. This is called once all the
+     * modules are registered, so that looking up the locks does not compute them while strands are started.
+     *
+     * @param rootModule root module of the program, if known
+     * @param globalLock lock used by the partition of the root module
+     * @return the lock of each registered module
+     */
+    synchronized Map<Module, ReentrantLock> computeLocks(Module rootModule, ReentrantLock globalLock) {
+        Map<Module, ReentrantLock> locks = moduleLocks;
+        if (locks == null) {
+            locks = Map.copyOf(partition(rootModule, globalLock));
+            moduleLocks = locks;
+        }
+        return locks;
+    }
+
+    private Map<Module, ReentrantLock> partition(Module rootModule, ReentrantLock globalLock) {
+        Map<Module, Set<Module>> reachableStates = new HashMap<>();
+        Map<Module, Module> partitions = new HashMap<>();
+        for (Module module : moduleImports.keySet()) {
+            Set<Module> reachableState = getReachableState(module);
+            reachableStates.put(module, reachableState);
+            Module first = null;
+            for (Module statefulModule : reachableState) {
+                if (first == null) {
+                    first = statefulModule;
+                    partitions.putIfAbsent(first, first);
+                } else {
+                    union(partitions, first, statefulModule);
+                }
+            }
+        }
+
+        Set<Module> rootReachableState = rootModule == null ? null : reachableStates.get(rootModule);
+        Module rootPartition = rootReachableState == null || rootReachableState.isEmpty() ? null :
+                find(partitions, rootReachableState.iterator().next());
+        Map<Module, ReentrantLock> partitionLocks = new HashMap<>();
+        Map<Module, ReentrantLock> locks = new HashMap<>();
+        for (Map.Entry<Module, Set<Module>> entry : reachableStates.entrySet()) {
+            Module module = entry.getKey();
+            if (module.equals(rootModule)) {
+                locks.put(module, globalLock);
+                continue;
+            }
+            Set<Module> reachableState = entry.getValue();
+            if (reachableState.isEmpty()) {
+                // No shared state is reachable, so the strands of the module are only serialized among themselves
+                locks.put(module, new ReentrantLock());
+                continue;
+            }
+            Module partition = find(partitions, reachableState.iterator().next());
+            locks.put(module, partition.equals(rootPartition) ? globalLock :
+                    partitionLocks.computeIfAbsent(partition, k -> new ReentrantLock()));
+        }
+        return locks;
+    }
+
+    private Set<Module> getReachableState(Module module) {
+        Set<Module> visited = new HashSet<>();
+        Set<Module> reachableState = new LinkedHashSet<>();
+        Deque<Module> pending = new ArrayDeque<>();
+        pending.push(module);
+        while (!pending.isEmpty()) {
+            Module current = pending.pop();
+            if (!visited.add(current)) {
+                continue;
+            }
+            if (statefulModules.contains(current)) {
+                reachableState.add(current);
+            }
+            Module[] imports = moduleImports.get(current);
+            if (imports == null) {
+                // The state of a module, which is not registered, is unknown
+                reachableState.add(current);
+                continue;
+            }
+            for (Module importedModule : imports) {
+                pending.push(importedModule);
+            }
+        }
+        return reachableState;
+    }
+
+    private static Module find(Map<Module, Module> partitions, Module module) {
+        Module parent = partitions.get(module);
+        if (parent == null) {
+            partitions.put(module, module);
+            return module;
+        }
+        if (parent.equals(module)) {
+            return module;
+        }
+        Module root = find(partitions, parent);
+        partitions.put(module, root);
+        return root;
+    }
+
+    private static void union(Map<Module, Module> partitions, Module first, Module second) {
+        Module firstRoot = find(partitions, first);
+        Module secondRoot = find(partitions, second);
+        if (!firstRoot.equals(secondRoot)) {
+            partitions.put(secondRoot, firstRoot);
+        }
+    }
+}
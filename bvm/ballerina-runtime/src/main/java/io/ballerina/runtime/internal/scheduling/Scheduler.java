@@ -19,29 +19,24 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
-import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.RemoteMethodType;
-import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
-import io.ballerina.runtime.internal.types.BServiceType;
+import io.ballerina.runtime.internal.types.MethodDispatchTable;
+import io.ballerina.runtime.internal.types.MethodDispatchTable.DispatchMethod;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -59,15 +54,24 @@ public class Scheduler {
 
     public  final BalRuntime runtime;
 
+    private final NonIsolatedLockMode nonIsolatedLockMode;
+
+    private final NonIsolatedLockPartitions nonIsolatedLockPartitions = new NonIsolatedLockPartitions();
+
     public Scheduler(BalRuntime runtime) {
+        this(runtime, NonIsolatedLockMode.fromSystemProperty());
+    }
+
+    public Scheduler(BalRuntime runtime, NonIsolatedLockMode nonIsolatedLockMode) {
         this.runtime = runtime;
+        this.nonIsolatedLockMode = nonIsolatedLockMode;
     }
 
     public static Strand getStrand() {
         return strandHolder.get().strand;
     }
     public Object callFunction(Module module, String functionName, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(functionName, metadata);
+        Strand strand = getStrand(functionName, metadata, module);
         if (strand.isRunnable()) {
             return callFunction(module, functionName, args, strand);
         }
@@ -80,7 +84,7 @@ public class Scheduler {
     }
 
     public Object callMethod(BObject object, String methodName, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(getStrandName(object, methodName), metadata);
+        Strand strand = getStrand(getStrandName(object, methodName), metadata, object.getOriginalType().getPackage());
         if (strand.isRunnable()) {
             return callMethod(object, methodName, args, strand);
         }
@@ -93,7 +97,7 @@ public class Scheduler {
     }
 
     public Object callFP(FPValue fp, StrandMetadata metadata, Object... args) {
-        Strand strand = getStrand(getStrandName(fp.getName()), metadata);
+        Strand strand = getStrand(getStrandName(fp.getName()), metadata, fp.getType().getPackage());
         if (strand.isRunnable()) {
             return callFp(fp, args, strand);
         }
@@ -149,7 +153,7 @@ public class Scheduler {
         return future;
     }
 
-    private Strand getStrand(String strandName, StrandMetadata metadata) {
+    private Strand getStrand(String strandName, StrandMetadata metadata, Module module) {
         Strand strand = Scheduler.getStrand();
         Map<String, Object> properties = null;
         boolean isIsolated = false;
@@ -158,7 +162,8 @@ public class Scheduler {
             isIsolated = metadata.isConcurrentSafe();
         }
         if (strand == null) {
-            strand = createStrand(null, strandName, isIsolated, properties, null);
+            strand = new Strand(this, strandName, null, isIsolated, properties, null, null,
+                    getNonIsolatedLock(null, module));
             strandHolder.get().strand = strand;
         }
         return strand;
@@ -173,8 +178,9 @@ public class Scheduler {
 
     private Object callMethod(BObject object, String methodName, Object[] args, Strand parentStrand) {
         ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
-        MethodType methodType = getObjectMethodType(methodName, objectType);
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(objectType, methodType, parentStrand, args);
+        MethodDispatchTable dispatchTable = MethodDispatchTable.of(objectType);
+        DispatchMethod method = dispatchTable.getMethod(methodName);
+        Object[] argsWithDefaultValues = getArgsWithDefaultValues(dispatchTable, method, parentStrand, args);
         return ((ObjectValue) object).call(parentStrand, methodName, argsWithDefaultValues);
     }
 
@@ -236,12 +242,22 @@ public class Scheduler {
 
     }
 
-    private Object[] getArgsWithDefaultValues(ObjectType objectType, MethodType methodType, Strand strand,
-                                              Object... args) {
-
-        Module module = objectType.getPackage();
-        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
-        return getArgsWithDefaultValues(valueCreator, methodType, strand, args);
+    private Object[] getArgsWithDefaultValues(MethodDispatchTable dispatchTable, DispatchMethod method,
+                                              Strand strand, Object[] args) {
+        ValueCreator valueCreator = dispatchTable.getValueCreator();
+        if (args.length == 0 && method.getParameterCount() == 0) {
+            return new Object[]{};
+        }
+        Object[] argsWithDefaultValues = new Object[Math.max(method.getArgCount(), args.length)];
+        System.arraycopy(args, 0, argsWithDefaultValues, 0, args.length);
+        for (int i = 0; i < method.getDefaultParameterCount(); i++) {
+            int index = method.getDefaultParameterIndex(i);
+            if (args.length <= index || args[index] == BNever.getValue()) {
+                argsWithDefaultValues[index] = valueCreator.call(strand, method.getDefaultFunctionName(i),
+                        argsWithDefaultValues);
+            }
+        }
+        return argsWithDefaultValues;
     }
 
     private Object[] getArgsWithDefaultValues(ValueCreator valueCreator, FunctionType functionType, Strand strand,
@@ -267,27 +283,7 @@ public class Scheduler {
     }
 
     public MethodType getObjectMethodType(String methodName, ObjectType objectType) {
-        Map<String, MethodType> methodTypesMap = new HashMap<>();
-        if (objectType.getTag() == TypeTags.SERVICE_TAG) {
-            BServiceType serviceType = (BServiceType) objectType;
-            ResourceMethodType[] resourceMethods = serviceType.getResourceMethods();
-            for (ResourceMethodType resourceMethodType : resourceMethods) {
-                methodTypesMap.put(resourceMethodType.getName(), resourceMethodType);
-            }
-            RemoteMethodType[] remoteMethodTypes = serviceType.getRemoteMethods();
-            for (RemoteMethodType remoteMethodType : remoteMethodTypes) {
-                methodTypesMap.put(remoteMethodType.getName(), remoteMethodType);
-            }
-        }
-        MethodType[] objectTypeMethods = objectType.getMethods();
-        for (MethodType methodType : objectTypeMethods) {
-            methodTypesMap.put(methodType.getName(), methodType);
-        }
-        MethodType methodType = methodTypesMap.get(methodName);
-        if (methodType != null) {
-            return methodType;
-        }
-        throw ErrorCreator.createError(StringUtils.fromString("No such method: " + methodName));
+        return MethodDispatchTable.of(objectType).getMethod(methodName).getMethodType();
     }
 
     public FutureValue createFutureWithMetadata(Strand parentStrand, String strandName, boolean isIsolated,
@@ -311,6 +307,47 @@ public class Scheduler {
                 parentStrand != null ? parentStrand.currentTrxContext : null);
     }
 
+    /**
+     * Returns the lock that serializes a new non-isolated strand with the other strands of its partition. A strand
+     * started from another strand always stays in the partition of its parent, so a strand and all the strands
+     * it starts are serialized exactly as in the global lock mode.
+     *
+     * @param parentStrand parent strand, if any
+     * @param module       module through which the strand enters Ballerina code, if known
+     * @return lock to be acquired by the strand when it runs non-isolated code
+     */
+    public ReentrantLock getNonIsolatedLock(Strand parentStrand, Module module) {
+        if (parentStrand != null) {
+            return parentStrand.nonIsolatedLock;
+        }
+        if (nonIsolatedLockMode == NonIsolatedLockMode.GLOBAL || module == null) {
+            return globalNonIsolatedLock;
+        }
+        return nonIsolatedLockPartitions.getLock(module, runtime != null ? runtime.rootModule : null,
+                globalNonIsolatedLock);
+    }
+
+    /**
+     * Registers a module along with the modules it imports, to partition the non-isolated strands by the state they
+     * can reach. The modules are registered while they are configured, before any strand enters them.
+     *
+     * @param module              module to register
+     * @param imports             modules imported by the module
+     * @param hasNonIsolatedState whether the module has mutable state, which is not isolated
+     */
+    public void addModuleDependencies(Module module, Module[] imports, boolean hasNonIsolatedState) {
+        nonIsolatedLockPartitions.addModule(module, imports, hasNonIsolatedState);
+        Module rootModule = runtime != null ? runtime.rootModule : null;
+        if (module.equals(rootModule)) {
+            // The root module is configured after all the modules it imports, so every module is registered
+            nonIsolatedLockPartitions.computeLocks(rootModule, globalNonIsolatedLock);
+        }
+    }
+
+    public NonIsolatedLockMode getNonIsolatedLockMode() {
+        return nonIsolatedLockMode;
+    }
+
     private FutureValue createFuture(Type constraint, Strand newStrand) {
         return new FutureValue(newStrand, constraint);
     }
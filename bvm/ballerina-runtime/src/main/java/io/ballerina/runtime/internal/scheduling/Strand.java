@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY;
 
@@ -49,8 +50,19 @@ public class Strand {
     public WorkerChannelMap workerChannelMap;
     public int acquiredLockCount;
 
+    /**
+     * Lock that serializes this strand with the other non-isolated strands of the same partition.
+     */
+    final ReentrantLock nonIsolatedLock;
+
     public Strand(Scheduler scheduler, String strandName, Strand parent, boolean isIsolated,
                   Map<String, Object> properties, WorkerChannelMap workerChannelMap) {
+        this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap,
+                scheduler.getNonIsolatedLock(parent, null));
+    }
+
+    Strand(Scheduler scheduler, String strandName, Strand parent, boolean isIsolated,
+           Map<String, Object> properties, WorkerChannelMap workerChannelMap, ReentrantLock nonIsolatedLock) {
         this.id = nextStrandId.incrementAndGet();
         this.name = Objects.requireNonNullElse(strandName, "$anon");
         this.scheduler = scheduler;
@@ -64,12 +76,20 @@ public class Strand {
             this.globalProps = new HashMap<>();
         }
         this.workerChannelMap = workerChannelMap;
+        this.nonIsolatedLock = nonIsolatedLock;
     }
 
     public Strand(Scheduler scheduler, String strandName, Strand parent, boolean isIsolated,
                   Map<String, Object> properties, WorkerChannelMap workerChannelMap,
                   TransactionLocalContext currentTrxContext) {
-        this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap);
+        this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap, currentTrxContext,
+                scheduler.getNonIsolatedLock(parent, null));
+    }
+
+    Strand(Scheduler scheduler, String strandName, Strand parent, boolean isIsolated,
+           Map<String, Object> properties, WorkerChannelMap workerChannelMap,
+           TransactionLocalContext currentTrxContext, ReentrantLock nonIsolatedLock) {
+        this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap, nonIsolatedLock);
         if (currentTrxContext != null) {
             this.trxContexts = parent.trxContexts;
             this.trxContexts.push(currentTrxContext);
@@ -86,26 +106,26 @@ public class Strand {
 
     public void resume() {
         checkStrandCancelled();
-        if (!this.isIsolated && !scheduler.globalNonIsolatedLock.isHeldByCurrentThread()) {
-            this.scheduler.globalNonIsolatedLock.lock();
+        if (!this.isIsolated && !this.nonIsolatedLock.isHeldByCurrentThread()) {
+            this.nonIsolatedLock.lock();
         }
     }
 
     public void yield() {
         checkStrandCancelled();
-        if (!this.isIsolated && scheduler.globalNonIsolatedLock.isHeldByCurrentThread()) {
-            this.scheduler.globalNonIsolatedLock.unlock();
+        if (!this.isIsolated && this.nonIsolatedLock.isHeldByCurrentThread()) {
+            this.nonIsolatedLock.unlock();
         }
     }
 
     public void done() {
-        if (!this.isIsolated && scheduler.globalNonIsolatedLock.isHeldByCurrentThread()) {
-            this.scheduler.globalNonIsolatedLock.unlock();
+        if (!this.isIsolated && this.nonIsolatedLock.isHeldByCurrentThread()) {
+            this.nonIsolatedLock.unlock();
         }
     }
 
     public boolean isRunnable() {
-        return this.isIsolated || this.scheduler.globalNonIsolatedLock.isHeldByCurrentThread();
+        return this.isIsolated || this.nonIsolatedLock.isHeldByCurrentThread();
     }
 
 
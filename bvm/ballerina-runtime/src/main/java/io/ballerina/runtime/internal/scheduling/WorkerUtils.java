@@ -75,7 +75,7 @@ import java.util.concurrent.CompletableFuture;
              futures[i] = channel.getReceiveFuture();
              channels[i] = channel;
          }
-         if (strand.isIsolated) {
+         if (strand.isIsolated || isDone(futures)) {
              AsyncUtils.waitForAllFutureResult(futures);
          } else {
              AsyncUtils.handleNonIsolatedStrand(strand, () -> {
@@ -95,7 +95,8 @@ import java.util.concurrent.CompletableFuture;
 
      public static Object receive(Strand strand, WorkerChannelMap workerChannelMap, String channelKey) {
          WorkerChannel channel = workerChannelMap.get(channelKey);
-         if (strand.isIsolated) {
+         // The strand does not have to yield if the message has been sent already
+         if (strand.isIsolated || channel.isWritten()) {
              return channel.read();
          }
          return AsyncUtils.handleNonIsolatedStrand(strand, channel::read);
@@ -134,14 +135,14 @@ import java.util.concurrent.CompletableFuture;
          for (int i = 0; i < channels.length; i++) {
              futures[i] = channels[i].getResultFuture();
          }
-         if (strand.isIsolated) {
+         if (strand.isIsolated || isDone(futures)) {
              AsyncUtils.waitForAllFutureResult(futures);
-             return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
+             return getMultipleReceiveResult(channelFieldNameMap, targetType, channels);
          }
          return (BMap<BString, Object>) AsyncUtils.handleNonIsolatedStrand(strand,
                  () -> {
                      AsyncUtils.waitForAllFutureResult(futures);
-                     return getMultipleReceiveResult(workerChannelMap, channelFieldNameMap, targetType, channels);
+                     return getMultipleReceiveResult(channelFieldNameMap, targetType, channels);
                  });
      }
 
@@ -213,13 +214,13 @@ import java.util.concurrent.CompletableFuture;
          return result;
      }
 
-     private static BMap<BString, Object> getMultipleReceiveResult(WorkerChannelMap workerChannelMap,
-                                                                   Map<String, String> channelFieldNameMap,
+     private static BMap<BString, Object> getMultipleReceiveResult(Map<String, String> channelFieldNameMap,
                                                                    Type targetType, WorkerChannel[] channels) {
          int count = 0;
          BMapInitialValueEntry[] initialValueEntries = new BMapInitialValueEntry[channels.length];
+         // The channels are in the iteration order of the field names
          for (Map.Entry<String, String> entry : channelFieldNameMap.entrySet()) {
-             WorkerChannel channel = workerChannelMap.get(entry.getValue());
+             WorkerChannel channel = channels[count];
              initialValueEntries[count++] = ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey()),
                      channel.read());
          }
@@ -229,6 +230,15 @@ import java.util.concurrent.CompletableFuture;
          return ValueCreator.createMapValue((MapType) targetType, initialValueEntries);
      }
 
+     private static boolean isDone(CompletableFuture<?>[] futures) {
+         for (CompletableFuture<?> future : futures) {
+             if (!future.isDone()) {
+                 return false;
+             }
+         }
+         return true;
+     }
+
     private WorkerUtils() {}
 }
 
@@ -91,6 +91,7 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
     private final DefinitionContainer<ObjectDefinition> defn = new DefinitionContainer<>();
     private final DefinitionContainer<ObjectDefinition> acceptedTypeDefn = new DefinitionContainer<>();
     private volatile DistinctIdSupplier distinctIdSupplier;
+    private volatile MethodDispatchTable dispatchTable;
 
     /**
      * Create a {@code BObjectType} which represents the user defined struct type.
@@ -177,6 +178,20 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
     @Override
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        this.dispatchTable = null;
+    }
+
+    MethodDispatchTable getDispatchTable() {
+        MethodDispatchTable table = dispatchTable;
+        if (table == null) {
+            table = MethodDispatchTable.create(this);
+            dispatchTable = table;
+        }
+        return table;
+    }
+
+    void resetDispatchTable() {
+        dispatchTable = null;
     }
 
     public void setInitMethod(MethodType initMethod) {
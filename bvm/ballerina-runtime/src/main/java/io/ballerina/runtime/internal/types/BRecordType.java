@@ -80,6 +80,8 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
     private final DefinitionContainer<MappingDefinition> acceptedTypeDefn = new DefinitionContainer<>();
     private byte couldInhereTypeBeDifferentCache = 0;
     private Map<String, BFunctionPointer> defaultValues = new LinkedHashMap<>();
+    // UTF-8 encoded JSON field names, which are computed when a value of this type is first serialized to bytes
+    private volatile Map<String, byte[]> encodedJsonFieldNames;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -254,6 +256,14 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         return defaultValues;
     }
 
+    public Map<String, byte[]> getEncodedJsonFieldNames() {
+        return encodedJsonFieldNames;
+    }
+
+    public void setEncodedJsonFieldNames(Map<String, byte[]> encodedJsonFieldNames) {
+        this.encodedJsonFieldNames = encodedJsonFieldNames;
+    }
+
     @Override
     public SemType createSemType(Context cx) {
         Env env = cx.env;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable lookup table of the methods of an object type, used to dispatch method calls made from Java code.
+ * <p>
+ * The table is built once per object type and holds, for each method, the parameters that have default values
+ * along with the names of the functions computing them. The {@link ValueCreator} of the module of the object type
+ * is resolved on first use and reused afterwards.
+ *
+ * @since 2201.14.0
+ */
+public final class MethodDispatchTable {
+
+    private final ObjectType objectType;
+    private final Map<String, DispatchMethod> methods;
+    private volatile ValueCreator valueCreator;
+
+    private MethodDispatchTable(ObjectType objectType) {
+        this.objectType = objectType;
+        Map<String, DispatchMethod> methodMap = new HashMap<>();
+        if (objectType.getTag() == TypeTags.SERVICE_TAG) {
+            BServiceType serviceType = (BServiceType) objectType;
+            for (ResourceMethodType resourceMethodType : serviceType.getResourceMethods()) {
+                methodMap.put(resourceMethodType.getName(), new DispatchMethod(resourceMethodType));
+            }
+            for (RemoteMethodType remoteMethodType : serviceType.getRemoteMethods()) {
+                methodMap.put(remoteMethodType.getName(), new DispatchMethod(remoteMethodType));
+            }
+        }
+        for (MethodType methodType : objectType.getMethods()) {
+            methodMap.put(methodType.getName(), new DispatchMethod(methodType));
+        }
+        this.methods = Map.copyOf(methodMap);
+    }
+
+    /**
+     * Returns the dispatch table of the given object type, building it only if the type does not have one yet.
+     *
+     * @param objectType object type
+     * @return dispatch table of the object type
+     */
+    public static MethodDispatchTable of(ObjectType objectType) {
+        if (objectType instanceof BObjectType bObjectType) {
+            return bObjectType.getDispatchTable();
+        }
+        return create(objectType);
+    }
+
+    static MethodDispatchTable create(ObjectType objectType) {
+        return new MethodDispatchTable(objectType);
+    }
+
+    /**
+     * Returns the method with the given name.
+     *
+     * @param methodName name of the method
+     * @return the method
+     * @throws io.ballerina.runtime.api.values.BError if the object type does not have such a method
+     */
+    public DispatchMethod getMethod(String methodName) {
+        DispatchMethod method = methods.get(methodName);
+        if (method != null) {
+            return method;
+        }
+        throw ErrorCreator.createError(StringUtils.fromString("No such method: " + methodName));
+    }
+
+    public ValueCreator getValueCreator() {
+        ValueCreator creator = valueCreator;
+        if (creator == null) {
+            creator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(objectType.getPackage()));
+            valueCreator = creator;
+        }
+        return creator;
+    }
+
+    /**
+     * Method of an object type along with the details needed to fill in its default arguments.
+     */
+    public static final class DispatchMethod {
+
+        private final MethodType methodType;
+        private final int parameterCount;
+        private final int argCount;
+        private final int[] defaultParameterIndexes;
+        private final String[] defaultFunctionNames;
+
+        private DispatchMethod(MethodType methodType) {
+            this.methodType = methodType;
+            Parameter[] parameters = methodType.getParameters();
+            this.parameterCount = parameters.length;
+            this.argCount = methodType.getRestType() == null ? parameters.length : parameters.length + 1;
+            int defaultCount = 0;
+            for (Parameter parameter : parameters) {
+                if (parameter.isDefault) {
+                    defaultCount++;
+                }
+            }
+            this.defaultParameterIndexes = new int[defaultCount];
+            this.defaultFunctionNames = new String[defaultCount];
+            for (int i = 0, j = 0; i < parameters.length; i++) {
+                if (parameters[i].isDefault) {
+                    defaultParameterIndexes[j] = i;
+                    defaultFunctionNames[j++] = parameters[i].defaultFunctionName;
+                }
+            }
+        }
+
+        public MethodType getMethodType() {
+            return methodType;
+        }
+
+        public int getParameterCount() {
+            return parameterCount;
+        }
+
+        /**
+         * Returns the number of arguments of the method, counting the rest arguments as one.
+         *
+         * @return number of arguments
+         */
+        public int getArgCount() {
+            return argCount;
+        }
+
+        public int getDefaultParameterCount() {
+            return defaultParameterIndexes.length;
+        }
+
+        public int getDefaultParameterIndex(int i) {
+            return defaultParameterIndexes[i];
+        }
+
+        public String getDefaultFunctionName(int i) {
+            return defaultFunctionNames[i];
+        }
+    }
+}
@@ -24,8 +24,8 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Interner;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory class to create caches.
@@ -58,7 +58,7 @@ public class CacheFactory {
     }
 
     public static <K, V> Map<K, V> createCachingHashMap() {
-        return new HashMap<>(INITIAL_CAPACITY);
+        return new ConcurrentHashMap<>(INITIAL_CAPACITY);
     }
 
     public static <E> Interner<E> createInterner() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} over the blocks of a Ballerina {@code stream<byte[], error?>}, which reads the next block
+ * from the iterator of the stream only when the current block has been read. If the stream returns an error, the
+ * error is thrown and can be identified with {@link #isStreamError(BError)}.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ *
+ * @since 2201.14.0
+ */
+public final class ByteStreamInputStream extends InputStream {
+
+    private static final BString VALUE = StringUtils.fromString("value");
+
+    private final Runtime runtime;
+    private final BObject iteratorObj;
+    private byte[] block = new byte[0];
+    private int index;
+    private boolean ended;
+    private BError error;
+
+    /**
+     * Creates an input stream over the blocks returned by the given stream iterator.
+     *
+     * @param runtime     runtime to call the {@code next} method of the iterator with
+     * @param iteratorObj iterator object of the byte block stream
+     */
+    public ByteStreamInputStream(Runtime runtime, BObject iteratorObj) {
+        this.runtime = runtime;
+        this.iteratorObj = iteratorObj;
+    }
+
+    @Override
+    public int read() {
+        if (!readBlock()) {
+            return -1;
+        }
+        return this.block[this.index++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!readBlock()) {
+            return -1;
+        }
+        int count = Math.min(len, this.block.length - this.index);
+        System.arraycopy(this.block, this.index, b, off, count);
+        this.index += count;
+        return count;
+    }
+
+    /**
+     * Checks whether the given error is the error returned by the byte block stream.
+     *
+     * @param error error thrown while reading
+     * @return {@code true} if the error was returned by the stream
+     */
+    public boolean isStreamError(BError error) {
+        return error == this.error;
+    }
+
+    private boolean readBlock() {
+        while (this.index == this.block.length) {
+            if (this.ended) {
+                return false;
+            }
+            Object result = this.runtime.callMethod(this.iteratorObj, "next", null);
+            if (result instanceof BError e) {
+                this.ended = true;
+                this.error = e;
+                throw e;
+            }
+            if (result == null) {
+                this.ended = true;
+                return false;
+            }
+            this.block = ((BArray) ((BMap<?, ?>) result).get(VALUE)).getBytes();
+            this.index = 0;
+        }
+        return true;
+    }
+}
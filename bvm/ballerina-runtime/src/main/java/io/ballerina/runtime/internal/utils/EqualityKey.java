@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+/**
+ * Wrapper of a Ballerina value used as a hash map key, with a hash code consistent with deep equality.
+ * <p>
+ * Keys are hashed directly from the value and compared with the semantics of the {@code ==} operator, so distinct
+ * values with the same string form (e.g. {@code 1} and {@code "1"}) are different keys.
+ *
+ * @since 2201.14.0
+ */
+public final class EqualityKey {
+
+    private final Object value;
+    private final int hash;
+
+    public EqualityKey(Object value) {
+        this.value = value;
+        this.hash = Long.hashCode(TableUtils.hash(value, null));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EqualityKey other) || hash != other.hash) {
+            return false;
+        }
+        Object otherValue = other.value;
+        if (value instanceof Long lhs && otherValue instanceof Long rhs) {
+            return lhs.longValue() == rhs.longValue();
+        }
+        if (value instanceof BString lhs && otherValue instanceof BString rhs) {
+            return lhs.equals(rhs);
+        }
+        return TypeChecker.isEqual(value, otherValue);
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Sort kernels of {@code lang.array:sort}. Arrays of {@code int}, {@code float}, {@code byte}, {@code boolean} and
+ * {@code string} values are sorted in their backing arrays, and other values are sorted by keys which are computed
+ * once per member. All the sorts are stable, and order the values as
+ * {@link ValueComparisonUtils#compareValues(Object, Object, String)} does for the direction.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ *
+ * @since 2201.14.0
+ */
+public final class SortUtils {
+
+    // Arrays of at least this length are sorted in parallel, as the fork-join overhead outweighs the gain below it
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    // Ranges of at most this length are sorted with insertion sort while merge sorting
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final long NAN_KEY = Long.MAX_VALUE;
+    private static final Comparator<BString> CODE_POINT_ORDER = SortUtils::compareCodePoints;
+
+    private SortUtils() {
+    }
+
+    /**
+     * Sorts the given int values in place.
+     *
+     * @param values    values to sort
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sortInts(long[] values, boolean ascending) {
+        // Equal int values cannot be distinguished, so the sort need not be stable
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        if (!ascending) {
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                long value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+    /**
+     * Sorts the given float values in place. NaN is placed last in both orders, and {@code -0.0} and {@code +0.0}
+     * keep their relative order.
+     *
+     * @param values    values to sort
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sortFloats(double[] values, boolean ascending) {
+        int length = values.length;
+        long[] keys = new long[length];
+        boolean hasNegativeZero = false;
+        for (int i = 0; i < length; i++) {
+            double value = values[i];
+            hasNegativeZero |= Double.doubleToRawLongBits(value) == Long.MIN_VALUE;
+            keys[i] = toFloatKey(value, ascending);
+        }
+        double[] zeros = hasNegativeZero ? getZeros(values) : null;
+        sortInts(keys, true);
+
+        // Both zeros have the same key, so they are restored in their original order if they are mixed
+        long zeroKey = toFloatKey(0.0, ascending);
+        for (int i = 0, zeroIndex = 0; i < length; i++) {
+            long key = keys[i];
+            values[i] = zeros != null && key == zeroKey ? zeros[zeroIndex++] : fromFloatKey(key, ascending);
+        }
+    }
+
+    /**
+     * Sorts the given byte values in place.
+     *
+     * @param values    values to sort
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sortBytes(byte[] values, boolean ascending) {
+        int[] counts = new int[256];
+        for (byte value : values) {
+            counts[Byte.toUnsignedInt(value)]++;
+        }
+        for (int i = 0, index = 0; i < counts.length; i++) {
+            int value = ascending ? i : counts.length - 1 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+    }
+
+    /**
+     * Sorts the given boolean values in place.
+     *
+     * @param values    values to sort
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sortBooleans(boolean[] values, boolean ascending) {
+        int falseCount = 0;
+        for (boolean value : values) {
+            if (!value) {
+                falseCount++;
+            }
+        }
+        int trueCount = values.length - falseCount;
+        Arrays.fill(values, 0, ascending ? falseCount : trueCount, !ascending);
+        Arrays.fill(values, ascending ? falseCount : trueCount, values.length, ascending);
+    }
+
+    /**
+     * Sorts the given string values in place, in the order of their code points.
+     *
+     * @param values    values to sort
+     * @param ascending whether to sort in the ascending order
+     */
+    public static void sortStrings(BString[] values, boolean ascending) {
+        Comparator<BString> order = ascending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed();
+        // Both sorts of object arrays are stable
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, order);
+        } else {
+            Arrays.sort(values, order);
+        }
+    }
+
+    /**
+     * Returns the indices of the given keys in their sorted order. Keys which are all ints or all floats are sorted
+     * as primitive values, and other keys are compared with
+     * {@link ValueComparisonUtils#compareValues(Object, Object, String)}.
+     *
+     * @param keys      keys to sort
+     * @param direction {@code ascending} or {@code descending}
+     * @return indices of the keys in their sorted order
+     * @throws BError if the keys cannot be compared with each other
+     */
+    public static int[] sortIndices(Object[] keys, String direction) throws BError {
+        int length = keys.length;
+        int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        boolean ascending = direction.equals("ascending");
+        long[] primitiveKeys = toPrimitiveKeys(keys, ascending);
+        if (primitiveKeys != null) {
+            sortByKeys(primitiveKeys, indices, new long[length], new int[length], 0, length);
+            return indices;
+        }
+
+        IntBinaryOperator comparator;
+        if (isStrings(keys)) {
+            Comparator<BString> order = ascending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed();
+            comparator = (i, j) -> order.compare((BString) keys[i], (BString) keys[j]);
+        } else if (ascending) {
+            comparator = (i, j) -> ValueComparisonUtils.compareValues(keys[i], keys[j], direction);
+        } else {
+            // Compare(x, y) of the descending direction orders () last, and hence the operands are swapped
+            comparator = (i, j) -> ValueComparisonUtils.compareValues(keys[j], keys[i], direction);
+        }
+        sortIndices(indices, new int[length], 0, length, comparator);
+        return indices;
+    }
+
+    // Keys of ints and floats are mapped to long values in the sort order, or null is returned for other keys
+    private static long[] toPrimitiveKeys(Object[] keys, boolean ascending) {
+        int length = keys.length;
+        if (length == 0) {
+            return null;
+        }
+        long[] primitiveKeys = new long[length];
+        if (keys[0] instanceof Double) {
+            for (int i = 0; i < length; i++) {
+                if (!(keys[i] instanceof Double key)) {
+                    return null;
+                }
+                primitiveKeys[i] = toFloatKey(key, ascending);
+            }
+            return primitiveKeys;
+        }
+        for (int i = 0; i < length; i++) {
+            Object key = keys[i];
+            // Byte values are represented as Integer values
+            if (!(key instanceof Long || key instanceof Integer)) {
+                return null;
+            }
+            long value = ((Number) key).longValue();
+            // Bitwise complement reverses the order of all long values
+            primitiveKeys[i] = ascending ? value : ~value;
+        }
+        return primitiveKeys;
+    }
+
+    private static boolean isStrings(Object[] keys) {
+        for (Object key : keys) {
+            if (!(key instanceof BString)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Stable merge sort of the range [from, to) of the keys, which moves the indices along with the keys
+    private static void sortByKeys(long[] keys, int[] indices, long[] auxKeys, int[] auxIndices, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                long key = keys[i];
+                int index = indices[i];
+                int j = i - 1;
+                for (; j >= from && keys[j] > key; j--) {
+                    keys[j + 1] = keys[j];
+                    indices[j + 1] = indices[j];
+                }
+                keys[j + 1] = key;
+                indices[j + 1] = index;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortByKeys(keys, indices, auxKeys, auxIndices, from, mid);
+        sortByKeys(keys, indices, auxKeys, auxIndices, mid, to);
+        if (keys[mid - 1] <= keys[mid]) {
+            return;
+        }
+        System.arraycopy(keys, from, auxKeys, from, to - from);
+        System.arraycopy(indices, from, auxIndices, from, to - from);
+        for (int i = from, j = mid, k = from; k < to; k++) {
+            if (j == to || (i < mid && auxKeys[i] <= auxKeys[j])) {
+                keys[k] = auxKeys[i];
+                indices[k] = auxIndices[i++];
+            } else {
+                keys[k] = auxKeys[j];
+                indices[k] = auxIndices[j++];
+            }
+        }
+    }
+
+    // Stable merge sort of the range [from, to) of the indices, which compares the keys at the indices
+    private static void sortIndices(int[] indices, int[] aux, int from, int to, IntBinaryOperator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = indices[i];
+                int j = i - 1;
+                for (; j >= from && comparator.applyAsInt(indices[j], index) > 0; j--) {
+                    indices[j + 1] = indices[j];
+                }
+                indices[j + 1] = index;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortIndices(indices, aux, from, mid, comparator);
+        sortIndices(indices, aux, mid, to, comparator);
+        if (comparator.applyAsInt(indices[mid - 1], indices[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(indices, from, aux, from, to - from);
+        for (int i = from, j = mid, k = from; k < to; k++) {
+            if (j == to || (i < mid && comparator.applyAsInt(aux[i], aux[j]) <= 0)) {
+                indices[k] = aux[i++];
+            } else {
+                indices[k] = aux[j++];
+            }
+        }
+    }
+
+    // Maps float values to long values in the sort order of the direction, with NaN last in both directions
+    private static long toFloatKey(double value, boolean ascending) {
+        if (Double.isNaN(value)) {
+            return NAN_KEY;
+        }
+        // Adding +0.0 maps -0.0 to +0.0, as they are equal
+        long bits = Double.doubleToRawLongBits(value + 0.0);
+        // Flipping the bits other than the sign bit of negative values orders them below the positive values
+        long key = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        return ascending ? key : ~key;
+    }
+
+    private static double fromFloatKey(long key, boolean ascending) {
+        if (key == NAN_KEY) {
+            return Double.NaN;
+        }
+        long bits = ascending ? key : ~key;
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    private static double[] getZeros(double[] values) {
+        int count = 0;
+        for (double value : values) {
+            if (value == 0) {
+                count++;
+            }
+        }
+        double[] zeros = new double[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (values[i] == 0) {
+                zeros[j++] = values[i];
+            }
+        }
+        return zeros;
+    }
+
+    private static int compareCodePoints(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar != rhsChar) {
+                // UTF-16 code units are in the order of code points, except that the surrogates of the code points
+                // above U+FFFF are below the code units from U+E000 to U+FFFF
+                if (lhsChar >= Character.MIN_SURROGATE && rhsChar >= Character.MIN_SURROGATE) {
+                    return toCodePointOrder(lhsChar) - toCodePointOrder(rhsChar);
+                }
+                return lhsChar - rhsChar;
+            }
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+
+    private static int toCodePointOrder(char codeUnit) {
+        return codeUnit <= Character.MAX_SURROGATE ? codeUnit + 0x2000 : codeUnit - 0x800;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed-size cache of the {@code BString}s of short strings which are created over and over again, such as the
+ * field names of parsed JSON documents.
+ * <p>
+ * Each string maps to a single slot of the cache by its hash code, and a string replaces whichever string was in its
+ * slot before. The cache therefore never grows and needs no locking, at the cost of creating a new {@code BString}
+ * when two strings used alternately share a slot.
+ *
+ * @since 2201.14.0
+ */
+public final class StringInternCache {
+
+    // Longer strings are rarely repeated, and comparing them would cost as much as creating their BStrings
+    static final int MAX_LENGTH = 32;
+    private static final int SIZE = 1024;
+
+    private static final AtomicReferenceArray<BString> CACHE = new AtomicReferenceArray<>(SIZE);
+
+    private StringInternCache() {}
+
+    /**
+     * Returns the {@code BString} of the given string, reusing the cached one if the string was cached already.
+     *
+     * @param s string
+     * @return {@code BString} of the string
+     */
+    public static BString get(String s) {
+        if (s == null || s.length() > MAX_LENGTH) {
+            return StringUtils.fromString(s);
+        }
+        int slot = spread(s.hashCode()) & (SIZE - 1);
+        BString cached = CACHE.get(slot);
+        if (cached != null && cached.getValue().equals(s)) {
+            return cached;
+        }
+        BString bString = StringUtils.fromString(s);
+        CACHE.set(slot, bString);
+        return bString;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -26,6 +26,8 @@ import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.DecimalValueKind;
 import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RegExpValue;
@@ -105,6 +107,13 @@ public final class TableUtils {
             }
         } else if (obj instanceof Long l) {
             return l;
+        } else if (obj instanceof Double d) {
+            // -0.0 and 0.0 are equal, hence must have the same hash
+            return d == 0.0 ? 0L : (long) d.hashCode();
+        } else if (obj instanceof DecimalValue decimalValue && (decimalValue.valueKind == DecimalValueKind.ZERO ||
+                decimalValue.valueKind == DecimalValueKind.OTHER)) {
+            // decimals that differ only in their scale are equal, hence must have the same hash
+            return (long) decimalValue.decimalValue().stripTrailingZeros().hashCode();
         } else {
             return (long) obj.hashCode();
         }
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link Writer} that encodes characters as UTF-8 directly into a pooled {@link ByteBuffer}, which is written to a
+ * {@link WritableByteChannel} or an {@link OutputStream} whenever it is full and when the writer is flushed.
+ * <p>
+ * Unlike an {@link java.io.OutputStreamWriter}, characters are not buffered separately before they are encoded, and
+ * bytes that are already encoded can be written with {@link #writeEncoded(byte[])}. Channels are written to from a
+ * direct buffer, so that they do not copy the bytes to a temporary direct buffer of their own. Unpaired surrogates
+ * are written as {@code '?'}, as done by the UTF-8 encoder of the JDK.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ *
+ * @since 2201.14.0
+ */
+public final class Utf8BufferWriter extends Writer {
+
+    private static final int BUFFER_SIZE = 8192;
+    // The longest UTF-8 encoding of a character, which is of a supplementary character
+    private static final int MAX_CHAR_BYTES = 4;
+    private static final byte REPLACEMENT = '?';
+    private static final int POOL_SIZE = 16;
+    private static final AtomicReferenceArray<ByteBuffer> HEAP_BUFFERS = new AtomicReferenceArray<>(POOL_SIZE);
+    private static final AtomicReferenceArray<ByteBuffer> DIRECT_BUFFERS = new AtomicReferenceArray<>(POOL_SIZE);
+
+    private final WritableByteChannel channel;
+    private final OutputStream out;
+    private final AtomicReferenceArray<ByteBuffer> pool;
+    private ByteBuffer buffer;
+    private char highSurrogate;
+
+    /**
+     * Creates a writer that writes to the given channel. The channel is not closed when the writer is closed.
+     *
+     * @param channel channel to write the encoded bytes to
+     */
+    public Utf8BufferWriter(WritableByteChannel channel) {
+        this(channel, null, DIRECT_BUFFERS);
+    }
+
+    /**
+     * Creates a writer that writes to the given output stream, which is closed when the writer is closed.
+     *
+     * @param out output stream to write the encoded bytes to
+     */
+    public Utf8BufferWriter(OutputStream out) {
+        this(null, out, HEAP_BUFFERS);
+    }
+
+    private Utf8BufferWriter(WritableByteChannel channel, OutputStream out, AtomicReferenceArray<ByteBuffer> pool) {
+        this.channel = channel;
+        this.out = out;
+        this.pool = pool;
+        this.buffer = acquire(pool);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        writeChar((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ByteBuffer buffer = this.buffer;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            char ch = cbuf[i];
+            if (ch < 0x80 && this.highSurrogate == 0 && buffer.hasRemaining()) {
+                buffer.put((byte) ch);
+            } else {
+                writeChar(ch);
+            }
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ByteBuffer buffer = this.buffer;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            char ch = str.charAt(i);
+            if (ch < 0x80 && this.highSurrogate == 0 && buffer.hasRemaining()) {
+                buffer.put((byte) ch);
+            } else {
+                writeChar(ch);
+            }
+        }
+    }
+
+    /**
+     * Writes bytes that are already encoded as UTF-8.
+     *
+     * @param bytes UTF-8 encoded bytes
+     * @throws IOException if the bytes cannot be written
+     */
+    public void writeEncoded(byte[] bytes) throws IOException {
+        writePendingSurrogate();
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!this.buffer.hasRemaining()) {
+                drain();
+            }
+            int length = Math.min(bytes.length - offset, this.buffer.remaining());
+            this.buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        if (this.out != null) {
+            this.out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.buffer == null) {
+            return;
+        }
+        try {
+            writePendingSurrogate();
+            drain();
+            if (this.out != null) {
+                this.out.close();
+            }
+        } finally {
+            release(this.pool, this.buffer);
+            this.buffer = null;
+        }
+    }
+
+    private void writeChar(char ch) throws IOException {
+        if (this.buffer.remaining() < MAX_CHAR_BYTES) {
+            drain();
+        }
+        ByteBuffer buffer = this.buffer;
+        if (this.highSurrogate != 0) {
+            char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(ch)) {
+                int codePoint = Character.toCodePoint(high, ch);
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return;
+            }
+            buffer.put(REPLACEMENT);
+        }
+        if (ch < 0x80) {
+            buffer.put((byte) ch);
+        } else if (ch < 0x800) {
+            buffer.put((byte) (0xC0 | (ch >> 6)));
+            buffer.put((byte) (0x80 | (ch & 0x3F)));
+        } else if (Character.isHighSurrogate(ch)) {
+            this.highSurrogate = ch;
+        } else if (Character.isLowSurrogate(ch)) {
+            buffer.put(REPLACEMENT);
+        } else {
+            buffer.put((byte) (0xE0 | (ch >> 12)));
+            buffer.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (ch & 0x3F)));
+        }
+    }
+
+    private void writePendingSurrogate() throws IOException {
+        if (this.highSurrogate == 0) {
+            return;
+        }
+        this.highSurrogate = 0;
+        if (!this.buffer.hasRemaining()) {
+            drain();
+        }
+        this.buffer.put(REPLACEMENT);
+    }
+
+    private void drain() throws IOException {
+        ByteBuffer buffer = this.buffer;
+        if (buffer.position() == 0) {
+            return;
+        }
+        if (this.channel != null) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+        } else {
+            this.out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+        buffer.clear();
+    }
+
+    private static ByteBuffer acquire(AtomicReferenceArray<ByteBuffer> pool) {
+        int start = (int) Thread.currentThread().threadId();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int slot = (start + i) & (POOL_SIZE - 1);
+            ByteBuffer buffer = pool.get(slot);
+            if (buffer != null && pool.compareAndSet(slot, buffer, null)) {
+                return buffer;
+            }
+        }
+        return pool == DIRECT_BUFFERS ? ByteBuffer.allocateDirect(BUFFER_SIZE) : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    private static void release(AtomicReferenceArray<ByteBuffer> pool, ByteBuffer buffer) {
+        buffer.clear();
+        int start = (int) Thread.currentThread().threadId();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int slot = (start + i) & (POOL_SIZE - 1);
+            if (pool.get(slot) == null && pool.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+}
@@ -36,8 +36,8 @@ import io.ballerina.runtime.internal.types.TypeWithShape;
 import io.ballerina.runtime.internal.types.semtype.ListDefinition;
 import io.ballerina.runtime.internal.utils.IteratorUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -163,11 +163,12 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     @Override
     public String getJSONString() {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
+        // The JSON string is written as characters, without encoding it to bytes and decoding it back
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = new JsonGenerator(writer)) {
             gen.serialize(this);
             gen.flush();
-            return byteOut.toString();
+            return writer.toString();
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(
                     "Error in converting JSON to a string: " + e.getMessage()), e);
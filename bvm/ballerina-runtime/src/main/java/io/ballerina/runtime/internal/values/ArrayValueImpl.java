@@ -138,6 +138,36 @@ public class ArrayValueImpl extends AbstractArrayValue {
         setArrayType(PredefinedTypes.TYPE_STRING, readonly);
     }
 
+    public ArrayValueImpl(long[] values, ArrayType type) {
+        this.intValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(boolean[] values, ArrayType type) {
+        this.booleanValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(byte[] values, ArrayType type) {
+        this.byteValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(double[] values, ArrayType type) {
+        this.floatValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
+    public ArrayValueImpl(BString[] values, ArrayType type) {
+        this.bStringValues = values;
+        this.size = values.length;
+        setArrayType(type);
+    }
+
     public ArrayValueImpl(ArrayType type) {
         this(type, type.getSize());
     }
@@ -546,6 +576,27 @@ public class ArrayValueImpl extends AbstractArrayValue {
         addBString(index, value);
     }
 
+    /*
+     * Used by parsers to add values already converted to the element type, without boxing them. The array is not
+     * checked for immutability, as arrays of read-only types are populated this way before they are returned.
+     */
+    public void addIntForcefully(long index, long value) {
+        prepareForAddWithoutTypeCheck(index, intValues.length);
+        intValues[(int) index] = value;
+    }
+
+    public void addFloatForcefully(long index, double value) {
+        addFloat(index, value);
+    }
+
+    public void addBooleanForcefully(long index, boolean value) {
+        addBoolean(index, value);
+    }
+
+    public void addByteForcefully(long index, byte value) {
+        addByte(index, value);
+    }
+
     public void addRefValueForcefully(int index, Object value) {
         switch (this.elementReferredType.getTag()) {
             case TypeTags.BOOLEAN_TAG:
@@ -1326,6 +1377,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
         this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
     }
 
+    private void setArrayType(ArrayType type) {
+        this.type = this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
+    }
+
     private void resetSize(int index) {
         if (index >= size) {
             size = index + 1;
@@ -57,8 +57,8 @@ import io.ballerina.runtime.internal.utils.CycleUtils;
 import io.ballerina.runtime.internal.utils.IteratorUtils;
 import io.ballerina.runtime.internal.utils.MapUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -605,11 +605,12 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-             JsonGenerator gen = new JsonGenerator(byteOut)) {
+        // The JSON string is written as characters, without encoding it to bytes and decoding it back
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = new JsonGenerator(writer)) {
             gen.serialize(this);
             gen.flush();
-            return byteOut.toString();
+            return writer.toString();
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(
                     "Error in converting JSON to a string: " + e.getMessage()), e);
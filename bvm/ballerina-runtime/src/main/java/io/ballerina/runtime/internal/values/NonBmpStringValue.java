@@ -62,9 +62,12 @@ public class NonBmpStringValue extends StringValue {
 
    @Override
    public BString concat(BString str) {
-       StringValue stringValue = (StringValue) str;
+       StringValue stringValue = ((StringValue) str).flatten();
+       if (value.length() + stringValue.value.length() >= RopeStringValue.MIN_LENGTH) {
+           return RopeStringValue.concat(this, stringValue);
+       }
        if (stringValue.isNonBmp) {
-           NonBmpStringValue other = (NonBmpStringValue) str;
+           NonBmpStringValue other = (NonBmpStringValue) stringValue;
            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
            int length = length();
            for (int i = 0; i < other.surrogates.length; i++) {
@@ -72,7 +75,7 @@ public class NonBmpStringValue extends StringValue {
            }
            return new NonBmpStringValue(this.value + other.value, both);
        }
-       return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+       return new NonBmpStringValue(this.value + stringValue.value, surrogates);
    }
 
     public int[] getSurrogates() {
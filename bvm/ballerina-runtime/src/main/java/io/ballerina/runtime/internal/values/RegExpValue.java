@@ -26,10 +26,12 @@ import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.types.semtype.RegexUtils;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 
@@ -50,6 +52,8 @@ public class RegExpValue implements BRegexpValue, RefValue {
     private BTypedesc typedesc;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
     private final SemType shape;
+    // Patterns compiled for this regular expression, one for each set of match flags
+    private volatile Pattern[] compiledPatterns = new Pattern[0];
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
         this.regExpDisjunction = regExpDisjunction;
@@ -61,6 +65,35 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the Java pattern compiled for this regular expression with the given flags, if it has been compiled
+     * already.
+     *
+     * @param flags Java pattern match flags
+     * @return compiled pattern or null
+     */
+    public Pattern getCompiledPattern(int flags) {
+        for (Pattern pattern : this.compiledPatterns) {
+            if (pattern.flags() == flags) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keeps the given Java pattern compiled for this regular expression, along with the patterns compiled with other
+     * flags. A pattern compiled concurrently with other flags may not be kept, and is then compiled again.
+     *
+     * @param compiledPattern compiled pattern
+     */
+    public void addCompiledPattern(Pattern compiledPattern) {
+        Pattern[] compiledPatterns = this.compiledPatterns;
+        Pattern[] newCompiledPatterns = Arrays.copyOf(compiledPatterns, compiledPatterns.length + 1);
+        newCompiledPatterns[compiledPatterns.length] = compiledPattern;
+        this.compiledPatterns = newCompiledPatterns;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
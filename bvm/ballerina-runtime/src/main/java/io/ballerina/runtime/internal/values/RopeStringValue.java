@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * Represent ballerina strings created by concatenating long strings.
+ * <p>
+ * Concatenating strings in a loop, as in {@code s = s + piece}, would copy all the characters of {@code s} on every
+ * iteration. Instead, the characters of such strings are appended to a buffer shared by all the strings built from
+ * each other, and each string holds the number of characters of the buffer that belong to it. Concatenating to the
+ * string which was the last one to be appended to the buffer does not copy the buffer, which makes building a
+ * string by repeated concatenation amortized linear. The string is flattened to a {@link BmpStringValue} or a
+ * {@link NonBmpStringValue} the first time its value or one of its characters is accessed.
+ *
+ * @since 2201.14.0
+ */
+public final class RopeStringValue extends StringValue {
+
+    // Shorter strings are concatenated by copying, since the buffer only pays off when concatenating repeatedly
+    static final int MIN_LENGTH = 256;
+
+    private volatile Buffer buffer;
+    private volatile StringValue flattened;
+    private final int charLength;
+    private final int surrogateCount;
+    private final int length;
+
+    private RopeStringValue(Buffer buffer, int length) {
+        super(null, buffer.surrogateCount > 0);
+        this.buffer = buffer;
+        this.charLength = buffer.charLength;
+        this.surrogateCount = buffer.surrogateCount;
+        this.length = length;
+    }
+
+    /**
+     * Concatenates the given strings, starting a new buffer.
+     *
+     * @param left  flattened string
+     * @param right flattened string
+     * @return concatenated string
+     */
+    static RopeStringValue concat(StringValue left, StringValue right) {
+        Buffer buffer = new Buffer(left.value.length() + right.value.length());
+        buffer.append(left, 0);
+        buffer.append(right, left.length());
+        return new RopeStringValue(buffer, left.length() + right.length());
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue other = ((StringValue) str).flatten();
+        Buffer currentBuffer = buffer;
+        if (currentBuffer == null) {
+            return flattened.concat(other);
+        }
+        synchronized (currentBuffer) {
+            if (currentBuffer.charLength == charLength) {
+                currentBuffer.append(other, length);
+                return new RopeStringValue(currentBuffer, length + other.length());
+            }
+        }
+        // Another string has been concatenated to this string already, so this string gets a buffer of its own
+        return concat(flatten(), other);
+    }
+
+    @Override
+    StringValue flatten() {
+        StringValue value = flattened;
+        if (value != null) {
+            return value;
+        }
+        Buffer currentBuffer = buffer;
+        if (currentBuffer == null) {
+            return flattened;
+        }
+        synchronized (currentBuffer) {
+            String chars = new String(currentBuffer.chars, 0, charLength);
+            value = surrogateCount == 0 ? new BmpStringValue(chars) :
+                    new NonBmpStringValue(chars, Arrays.copyOf(currentBuffer.surrogates, surrogateCount));
+        }
+        flattened = value;
+        buffer = null;
+        return value;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue<String> getIterator() {
+        return flatten().getIterator();
+    }
+
+    public int[] getSurrogates() {
+        return flatten() instanceof NonBmpStringValue nonBmpStringValue ? nonBmpStringValue.getSurrogates() :
+                new int[0];
+    }
+
+    /**
+     * Characters of the strings concatenated to each other, along with the code point indexes of their surrogate
+     * pairs. Only the last string appended to the buffer may append to it.
+     */
+    private static final class Buffer {
+
+        private char[] chars;
+        private int charLength = 0;
+        private int[] surrogates = new int[0];
+        private int surrogateCount = 0;
+
+        Buffer(int capacity) {
+            this.chars = new char[Math.max(capacity * 2, MIN_LENGTH)];
+        }
+
+        void append(StringValue str, int length) {
+            String value = str.value;
+            int newCharLength = charLength + value.length();
+            if (newCharLength > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, newCharLength));
+            }
+            value.getChars(0, value.length(), chars, charLength);
+            charLength = newCharLength;
+            if (str instanceof NonBmpStringValue nonBmpStringValue) {
+                int[] otherSurrogates = nonBmpStringValue.getSurrogates();
+                if (surrogateCount + otherSurrogates.length > surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates,
+                            Math.max(surrogates.length * 2, surrogateCount + otherSurrogates.length));
+                }
+                for (int surrogate : otherSurrogates) {
+                    surrogates[surrogateCount++] = surrogate + length;
+                }
+            }
+        }
+    }
+}
@@ -80,9 +80,18 @@ public abstract class StringValue implements BString, SimpleValue {
         return value;
     }
 
+    /**
+     * Returns this string as a {@link BmpStringValue} or a {@link NonBmpStringValue}.
+     *
+     * @return the flattened string
+     */
+    StringValue flatten() {
+        return this;
+    }
+
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -97,12 +106,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -111,7 +120,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString bString) {
-            return bString.getValue().equals(value);
+            return bString.getValue().equals(getValue());
         }
         return false;
     }
@@ -119,7 +128,7 @@ public abstract class StringValue implements BString, SimpleValue {
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         if (!shapeCalculated) {
-            this.type = BStringType.singletonType(value);
+            this.type = BStringType.singletonType(getValue());
         }
         return Optional.of(this.type.shape());
     }
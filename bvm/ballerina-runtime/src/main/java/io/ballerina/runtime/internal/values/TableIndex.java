@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.EqualityKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Secondary index of a table on a single field of its members.
+ * <p>
+ * Members are bucketed by the value of the indexed field, compared with the semantics of the {@code ==} operator.
+ * Each bucket keeps its members ordered by their position in the table, so a lookup returns the same members, in the
+ * same order, as a scan of the table filtered on the field. The position of each member is also kept by identity,
+ * so a member is replaced or removed without scanning its bucket.
+ *
+ * @param <V> the type of the table members
+ * @since 2201.14.0
+ */
+final class TableIndex<V> {
+
+    private final BString fieldName;
+    private final Map<EqualityKey, TreeMap<Long, V>> buckets = new HashMap<>();
+    private final Map<V, Long> positions = new IdentityHashMap<>();
+
+    // Position of the next member appended to the table, members keep their position when replaced
+    private long nextPosition = 0;
+
+    TableIndex(BString fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the members whose indexed field is equal to the given value.
+     *
+     * @param value value of the indexed field
+     * @return matching members in the iteration order of the table
+     */
+    List<V> get(Object value) {
+        TreeMap<Long, V> bucket = buckets.get(new EqualityKey(value));
+        return bucket == null ? Collections.emptyList() : new ArrayList<>(bucket.values());
+    }
+
+    void add(V value) {
+        long position = nextPosition++;
+        getBucket(fieldValueOf(value)).put(position, value);
+        positions.put(value, position);
+    }
+
+    void replace(V oldValue, V newValue) {
+        Long position = positionOf(oldValue);
+        EqualityKey oldKey = new EqualityKey(fieldValueOf(oldValue));
+        Object newFieldValue = fieldValueOf(newValue);
+        if (oldKey.equals(new EqualityKey(newFieldValue))) {
+            buckets.get(oldKey).put(position, newValue);
+        } else {
+            removeFromBucket(oldKey, position);
+            getBucket(newFieldValue).put(position, newValue);
+        }
+        positions.put(newValue, position);
+    }
+
+    void remove(V value) {
+        removeFromBucket(new EqualityKey(fieldValueOf(value)), positionOf(value));
+    }
+
+    void clear() {
+        buckets.clear();
+        positions.clear();
+        nextPosition = 0;
+    }
+
+    private Object fieldValueOf(V value) {
+        return ((BMap<?, ?>) value).get(fieldName);
+    }
+
+    private Long positionOf(V value) {
+        Long position = positions.remove(value);
+        if (position == null) {
+            throw new IllegalStateException("table member is missing in the index of its field value");
+        }
+        return position;
+    }
+
+    private TreeMap<Long, V> getBucket(Object fieldValue) {
+        return buckets.computeIfAbsent(new EqualityKey(fieldValue), k -> new TreeMap<>());
+    }
+
+    private void removeFromBucket(EqualityKey key, Long position) {
+        TreeMap<Long, V> bucket = buckets.get(key);
+        bucket.remove(position);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+}
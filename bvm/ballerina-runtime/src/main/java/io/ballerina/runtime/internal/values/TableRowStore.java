@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.utils.TableUtils;
+
+import java.util.Arrays;
+
+/**
+ * Row storage of a table value.
+ * <p>
+ * Rows are kept in insertion order in a single set of parallel arrays. A removed row leaves an empty slot behind,
+ * which is reclaimed when the removed rows outnumber the live rows. Keyed tables additionally maintain an open
+ * addressing index from the primitive {@code long} key hash to the row slot, so a lookup does not box the hash or
+ * allocate a bucket list per key.
+ * <p>
+ * Every row is also given a position, which grows with each appended row and is kept when the rows are moved to
+ * other slots. Iterators hold on to the position of the next row along with the current {@link #epoch()}, and look
+ * up its slot again with {@link #slotOf(long)} whenever the rows have been moved since.
+ *
+ * @param <K> the type of the row keys
+ * @param <V> the type of the row values
+ * @since 2201.14.0
+ */
+final class TableRowStore<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MIN_COMPACTION_THRESHOLD = 16;
+    private static final int EMPTY_SLOT = -1;
+
+    private final boolean indexed;
+
+    private Object[] keys;
+    private Object[] values;
+    private long[] hashes;
+    private long[] positions;
+    private int slotCount;
+    private int size;
+
+    // Position of the next appended row, and the number of times the rows were moved or a slot was freed for reuse
+    private long nextPosition = 0;
+    private int epoch = 0;
+
+    // Open addressing index; indexSlots holds the row slot, or EMPTY_SLOT for a free position
+    private long[] indexHashes;
+    private int[] indexSlots;
+    private int indexMask;
+
+    TableRowStore(boolean indexed) {
+        this.indexed = indexed;
+        init();
+    }
+
+    private void init() {
+        this.keys = new Object[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.positions = new long[INITIAL_CAPACITY];
+        this.slotCount = 0;
+        this.size = 0;
+        if (indexed) {
+            this.hashes = new long[INITIAL_CAPACITY];
+            allocateIndex(INITIAL_CAPACITY * 2);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns a counter, which changes whenever the existing rows are moved to other slots or a slot is reused.
+     *
+     * @return current epoch
+     */
+    int epoch() {
+        return epoch;
+    }
+
+    long positionAt(int slot) {
+        return positions[slot];
+    }
+
+    /**
+     * Returns the slot of the first row, live or removed, at or after the given position.
+     *
+     * @param position position of a row
+     * @return slot of the row, which is the number of slots if there is no such row
+     */
+    int slotOf(long position) {
+        // Rows are kept in the order of their positions
+        int low = 0;
+        int high = slotCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the slot of the first live row at or after the given slot.
+     *
+     * @param slot slot to start from
+     * @return slot of the next live row or -1 if there is none
+     */
+    int nextSlot(int slot) {
+        for (int i = slot; i < slotCount; i++) {
+            if (values[i] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int slot) {
+        return (K) keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    /**
+     * Returns the slot of the row with the given key.
+     *
+     * @param key  row key
+     * @param hash hash of the key as computed by {@link TableUtils#hash}
+     * @return slot of the row or -1 if there is no row with the given key
+     */
+    int find(Object key, long hash) {
+        int pos = indexPosition(hash);
+        int slot;
+        while ((slot = indexSlots[pos]) != EMPTY_SLOT) {
+            if (indexHashes[pos] == hash && TypeChecker.isEqual(key, keys[slot])) {
+                return slot;
+            }
+            pos = (pos + 1) & indexMask;
+        }
+        return -1;
+    }
+
+    int find(Object key) {
+        return find(key, TableUtils.hash(key, null));
+    }
+
+    /**
+     * Appends a row. For keyed tables the caller must make sure no row with an equal key exists.
+     *
+     * @param key   row key
+     * @param hash  hash of the key, ignored for key-less tables
+     * @param value row value
+     */
+    void append(K key, long hash, V value) {
+        if (slotCount == keys.length) {
+            if (slotCount - size >= Math.max(size, MIN_COMPACTION_THRESHOLD)) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        int slot = slotCount++;
+        keys[slot] = key;
+        values[slot] = value;
+        positions[slot] = nextPosition++;
+        size++;
+        if (indexed) {
+            hashes[slot] = hash;
+            if (size * 2 > indexSlots.length) {
+                rebuildIndex(indexSlots.length * 2);
+            } else {
+                insertIntoIndex(hash, slot);
+            }
+        }
+    }
+
+    /**
+     * Replaces the key and the value of an existing row, keeping its position.
+     */
+    void replace(int slot, K key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    V removeAt(int slot) {
+        V value = valueAt(slot);
+        if (indexed) {
+            removeFromIndex(hashes[slot], slot);
+        }
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+        if (size == 0) {
+            // Nothing to preserve, start filling the slots from the beginning again
+            slotCount = 0;
+            epoch++;
+        } else if (slot == slotCount - 1) {
+            // The slot is reused by the next appended row
+            slotCount--;
+            epoch++;
+        }
+        return value;
+    }
+
+    void clear() {
+        init();
+        epoch++;
+    }
+
+    private void grow() {
+        int newCapacity = keys.length << 1;
+        keys = Arrays.copyOf(keys, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        positions = Arrays.copyOf(positions, newCapacity);
+        if (indexed) {
+            hashes = Arrays.copyOf(hashes, newCapacity);
+        }
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int i = 0; i < slotCount; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            if (target != i) {
+                keys[target] = keys[i];
+                values[target] = values[i];
+                positions[target] = positions[i];
+                if (indexed) {
+                    hashes[target] = hashes[i];
+                }
+            }
+            target++;
+        }
+        Arrays.fill(keys, target, slotCount, null);
+        Arrays.fill(values, target, slotCount, null);
+        slotCount = target;
+        epoch++;
+        if (indexed) {
+            rebuildIndex(indexSlots.length);
+        }
+    }
+
+    private void allocateIndex(int capacity) {
+        indexHashes = new long[capacity];
+        indexSlots = new int[capacity];
+        Arrays.fill(indexSlots, EMPTY_SLOT);
+        indexMask = capacity - 1;
+    }
+
+    private void rebuildIndex(int capacity) {
+        allocateIndex(capacity);
+        for (int i = 0; i < slotCount; i++) {
+            if (values[i] != null) {
+                insertIntoIndex(hashes[i], i);
+            }
+        }
+    }
+
+    private int indexPosition(long hash) {
+        // Spread the bits since the hashes of small integer keys are the keys themselves
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & indexMask;
+    }
+
+    private void insertIntoIndex(long hash, int slot) {
+        int pos = indexPosition(hash);
+        while (indexSlots[pos] != EMPTY_SLOT) {
+            pos = (pos + 1) & indexMask;
+        }
+        indexHashes[pos] = hash;
+        indexSlots[pos] = slot;
+    }
+
+    private void removeFromIndex(long hash, int slot) {
+        int pos = indexPosition(hash);
+        while (indexSlots[pos] != slot) {
+            pos = (pos + 1) & indexMask;
+        }
+        // Backward shift deletion keeps the probe sequences of the remaining entries intact
+        int next = (pos + 1) & indexMask;
+        while (indexSlots[next] != EMPTY_SLOT) {
+            int home = indexPosition(indexHashes[next]);
+            if (((next - home) & indexMask) >= ((next - pos) & indexMask)) {
+                indexHashes[pos] = indexHashes[next];
+                indexSlots[pos] = indexSlots[next];
+                pos = next;
+            }
+            next = (next + 1) & indexMask;
+        }
+        indexSlots[pos] = EMPTY_SLOT;
+    }
+}
@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.TableType;
@@ -57,19 +58,16 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.TreeMap;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -98,32 +96,23 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
-    private final ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private final LinkedHashMap<Long, List<V>> values;
+    private TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private final Map<Long, K> indexToKeyMap;
-    private final Map<K, Long> keyToIndexMap;
-    private final Map<K, V> keyValues;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
+    // Secondary indexes by field name, replaced as a whole when an index is created
+    private volatile Map<String, TableIndex<V>> indexes = Collections.emptyMap();
+
     private final Map<String, Object> nativeData = new HashMap<>();
     private BTypedesc typedesc;
 
     public TableValueImpl(TableType tableType) {
         this.type = this.tableType = tableType;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new TreeMap<>();
         this.fieldNames = tableType.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (tableType.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
@@ -259,18 +248,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int slot = rows.nextSlot(0); slot >= 0; slot = rows.nextSlot(slot + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.keyAt(slot), rows.valueAt(slot)));
         }
         return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(rows.size());
+        for (int slot = rows.nextSlot(0); slot >= 0; slot = rows.nextSlot(slot + 1)) {
+            newValues.add(rows.valueAt(slot));
         }
         return newValues;
     }
@@ -278,11 +266,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
+        for (TableIndex<V> index : indexes.values()) {
+            index.clear();
+        }
     }
 
     @Override
@@ -313,7 +300,92 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return indexToKeyMap.isEmpty() ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
+    }
+
+    @Override
+    public void createIndex(BString fieldName) {
+        String name = fieldName.getValue();
+        if (indexes.containsKey(name)) {
+            return;
+        }
+        if (!isImmutableField(tableType.getConstrainedType(), name)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot create an index on field '" + name + "': the field should be a readonly field of " +
+                            "the member type '" + tableType.getConstrainedType() + "'"));
+        }
+        TableIndex<V> index = new TableIndex<>(fieldName);
+        for (int slot = rows.nextSlot(0); slot >= 0; slot = rows.nextSlot(slot + 1)) {
+            index.add(rows.valueAt(slot));
+        }
+        Map<String, TableIndex<V>> newIndexes = new HashMap<>(indexes);
+        newIndexes.put(name, index);
+        indexes = newIndexes;
+    }
+
+    /**
+     * Returns the members whose given field is equal to the given value, looked up through the key of the table or a
+     * secondary index created on the field.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return matching members in iteration order, or {@code null} if the lookup cannot be served without a scan
+     */
+    public List<V> getIndexedMembers(BString fieldName, Object value) {
+        if (value instanceof BRefValue) {
+            // Hashes of structured values are not consistent with equality for every shape
+            return null;
+        }
+        String name = fieldName.getValue();
+        if (fieldNames.length == 1 && fieldNames[0].equals(name)) {
+            V member = valueHolder.getData((K) value);
+            return member == null ? Collections.emptyList() : List.of(member);
+        }
+        TableIndex<V> index = indexes.get(name);
+        return index == null ? null : index.get(value);
+    }
+
+    private void addToIndexes(V value) {
+        for (TableIndex<V> index : indexes.values()) {
+            index.add(value);
+        }
+    }
+
+    private void replaceInIndexes(V oldValue, V newValue) {
+        for (TableIndex<V> index : indexes.values()) {
+            index.replace(oldValue, newValue);
+        }
+    }
+
+    private void removeFromIndexes(V value) {
+        for (TableIndex<V> index : indexes.values()) {
+            index.remove(value);
+        }
+    }
+
+    // An index is only kept consistent for fields that cannot be updated once the member is in the table
+    private boolean isImmutableField(Type constraintType, String fieldName) {
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        switch (constraintType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+                return field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+            case TypeTags.INTERSECTION_TAG:
+                return isImmutableField(((BIntersectionType) constraintType).getEffectiveType(), fieldName);
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG:
+                return isImmutableField(((BTypeReferenceType) constraintType).getReferredType(), fieldName);
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((BUnionType) constraintType).getMemberTypes()) {
+                    if (!isImmutableField(memberType, fieldName)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
     }
 
     @Override
@@ -342,17 +414,22 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (int slot = rows.nextSlot(0); slot >= 0; slot = rows.nextSlot(slot + 1)) {
+            keys[i++] = rows.keyAt(slot);
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -381,8 +458,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        StringJoiner sj = new StringJoiner(",");
+        for (int slot = rows.nextSlot(0); slot >= 0; slot = rows.nextSlot(slot + 1)) {
+            sj.add(getStringVal(rows.valueAt(slot), new CycleUtils.Node(this, parent)));
+        }
+        return "[" + sj + "]";
     }
 
     @Override
@@ -392,43 +472,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
-        StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
-        }
-        return "[" + sj + "]";
-    }
-
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (String string : keysList) {
             keyJoiner.add(string);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (int slot = rows.nextSlot(0); slot >= 0; slot = rows.nextSlot(slot + 1)) {
+            sj.add(getExpressionStringVal(rows.valueAt(slot), new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -518,42 +569,60 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator implements IteratorValue<Object> {
-        private long cursor;
+        private int cursor;
+        // Position of the row at the cursor, used to find the cursor again once the rows are moved
+        private long position;
+        private int epoch;
 
         TableIterator() {
             this.cursor = 0;
+            this.position = 0;
+            this.epoch = rows.epoch();
         }
 
         @Override
         public Object next() {
-            if (indexToKeyMap.containsKey(cursor)) {
-                K key = indexToKeyMap.get(cursor);
-                V value = keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            int slot = rows.nextSlot(currentCursor());
+            K key = rows.keyAt(slot);
+            V value = rows.valueAt(slot);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor = slot + 1;
+            position = rows.positionAt(slot) + 1;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries && !values.isEmpty();
+           return rows.nextSlot(currentCursor()) >= 0;
+        }
+
+        private int currentCursor() {
+            if (epoch != rows.epoch()) {
+                cursor = rows.slotOf(position);
+                epoch = rows.epoch();
+            }
+            return cursor;
         }
     }
 
     private class ValueHolder {
 
+        ValueHolder() {
+            this(false);
+        }
+
+        ValueHolder(boolean keyed) {
+            rows = new TableRowStore<>(keyed);
+        }
+
         public void addData(V data) {
             putData(data);
         }
@@ -570,18 +639,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue<?, ?>) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>((K) data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            // Rows of a key-less table are their own keys
+            rows.append((K) data, 0, data);
+            addToIndexes(data);
             return data;
         }
 
@@ -605,7 +665,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         private Type keyType;
 
         public KeyHashValueHolder() {
-            super();
+            super(true);
             if (fieldNames.length > 1) {
                 keyWrapper = new MultiKeyWrapper();
             } else {
@@ -618,72 +678,38 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = TableUtils.hash(key, null);
 
-            if (containsKey(key)) {
+            if (rows.find(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (indexToKeyMap.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-
-            if (entries.containsKey(hash)) {
-                updateIndexKeyMappings(hash, key, data);
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                return;
-            }
-
-            putNewData(key, data, entry, hash);
+            rows.append(key, hash, data);
+            addToIndexes(data);
         }
 
         @Override
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            int slot = rows.find(key);
+            return slot < 0 ? null : rows.valueAt(slot);
         }
 
         @Override
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue<?, ?>) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hash(actualKey, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
-
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V putNewData(K key, V value, Map.Entry<K, V> entry, Long hash) {
-            List<V> data = new ArrayList<>();
-            data.add(value);
-            updateIndexKeyMappings(hash, key, value);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            values.put(hash, data);
-            return data.get(0);
+            return putData(key, hash, data);
         }
 
         @Override
@@ -691,78 +717,36 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
+            return putData(key, TableUtils.hash(key, null), data);
+        }
 
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V updateExistingEntry(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            updateIndexKeyMappings(hash, key, data);
-            List<V> valueList = values.get(hash);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> extEntry: entryList) {
-                // Handle hash-collided entries
-                if (TypeChecker.isEqual(key, extEntry.getKey())) {
-                    entryList.remove(extEntry);
-                    valueList.remove(extEntry.getValue());
-                    break;
-                }
+        private V putData(K key, long hash, V data) {
+            int slot = rows.find(key, hash);
+            if (slot >= 0) {
+                // An existing row keeps its position in the iteration order
+                replaceInIndexes(rows.valueAt(slot), data);
+                rows.replace(slot, key, data);
+            } else {
+                rows.append(key, hash, data);
+                addToIndexes(data);
             }
-            entryList.add(entry);
-            values.get(hash).add(data);
             return data;
         }
 
         @Override
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            if (entryList != null) {
-                Long index = keyToIndexMap.remove(entryList.get(0).getKey());
-                indexToKeyMap.remove(index);
-                if (index != null && index == noOfAddedEntries - 1) {
-                    noOfAddedEntries--;
-                }
-            }
-            entries.remove(hash);
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
+            int slot = rows.find(key);
+            if (slot < 0) {
                 return null;
             }
-            return removedValue.get(0);
+            V removed = rows.removeAt(slot);
+            removeFromIndexes(removed);
+            return removed;
         }
 
         @Override
         public boolean containsKey(K key) {
-            if (entries.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return rows.find(key) >= 0;
         }
 
         @Override
@@ -815,27 +799,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash, K key, V value) {
-        if (entries.containsKey(hash)) {
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(entry.getKey(), key)) {
-                    long index = keyToIndexMap.remove(entry.getKey());
-                    keyToIndexMap.put(key, index);
-                    indexToKeyMap.put(index, key);
-                    keyValues.remove(entry.getKey());
-                    keyValues.put(key, value);
-                    return;
-                }
-            }
-        }
-        keyToIndexMap.put(key, noOfAddedEntries);
-        indexToKeyMap.put(noOfAddedEntries, key);
-        keyValues.put(key, value);
-        noOfAddedEntries++;
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue<?, ?> dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -37,18 +37,18 @@ import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMException;
 import org.apache.axiom.om.OMNode;
 
-import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.lang.ref.WeakReference;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -68,8 +68,15 @@ import static io.ballerina.runtime.internal.TypeChecker.isEqual;
  */
 public final class XmlItem extends XmlValue implements BXmlItem {
 
+    // Minimum number of children, for which child elements are indexed by name when they are looked up by name
+    private static final int CHILD_ELEMENT_INDEX_THRESHOLD = 16;
+    // Number of times any element is renamed, which invalidates the child element indexes
+    private static final AtomicLong RENAME_COUNT = new AtomicLong();
+
     private QName name;
     private XmlSequence children;
+    // Child elements by name, which are indexed when they are first looked up by name
+    private ChildElementIndex childElementIndex;
     private final AttributeMapValueImpl attributes;
     // Keep track of probable parents of xml element to detect probable cycles in xml.
     private final List<WeakReference<XmlItem>> probableParents;
@@ -178,6 +185,8 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public void setQName(QName name) {
         this.name = name;
+        // The parents of parsed elements are not known, so the child element indexes of all elements are invalidated
+        RENAME_COUNT.incrementAndGet();
     }
 
     /**
@@ -280,7 +289,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue children() {
-        return new XmlSequence(new ArrayList<>(children.getChildrenList()));
+        return children.createView();
     }
 
     /**
@@ -288,7 +297,30 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue children(String qname) {
-        return children.elements(qname);
+        return XmlSequence.fromMembers(getChildElements(getQname(qname)));
+    }
+
+    /**
+     * Returns the child elements with the given name. Child elements are indexed by name when there are many
+     * children, so that looking up child elements repeatedly does not scan all the children each time.
+     *
+     * @param elementName name of the child elements
+     * @return the child elements, which must not be updated
+     */
+    List<BXml> getChildElements(QName elementName) {
+        List<BXml> childrenList = this.children.children;
+        ChildElementIndex index = this.childElementIndex;
+        // The index is created again if the children are updated or any element is renamed after it is created
+        long renameCount = RENAME_COUNT.get();
+        if (index == null || index.children() != childrenList || index.size() != childrenList.size() ||
+                index.renameCount() != renameCount) {
+            if (childrenList.size() < CHILD_ELEMENT_INDEX_THRESHOLD) {
+                return XmlSequenceView.elements(this.children.shareChildren(), elementName);
+            }
+            index = ChildElementIndex.create(childrenList, renameCount);
+            this.childElementIndex = index;
+        }
+        return index.elements().getOrDefault(elementName, Collections.emptyList());
     }
 
     /**
@@ -420,12 +452,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
-        if (qnames.contains(getQName().toString())) {
-            List<BXml> descendants = Arrays.asList(this);
-            addDescendants(descendants, this, qnames);
-            return new XmlSequence(descendants);
-        }
-        return children.descendants(qnames);
+        return XmlSequence.fromMembers(XmlSequenceView.descendants(List.of(this), qnames));
     }
 
     @Override
@@ -470,13 +497,13 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Deprecated
     public String stringValue(BLink parent) {
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            BallerinaXmlSerializer ballerinaXMLSerializer = new BallerinaXmlSerializer(outputStream);
+            // The XML string is written as characters, without encoding it to bytes and decoding it back
+            StringWriter writer = new StringWriter();
+            BallerinaXmlSerializer ballerinaXMLSerializer = new BallerinaXmlSerializer(writer);
             ballerinaXMLSerializer.write(this);
             ballerinaXMLSerializer.flush();
-            String xml = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
             ballerinaXMLSerializer.close();
-            return xml;
+            return writer.toString();
         } catch (Throwable t) {
             handleXmlException("failed to get xml as string: ", t);
         }
@@ -584,7 +611,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        List<BXml> children = this.children.children;
+        List<BXml> children = this.children.getMutableChildren();
         List<Integer> toRemove = new ArrayList<>();
         for (int i = 0; i < children.size(); i++) {
             BXml child = children.get(i);
@@ -716,6 +743,21 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         void set(String localName, String namespace, String prefix, String value);
     }
 
+    private record ChildElementIndex(List<BXml> children, int size, long renameCount,
+                                     Map<QName, List<BXml>> elements) {
+
+        static ChildElementIndex create(List<BXml> children, long renameCount) {
+            Map<QName, List<BXml>> elements = new HashMap<>();
+            for (BXml child : children) {
+                if (child.getNodeType() == ELEMENT) {
+                    elements.computeIfAbsent(((XmlItem) child).getQName(), name -> new ArrayList<>(1)).add(child);
+                }
+            }
+            elements.replaceAll((name, namedElements) -> Collections.unmodifiableList(namedElements));
+            return new ChildElementIndex(children, children.size(), renameCount, elements);
+        }
+    }
+
     public static XmlItem createXMLItemWithDefaultNSAttribute(QName name, boolean readonly, String defaultNsUri) {
         XmlItem item = new XmlItem(name, readonly);
 
@@ -31,8 +31,7 @@ import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMFactory;
 import org.apache.axiom.om.OMNode;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -193,13 +192,13 @@ public abstract class XmlNonElementItem extends XmlValue implements BXmlNonEleme
     @Override
     public String stringValue(BLink parent) {
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            BallerinaXmlSerializer ballerinaXMLSerializer = new BallerinaXmlSerializer(outputStream);
+            // The XML string is written as characters, without encoding it to bytes and decoding it back
+            StringWriter writer = new StringWriter();
+            BallerinaXmlSerializer ballerinaXMLSerializer = new BallerinaXmlSerializer(writer);
             ballerinaXMLSerializer.write(this);
             ballerinaXMLSerializer.flush();
-            String str = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
             ballerinaXMLSerializer.close();
-            return str;
+            return writer.toString();
         } catch (Throwable t) {
             handleXmlException("failed to get xml as string: ", t);
         }
@@ -45,6 +45,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.xml.namespace.QName;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_EMPTY_VALUE;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.XML_LANG_LIB;
 import static io.ballerina.runtime.internal.TypeChecker.isEqual;
@@ -63,6 +65,9 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
 
     List<BXml> children;
 
+    // Set when the children are shared with another sequence or a view, and have to be copied before updating them
+    private boolean childrenShared;
+
     /**
      * Create an empty xml sequence.
      */
@@ -76,7 +81,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
             this.children = values;
             return;
         }
-        setSequenceMembersConcatenatingAdjacentTextItems(values);
+        this.children = concatenateAdjacentTextItems(values);
     }
 
     public XmlSequence(BXml child) {
@@ -86,11 +91,49 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         }
     }
 
+    /**
+     * Creates a sequence of the given members without copying them. The members must not have adjacent text items,
+     * and are copied before the sequence is updated.
+     *
+     * @param members members of the sequence
+     * @return the sequence
+     */
+    static XmlSequence fromMembers(List<BXml> members) {
+        XmlSequence sequence = new XmlSequence();
+        sequence.children = members;
+        sequence.childrenShared = true;
+        sequence.type = PredefinedTypes.TYPE_XML;
+        return sequence;
+    }
+
     @Override
     public List<BXml> getChildrenList() {
         return children;
     }
 
+    /**
+     * Returns the children to create a view over, which are copied before this sequence is updated afterwards.
+     *
+     * @return the children of this sequence
+     */
+    List<BXml> shareChildren() {
+        this.childrenShared = true;
+        return this.children;
+    }
+
+    /**
+     * Returns the children to update, which are copied first if they are shared.
+     *
+     * @return the children of this sequence, which are not shared
+     */
+    List<BXml> getMutableChildren() {
+        if (this.childrenShared || !(this.children instanceof ArrayList)) {
+            this.children = new ArrayList<>(this.children);
+            this.childrenShared = false;
+        }
+        return this.children;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -219,13 +262,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
      */
     @Override
     public XmlValue elements() {
-        List<BXml> elementsSeq = new ArrayList<>();
-        for (BXml child : children) {
-            if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                elementsSeq.add(child);
-            }
-        }
-        return new XmlSequence(elementsSeq);
+        return fromMembers(XmlSequenceView.elements(shareChildren(), null));
     }
 
     /**
@@ -233,14 +270,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
      */
     @Override
     public XmlValue elements(String qname) {
-        List<BXml> elementsSeq = new ArrayList<>();
-        String qnameStr = getQname(qname).toString();
-        for (BXml child : children) {
-            if (child.getNodeType() == XmlNodeType.ELEMENT && child.getElementName().equals(qnameStr)) {
-                elementsSeq.add(child);
-            }
-        }
-        return new XmlSequence(elementsSeq);
+        return fromMembers(XmlSequenceView.elements(shareChildren(), getQname(qname)));
     }
 
     /**
@@ -251,7 +281,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         if (children.size() == 1) {
             return (XmlValue) children.get(0).children();
         }
-        return new XmlSequence(new ArrayList<>(children));
+        return createView();
     }
 
     /**
@@ -265,13 +295,10 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
             return (XmlValue) bxml.children(qname);
         }
 
+        QName elementName = getQname(qname);
         for (BXml elem : this.children) {
-            XmlSequence elements = (XmlSequence) elem.children().elements(qname);
-            List<BXml> childrenList = elements.getChildrenList();
-            if (childrenList.size() == 1) {
-                selected.add(childrenList.get(0));
-            } else if (childrenList.size() > 1) {
-                selected.addAll(childrenList);
+            if (elem.getNodeType() == XmlNodeType.ELEMENT) {
+                selected.addAll(((XmlItem) elem).getChildElements(elementName));
             }
         }
 
@@ -304,7 +331,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     @Override
     @Deprecated
     public void addChildren(BXml xmlItem) {
-        children.add(xmlItem);
+        getMutableChildren().add(xmlItem);
 
         // If sequence contains children of same type
         // the sequence type should be changed to that corresponding xml type
@@ -406,19 +433,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
-        List<BXml> descendants = new ArrayList<>();
-        for (BXml child : children) {
-            if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                XmlItem element = (XmlItem) child;
-                String name = element.getQName().toString();
-                if (qnames.contains(name)) {
-                    descendants.add(element);
-                }
-                addDescendants(descendants, element, qnames);
-            }
-        }
-
-        return new XmlSequence(descendants);
+        return fromMembers(XmlSequenceView.descendants(shareChildren(), qnames));
     }
 
     @Override
@@ -630,7 +645,16 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         };
     }
 
-    private void setSequenceMembersConcatenatingAdjacentTextItems(List<BXml> values) {
+    /**
+     * Creates a sequence with the same members, which shares the children of this sequence instead of copying them.
+     *
+     * @return the sequence
+     */
+    XmlSequence createView() {
+        return fromMembers(XmlSequenceView.members(shareChildren()));
+    }
+
+    static List<BXml> concatenateAdjacentTextItems(List<BXml> values) {
         ArrayList<BXml> members = new ArrayList<>();
         boolean isPreviousValueText = false;
         StringBuilder text = new StringBuilder();
@@ -650,7 +674,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         if (!text.isEmpty()) {
             members.add(XmlFactory.createXMLText(StringUtils.fromString(text.toString())));
         }
-        this.children = members;
+        return members;
     }
 
     private Type getSequenceType(Type tempExprType) {
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import javax.xml.namespace.QName;
+
+/**
+ * An immutable list of the members of an XML sequence, which are selected by a navigation step from the members of
+ * another sequence. The members are selected only when the list is first accessed, and views of views are evaluated
+ * in a single pass over the members of the innermost sequence, without materializing the intermediate views.
+ * <p>
+ * The source members are not copied, and hence must not be updated after a view is created over them.
+ * {@link XmlSequence} copies its members before updating them once they are shared with a view. The descendants are
+ * selected when their view is created, since the children of the nested elements are not shared with the view. The
+ * elements with a given name are also selected when their view is created, since the elements may be renamed.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ *
+ * @since 2201.14.0
+ */
+final class XmlSequenceView extends AbstractList<BXml> implements RandomAccess {
+
+    private enum Step {
+        MEMBERS,
+        ELEMENTS,
+        DESCENDANTS
+    }
+
+    private final List<BXml> source;
+    private final Step step;
+    // Name of the elements selected by the ELEMENTS step, which selects all elements when null
+    private final QName elementName;
+    // Names of the elements selected by the DESCENDANTS step
+    private final List<String> descendantNames;
+    // Selected members, which are published to the other strands reading the view once they are complete
+    private volatile List<BXml> members;
+
+    private XmlSequenceView(List<BXml> source, Step step, QName elementName, List<String> descendantNames) {
+        this.source = source;
+        this.step = step;
+        this.elementName = elementName;
+        this.descendantNames = descendantNames;
+    }
+
+    /**
+     * Creates a view of all the given members, in which adjacent text items are concatenated.
+     *
+     * @param source members of the sequence
+     * @return view of the members
+     */
+    static List<BXml> members(List<BXml> source) {
+        if (source instanceof XmlSequenceView) {
+            // Members of a view do not have adjacent text items
+            return source;
+        }
+        return new XmlSequenceView(source, Step.MEMBERS, null, null);
+    }
+
+    /**
+     * Creates a view of the elements in the given members.
+     *
+     * @param source      members of the sequence
+     * @param elementName name of the elements to select, or {@code null} to select all elements
+     * @return view of the elements
+     */
+    static List<BXml> elements(List<BXml> source, QName elementName) {
+        XmlSequenceView view = new XmlSequenceView(source, Step.ELEMENTS, elementName, null);
+        if (elementName != null) {
+            view.getMembers();
+        }
+        return view;
+    }
+
+    /**
+     * Creates a view of the elements in the given members and their descendants, which have one of the given names.
+     *
+     * @param source members of the sequence
+     * @param names  string representations of the names of the elements to select
+     * @return view of the elements, in document order
+     */
+    static List<BXml> descendants(List<BXml> source, List<String> names) {
+        XmlSequenceView view = new XmlSequenceView(source, Step.DESCENDANTS, null, names);
+        view.getMembers();
+        return view;
+    }
+
+    @Override
+    public BXml get(int index) {
+        return getMembers().get(index);
+    }
+
+    @Override
+    public int size() {
+        return getMembers().size();
+    }
+
+    @Override
+    public void forEach(Consumer<? super BXml> action) {
+        List<BXml> members = this.members;
+        if (members != null) {
+            members.forEach(action);
+        } else {
+            select(action);
+        }
+    }
+
+    private List<BXml> getMembers() {
+        List<BXml> members = this.members;
+        if (members != null) {
+            return members;
+        }
+        if (this.step == Step.MEMBERS) {
+            members = hasTextItemsToConcatenate(this.source) ?
+                    Collections.unmodifiableList(XmlSequence.concatenateAdjacentTextItems(this.source)) :
+                    this.source;
+        } else {
+            List<BXml> selected = new ArrayList<>();
+            select(selected::add);
+            members = Collections.unmodifiableList(selected);
+        }
+        this.members = members;
+        return members;
+    }
+
+    private void select(Consumer<? super BXml> action) {
+        switch (this.step) {
+            case MEMBERS -> getMembers().forEach(action);
+            case ELEMENTS -> this.source.forEach(member -> {
+                if (member.getNodeType() == XmlNodeType.ELEMENT &&
+                        (this.elementName == null || this.elementName.equals(((XmlItem) member).getQName()))) {
+                    action.accept(member);
+                }
+            });
+            default -> this.source.forEach(member -> selectDescendants(member, action));
+        }
+    }
+
+    private void selectDescendants(BXml member, Consumer<? super BXml> action) {
+        if (member.getNodeType() != XmlNodeType.ELEMENT) {
+            return;
+        }
+        XmlItem element = (XmlItem) member;
+        if (this.descendantNames.contains(element.getQName().toString())) {
+            action.accept(element);
+        }
+        element.getChildrenSeq().getChildrenList().forEach(child -> selectDescendants(child, action));
+    }
+
+    // Empty text items are also removed when text items are concatenated
+    private static boolean hasTextItemsToConcatenate(List<BXml> members) {
+        boolean isPreviousText = false;
+        for (BXml member : members) {
+            boolean isText = member.getNodeType() == XmlNodeType.TEXT;
+            if (isText && (isPreviousText || member.getTextValue().isEmpty())) {
+                return true;
+            }
+            isPreviousText = isText;
+        }
+        return false;
+    }
+}
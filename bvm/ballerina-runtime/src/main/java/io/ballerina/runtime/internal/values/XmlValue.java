@@ -196,26 +196,6 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
         return new QName(nsUri, localname);
     }
 
-    /**
-     * Recursively traverse and add the descendant with the given name to the
-     * descendants list.
-     *
-     * @param descendants    List to add descendants
-     * @param currentElement Current node
-     * @param qnames         Qualified names of the descendants to search
-     */
-    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, List<String> qnames) {
-        for (BXml child : currentElement.getChildrenSeq().getChildrenList()) {
-            if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                String elemName = ((XmlItem) child).getQName().toString();
-                if (qnames.contains(elemName)) {
-                    descendants.add(child);
-                }
-                addDescendants(descendants, (XmlItem) child, qnames);
-            }
-        }
-    }
-
     protected void addDescendants(List<BXml> descendants, XmlItem currentElement) {
         for (BXml child : currentElement.getChildrenSeq().getChildrenList()) {
             descendants.add(child);
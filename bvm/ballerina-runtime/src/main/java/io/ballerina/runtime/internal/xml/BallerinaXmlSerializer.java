@@ -28,6 +28,7 @@ import io.ballerina.runtime.internal.values.XmlText;
 
 import java.io.CharArrayWriter;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -82,6 +83,15 @@ public class BallerinaXmlSerializer extends OutputStream {
         }
     }
 
+    public BallerinaXmlSerializer(Writer writer) {
+        try {
+            xmlStreamWriter = xmlOutputFactory.createXMLStreamWriter(writer);
+            parentNSSet = new ArrayDeque<>();
+        } catch (XMLStreamException e) {
+            ErrorHelper.handleXMLException(PARSE_XML_OP, e);
+        }
+    }
+
     @Override
     public void write(int b) {
         assert false;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.internal.xml;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Reads the elements at a path of an XML document from a {@link Reader} one at a time, as the iterator is advanced.
+ * Only the element being read is built, and other elements are skipped as they are read, so documents larger than
+ * the available memory can be processed.
+ * <p>
+ * The path is the names of the elements from the root element to the elements to read, in the
+ * {@code {namespace}localName} form used by {@code xml:getName}. The root element is read if the path is empty.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2201.14.0
+ */
+public final class XmlElementReader implements Iterator<BXml> {
+
+    private final Reader reader;
+    private final List<String> path;
+    private XMLStreamReader xmlStreamReader;
+    // Number of elements of the path, which are open at the current position of the reader
+    private int depth;
+    private BXml element;
+    private boolean ended;
+
+    public XmlElementReader(Reader reader, List<String> path) {
+        this.reader = reader;
+        this.path = path;
+    }
+
+    /**
+     * Reads up to the next element at the path.
+     *
+     * @return {@code true} if the document has more elements at the path
+     * @throws BError if the document is not well-formed or cannot be read
+     */
+    @Override
+    public boolean hasNext() throws BError {
+        if (this.element != null) {
+            return true;
+        }
+        if (this.ended) {
+            return false;
+        }
+        try {
+            if (this.xmlStreamReader == null) {
+                this.xmlStreamReader = XmlTreeBuilder.createXmlStreamReader(this.reader);
+            }
+            this.element = readElement();
+            return this.element != null;
+        } catch (XMLStreamException | RuntimeException e) {
+            this.ended = true;
+            if (e instanceof BError error) {
+                throw error;
+            }
+            throw XmlTreeBuilder.createParseError(e);
+        }
+    }
+
+    /**
+     * Returns the next element at the path.
+     *
+     * @return the next element
+     * @throws BError if the document is not well-formed or cannot be read
+     */
+    @Override
+    public BXml next() throws BError {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = this.element;
+        this.element = null;
+        return element;
+    }
+
+    private BXml readElement() throws XMLStreamException {
+        XMLStreamReader xmlStreamReader = this.xmlStreamReader;
+        while (xmlStreamReader.hasNext()) {
+            int event = xmlStreamReader.next();
+            if (event == START_ELEMENT) {
+                if (this.path.isEmpty()) {
+                    return new XmlTreeBuilder(xmlStreamReader).parseElement();
+                }
+                if (!this.path.get(this.depth).equals(xmlStreamReader.getName().toString())) {
+                    // Elements at the path cannot be inside an element which is not in the path
+                    skipElement();
+                } else if (this.depth == this.path.size() - 1) {
+                    return new XmlTreeBuilder(xmlStreamReader).parseElement();
+                } else {
+                    this.depth++;
+                }
+            } else if (event == END_ELEMENT) {
+                this.depth--;
+            }
+        }
+        this.ended = true;
+        xmlStreamReader.close();
+        return null;
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = this.xmlStreamReader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
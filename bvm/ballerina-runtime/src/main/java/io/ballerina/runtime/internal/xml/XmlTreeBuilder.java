@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal.xml;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
@@ -90,18 +91,42 @@ public class XmlTreeBuilder {
         seqDeque.push(new XmlSequence(siblings));
 
         try {
-            xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(stringReader);
+            xmlStreamReader = createXmlStreamReader(stringReader);
         } catch (XMLStreamException e) {
             handleXMLStreamException(e);
         }
     }
 
-    private void handleXMLStreamException(Exception e) {
+    /**
+     * Creates a tree builder which builds elements read by the given reader, using {@link #parseElement()}.
+     *
+     * @param xmlStreamReader reader of the XML document
+     */
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader) {
+        namespaces = new HashMap<>();
+        seqDeque = new ArrayDeque<>();
+        siblingDeque = new ArrayDeque<>();
+
+        ArrayList<BXml> siblings = new ArrayList<>();
+        siblingDeque.push(siblings);
+        seqDeque.push(new XmlSequence(siblings));
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    static XMLStreamReader createXmlStreamReader(Reader reader) throws XMLStreamException {
+        return XML_INPUT_FACTORY.createXMLStreamReader(reader);
+    }
+
+    static BError createParseError(Exception e) {
         String reason = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
         if (reason == null) {
-            throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
+            return ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
         }
-        throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + reason));
+        return ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + reason));
+    }
+
+    private void handleXMLStreamException(Exception e) {
+        throw createParseError(e);
     }
 
     public BXml parse() {
@@ -152,6 +177,55 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at the current {@code START_ELEMENT} event of the reader. The reader is left at the
+     * {@code END_ELEMENT} event of the element.
+     *
+     * @return the element
+     * @throws XMLStreamException if the element is not well-formed
+     */
+    BXml parseElement() throws XMLStreamException {
+        boolean readNext = false;
+        int depth = 0;
+        int next = xmlStreamReader.getEventType();
+        while (true) {
+            switch (next) {
+                case START_ELEMENT:
+                    readElement(xmlStreamReader);
+                    depth++;
+                    break;
+                case END_ELEMENT:
+                    endElement();
+                    depth--;
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    readPI(xmlStreamReader);
+                    break;
+                case COMMENT:
+                    readComment(xmlStreamReader);
+                    break;
+                case CDATA:
+                    readCData(xmlStreamReader);
+                    break;
+                case CHARACTERS:
+                    readText(xmlStreamReader);
+                    readNext = true;
+                    break;
+                default:
+                    break;
+            }
+            if (depth == 0) {
+                return siblingDeque.peek().get(0);
+            }
+            if (readNext) {
+                readNext = false;
+                next = xmlStreamReader.getEventType();
+            } else {
+                next = xmlStreamReader.next();
+            }
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
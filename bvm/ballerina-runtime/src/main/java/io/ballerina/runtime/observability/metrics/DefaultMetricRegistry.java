@@ -17,6 +17,8 @@
  */
 package io.ballerina.runtime.observability.metrics;
 
+import io.ballerina.runtime.api.types.semtype.TypeCheckCache;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
 import java.util.Objects;
@@ -50,6 +52,8 @@ public final class DefaultMetricRegistry {
             throw new IllegalStateException("Default Metric Registry has already been set");
         }
         DefaultMetricRegistry.instance = Objects.requireNonNull(instance);
+        TypeCheckCache.registerMetrics(instance);
+        RegExpPatternCache.registerMetrics(instance);
     }
 
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.lock.BLockStore;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Test cases for the Ballerina lock handling of {@link BLockStore}.
+ */
+public class BLockStoreTests {
+
+    @Test
+    void testGlobalLockIsResolvedOncePerName() {
+        BLockStore lockStore = new BLockStore("testorg/locks:1");
+        Assert.assertSame(lockStore.getLock("lock0"), lockStore.getLock("lock0"));
+        Assert.assertNotSame(lockStore.getLock("lock0"), lockStore.getLock("lock1"));
+    }
+
+    @Test
+    void testUncontendedLockDoesNotYieldStrand() {
+        BLockStore lockStore = new BLockStore("testorg/locks:1");
+        Strand strand = new Strand(new Scheduler(null), "main", null, false, null, null);
+        ReentrantLock lock = lockStore.getLock("lock0");
+        strand.resume();
+        try {
+            lockStore.lock(strand, lock);
+            Assert.assertTrue(lock.isHeldByCurrentThread());
+            Assert.assertEquals(strand.acquiredLockCount, 1);
+            Assert.assertTrue(strand.isRunnable());
+
+            lockStore.unlock(strand, lock);
+            Assert.assertFalse(lock.isHeldByCurrentThread());
+            Assert.assertEquals(strand.acquiredLockCount, 0);
+            Assert.assertTrue(strand.isRunnable());
+        } finally {
+            strand.done();
+        }
+        Assert.assertEquals(lockStore.getContentionCount("lock0"), 0);
+    }
+
+    @Test
+    void testContendedLockIsCounted() throws InterruptedException {
+        BLockStore lockStore = new BLockStore("testorg/locks:1");
+        Strand strand = new Strand(new Scheduler(null), "worker", null, true, null, null);
+        ReentrantLock lock = lockStore.getLock("lock0");
+        boolean[] acquired = new boolean[1];
+        Thread thread = new Thread(() -> {
+            lockStore.lock(strand, "lock0");
+            acquired[0] = lock.isHeldByCurrentThread();
+            lockStore.unlock(strand, "lock0");
+        });
+
+        lock.lock();
+        try {
+            thread.start();
+            while (!lock.hasQueuedThread(thread)) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            lock.unlock();
+        }
+        thread.join();
+        Assert.assertTrue(acquired[0]);
+        Assert.assertEquals(strand.acquiredLockCount, 0);
+        Assert.assertEquals(lockStore.getContentionCount("lock0"), 1);
+        Assert.assertEquals(lockStore.getContentionCount("lock1"), 0);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.json.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.Iterator;
+
+/**
+ * Test cases for parsing JSON into values of target types with the {@link JsonParser}.
+ */
+public class JsonParserTests {
+
+    @Test
+    void testParseIntArray() {
+        BArray array = (BArray) JsonParser.parse("[1, -2, 0, 9223372036854775807, -9223372036854775808]",
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(array.getIntArray(), new long[]{1, -2, 0, Long.MAX_VALUE, Long.MIN_VALUE});
+    }
+
+    @Test
+    void testParsePrimitiveArrays() {
+        BArray floats = (BArray) JsonParser.parse("[1.5, -2, 3e2]",
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT));
+        Assert.assertEquals(floats.getFloatArray(), new double[]{1.5, -2, 300});
+        BArray booleans = (BArray) JsonParser.parse("[true, false]",
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_BOOLEAN));
+        Assert.assertEquals(booleans.getBooleanArray(), new boolean[]{true, false});
+        BArray bytes = (BArray) JsonParser.parse("[0, 255]", TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE));
+        Assert.assertEquals(bytes.getByteArray(), new byte[]{0, (byte) 255});
+    }
+
+    @Test
+    void testParseIntSubtypeArray() {
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT_UNSIGNED_8);
+        BArray array = (BArray) JsonParser.parse("[0, 255]", arrayType);
+        Assert.assertEquals(array.getIntArray(), new long[]{0, 255});
+        BError error = Assert.expectThrows(BError.class, () -> JsonParser.parse("[256]", arrayType));
+        Assert.assertTrue(error.getMessage().contains("value '256' cannot be converted"),
+                error.getMessage());
+    }
+
+    @Test
+    void testParseClosedArray() {
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT, 2);
+        BArray array = (BArray) JsonParser.parse("[1, 2]", arrayType);
+        Assert.assertEquals(array.getIntArray(), new long[]{1, 2});
+        Assert.expectThrows(BError.class, () -> JsonParser.parse("[1, 2, 3]", arrayType));
+    }
+
+    @Test
+    void testParseIntMap() {
+        BMap<?, ?> map = (BMap<?, ?>) JsonParser.parse("{\"a\": 12, \"b\": -3}",
+                TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(map.get(StringUtils.fromString("a")), 12L);
+        Assert.assertEquals(map.get(StringUtils.fromString("b")), -3L);
+        BError error = Assert.expectThrows(BError.class, () -> JsonParser.parse("{\"a\": 1.5}",
+                TypeCreator.createMapType(PredefinedTypes.TYPE_INT)));
+        Assert.assertTrue(error.getMessage().contains("value '1.5' cannot be converted"),
+                error.getMessage());
+    }
+
+    @Test
+    void testParseArrayMembers() {
+        Iterator<Object> members = JsonUtils.parseArrayMembers(
+                new StringReader(" [1, {\"a\": [2, \"],}\\\"\"]}, \"b\", null] "), PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(members.next(), 1L);
+        BMap<?, ?> member = (BMap<?, ?>) members.next();
+        Assert.assertEquals(member.getArrayValue(StringUtils.fromString("a")).getRefValue(1).toString(), "],}\"");
+        Assert.assertEquals(members.next().toString(), "b");
+        Assert.assertTrue(members.hasNext());
+        Assert.assertNull(members.next());
+        Assert.assertFalse(members.hasNext());
+    }
+
+    @Test
+    void testParseArrayMembersWithType() {
+        Iterator<Object> members = JsonUtils.parseArrayMembers(new StringReader("[[1, 2], []]"),
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(((BArray) members.next()).getIntArray(), new long[]{1, 2});
+        Assert.assertEquals(((BArray) members.next()).getIntArray(), new long[]{});
+        Assert.assertFalse(members.hasNext());
+    }
+
+    @Test
+    void testParseArrayMembersOfInvalidArray() {
+        Iterator<Object> members = JsonUtils.parseArrayMembers(new StringReader("[1, 2,]"),
+                PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(members.next(), 1L);
+        Assert.assertEquals(members.next(), 2L);
+        BError error = Assert.expectThrows(BError.class, members::hasNext);
+        Assert.assertEquals(error.getMessage(), "expected an array element at line: 1 column: 7");
+        Assert.assertFalse(members.hasNext());
+
+        members = JsonUtils.parseArrayMembers(new StringReader("{\"a\": 1}"), PredefinedTypes.TYPE_JSON);
+        error = Assert.expectThrows(BError.class, members::hasNext);
+        Assert.assertEquals(error.getMessage(), "expected '[' at line: 1 column: 1");
+    }
+}
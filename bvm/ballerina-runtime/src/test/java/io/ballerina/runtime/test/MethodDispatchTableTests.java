@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.types.BMethodType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.types.MethodDispatchTable;
+import io.ballerina.runtime.internal.types.MethodDispatchTable.DispatchMethod;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link MethodDispatchTable}.
+ */
+public class MethodDispatchTableTests {
+
+    private static final Module MODULE = new Module("testorg", "dispatch", "1");
+
+    @Test
+    void testDispatchTableIsBuiltOncePerType() {
+        BObjectType objectType = new BObjectType("Counter", MODULE, 0);
+        objectType.setMethods(new MethodType[]{createMethod(objectType, "increment")});
+        MethodDispatchTable dispatchTable = MethodDispatchTable.of(objectType);
+        Assert.assertSame(MethodDispatchTable.of(objectType), dispatchTable);
+        Assert.assertEquals(dispatchTable.getMethod("increment").getMethodType().getName(), "increment");
+    }
+
+    @Test
+    void testDispatchTableIsRebuiltWhenMethodsChange() {
+        BObjectType objectType = new BObjectType("Counter", MODULE, 0);
+        objectType.setMethods(new MethodType[]{createMethod(objectType, "increment")});
+        MethodDispatchTable dispatchTable = MethodDispatchTable.of(objectType);
+        objectType.setMethods(new MethodType[]{createMethod(objectType, "increment"),
+                createMethod(objectType, "reset")});
+        Assert.assertNotSame(MethodDispatchTable.of(objectType), dispatchTable);
+        Assert.assertEquals(MethodDispatchTable.of(objectType).getMethod("reset").getMethodType().getName(), "reset");
+    }
+
+    @Test
+    void testDefaultParameters() {
+        BObjectType objectType = new BObjectType("Counter", MODULE, 0);
+        objectType.setMethods(new MethodType[]{createMethod(objectType, "add",
+                new Parameter("amount", false, null, PredefinedTypes.TYPE_INT),
+                new Parameter("times", true, "$default$add$times", PredefinedTypes.TYPE_INT),
+                new Parameter("label", true, "$default$add$label", PredefinedTypes.TYPE_STRING))});
+        DispatchMethod method = MethodDispatchTable.of(objectType).getMethod("add");
+        Assert.assertEquals(method.getParameterCount(), 3);
+        Assert.assertEquals(method.getArgCount(), 3);
+        Assert.assertEquals(method.getDefaultParameterCount(), 2);
+        Assert.assertEquals(method.getDefaultParameterIndex(0), 1);
+        Assert.assertEquals(method.getDefaultFunctionName(0), "$default$add$times");
+        Assert.assertEquals(method.getDefaultParameterIndex(1), 2);
+        Assert.assertEquals(method.getDefaultFunctionName(1), "$default$add$label");
+    }
+
+    @Test
+    void testRestParameterIsCountedAsArgument() {
+        BObjectType objectType = new BObjectType("Counter", MODULE, 0);
+        BFunctionType functionType = new BFunctionType(MODULE, new Parameter[0], PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_NULL, 0, "addAll");
+        objectType.setMethods(new MethodType[]{new BMethodType("addAll", MODULE, objectType, functionType, 0)});
+        DispatchMethod method = MethodDispatchTable.of(objectType).getMethod("addAll");
+        Assert.assertEquals(method.getParameterCount(), 0);
+        Assert.assertEquals(method.getArgCount(), 1);
+        Assert.assertEquals(method.getDefaultParameterCount(), 0);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "No such method: decrement")
+    void testMissingMethod() {
+        BObjectType objectType = new BObjectType("Counter", MODULE, 0);
+        objectType.setMethods(new MethodType[]{createMethod(objectType, "increment")});
+        MethodDispatchTable.of(objectType).getMethod("decrement");
+    }
+
+    private static MethodType createMethod(BObjectType objectType, String name, Parameter... parameters) {
+        Type returnType = PredefinedTypes.TYPE_NULL;
+        BFunctionType functionType = new BFunctionType(MODULE, parameters, null, returnType, 0, name);
+        return new BMethodType(name, MODULE, objectType, functionType, 0);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for {@link RegExpPatternCache}.
+ */
+public class RegExpPatternCacheTests {
+
+    @BeforeClass
+    void setup() {
+        RegExpPatternCache.registerMetrics(new MetricRegistry(new NoOpMetricProvider()));
+    }
+
+    @Test
+    void testPatternIsCompiledOncePerValue() {
+        RegExpValue regExp = RegExpFactory.parse("[a-z]+\\d");
+        Pattern first = RegExpPatternCache.getPattern(regExp, Pattern.UNICODE_CHARACTER_CLASS);
+        long hits = RegExpPatternCache.getHitCount();
+        Pattern second = RegExpPatternCache.getPattern(regExp, Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(RegExpPatternCache.getHitCount(), hits + 1);
+        Assert.assertTrue(first.matcher("abc1").matches());
+    }
+
+    @Test
+    void testDynamicValuesShareCachedPattern() {
+        Pattern first = RegExpPatternCache.getPattern(RegExpFactory.parse("x.y"), 0);
+        long misses = RegExpPatternCache.getMissCount();
+        Pattern second = RegExpPatternCache.getPattern(RegExpFactory.parse("x.y"), 0);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), misses);
+        Assert.assertFalse(first.matcher("x\ny").matches());
+    }
+
+    @Test
+    void testFlagsAreHonoured() {
+        RegExpValue regExp = RegExpFactory.parse("\\w+");
+        Pattern unicode = RegExpPatternCache.getPattern(regExp, Pattern.UNICODE_CHARACTER_CLASS);
+        Pattern plain = RegExpPatternCache.getPattern(regExp, 0);
+        Assert.assertEquals(unicode.flags(), Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertEquals(plain.flags(), 0);
+    }
+
+    @Test
+    void testPatternIsMemoizedForEachFlags() {
+        RegExpValue regExp = RegExpFactory.parse("[0-9]+,");
+        Pattern unicode = RegExpPatternCache.getPattern(regExp, Pattern.UNICODE_CHARACTER_CLASS);
+        Pattern plain = RegExpPatternCache.getPattern(regExp, 0);
+        long hits = RegExpPatternCache.getHitCount();
+        long misses = RegExpPatternCache.getMissCount();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertSame(RegExpPatternCache.getPattern(regExp, Pattern.UNICODE_CHARACTER_CLASS), unicode);
+            Assert.assertSame(RegExpPatternCache.getPattern(regExp, 0), plain);
+        }
+        Assert.assertEquals(RegExpPatternCache.getHitCount(), hits + 6);
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), misses);
+        Assert.assertSame(regExp.getCompiledPattern(0), plain);
+        Assert.assertSame(regExp.getCompiledPattern(Pattern.UNICODE_CHARACTER_CLASS), unicode);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.scheduling.NonIsolatedLockMode;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Test cases for the non-isolated lock partitioning of the {@link Scheduler}.
+ */
+public class SchedulerLockModeTests {
+
+    private static final Module MODULE_A = new Module("testorg", "a", "1");
+    private static final Module MODULE_B = new Module("testorg", "b", "1");
+    private static final Module MODULE_SHARED = new Module("testorg", "shared", "1");
+    private static final Module MODULE_STATELESS = new Module("testorg", "stateless", "1");
+    private static final int SHARED_STATE_UPDATE_COUNT = 1000;
+
+    @Test
+    void testLockModeFromString() {
+        Assert.assertEquals(NonIsolatedLockMode.fromString(null), NonIsolatedLockMode.GLOBAL);
+        Assert.assertEquals(NonIsolatedLockMode.fromString("module"), NonIsolatedLockMode.MODULE);
+        Assert.assertEquals(NonIsolatedLockMode.fromString(" Global "), NonIsolatedLockMode.GLOBAL);
+        Assert.assertEquals(NonIsolatedLockMode.fromString("unknown"), NonIsolatedLockMode.GLOBAL);
+    }
+
+    @Test
+    void testGlobalModeUsesSingleLock() {
+        Scheduler scheduler = new Scheduler(null, NonIsolatedLockMode.GLOBAL);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, MODULE_A), scheduler.globalNonIsolatedLock);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, MODULE_B), scheduler.globalNonIsolatedLock);
+    }
+
+    @Test
+    void testModulesReachingSharedStateShareLock() throws InterruptedException {
+        Scheduler scheduler = new Scheduler(null, NonIsolatedLockMode.MODULE);
+        scheduler.addModuleDependencies(MODULE_SHARED, new Module[]{}, true);
+        scheduler.addModuleDependencies(MODULE_A, new Module[]{MODULE_SHARED}, false);
+        scheduler.addModuleDependencies(MODULE_B, new Module[]{MODULE_SHARED}, false);
+        ReentrantLock lockA = scheduler.getNonIsolatedLock(null, MODULE_A);
+        ReentrantLock lockB = scheduler.getNonIsolatedLock(null, new Module("testorg", "b", "1"));
+        Assert.assertSame(lockA, lockB);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, MODULE_SHARED), lockA);
+
+        // Strands entering through both modules update the state of the shared module
+        int[] sharedState = new int[1];
+        Thread[] threads = new Thread[]{
+                new Thread(() -> updateSharedState(lockA, sharedState)),
+                new Thread(() -> updateSharedState(lockB, sharedState))
+        };
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(sharedState[0], 2 * SHARED_STATE_UPDATE_COUNT);
+    }
+
+    @Test
+    void testModulesReachingDisjointStateUseDifferentLocks() {
+        Scheduler scheduler = new Scheduler(null, NonIsolatedLockMode.MODULE);
+        scheduler.addModuleDependencies(MODULE_SHARED, new Module[]{}, true);
+        scheduler.addModuleDependencies(MODULE_A, new Module[]{MODULE_SHARED}, false);
+        scheduler.addModuleDependencies(MODULE_B, new Module[]{}, true);
+        scheduler.addModuleDependencies(MODULE_STATELESS, new Module[]{}, false);
+        ReentrantLock lockA = scheduler.getNonIsolatedLock(null, MODULE_A);
+        ReentrantLock lockB = scheduler.getNonIsolatedLock(null, MODULE_B);
+        ReentrantLock statelessLock = scheduler.getNonIsolatedLock(null, MODULE_STATELESS);
+        Assert.assertNotSame(lockA, lockB);
+        Assert.assertNotSame(statelessLock, lockA);
+        Assert.assertNotSame(statelessLock, lockB);
+        Assert.assertNotSame(lockA, scheduler.globalNonIsolatedLock);
+    }
+
+    @Test
+    void testModulesReachingRootStateUseGlobalLock() {
+        Module rootModule = new Module("testorg", "root", "1");
+        Scheduler scheduler = new Scheduler(new BalRuntime(rootModule), NonIsolatedLockMode.MODULE);
+        scheduler.addModuleDependencies(MODULE_SHARED, new Module[]{}, true);
+        scheduler.addModuleDependencies(MODULE_A, new Module[]{MODULE_SHARED}, false);
+        scheduler.addModuleDependencies(MODULE_STATELESS, new Module[]{}, false);
+        scheduler.addModuleDependencies(rootModule, new Module[]{MODULE_A, MODULE_STATELESS}, false);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, rootModule), scheduler.globalNonIsolatedLock);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, MODULE_A), scheduler.globalNonIsolatedLock);
+        Assert.assertNotSame(scheduler.getNonIsolatedLock(null, MODULE_STATELESS), scheduler.globalNonIsolatedLock);
+    }
+
+    @Test
+    void testUnknownModulesUseGlobalLock() {
+        Scheduler scheduler = new Scheduler(null, NonIsolatedLockMode.MODULE);
+        // A module importing a module, which is not registered, may reach any state through it
+        scheduler.addModuleDependencies(MODULE_A, new Module[]{MODULE_SHARED}, false);
+        scheduler.addModuleDependencies(MODULE_B, new Module[]{MODULE_SHARED}, false);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, MODULE_A), scheduler.getNonIsolatedLock(null, MODULE_B));
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, MODULE_SHARED), scheduler.globalNonIsolatedLock);
+        Assert.assertSame(scheduler.getNonIsolatedLock(null, null), scheduler.globalNonIsolatedLock);
+    }
+
+    private static void updateSharedState(ReentrantLock lock, int[] sharedState) {
+        for (int i = 0; i < SHARED_STATE_UPDATE_COUNT; i++) {
+            lock.lock();
+            try {
+                int value = sharedState[0];
+                Thread.yield();
+                sharedState[0] = value + 1;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Test
+    void testChildStrandStaysInParentPartition() throws InterruptedException {
+        Scheduler scheduler = new Scheduler(null, NonIsolatedLockMode.MODULE);
+        Strand parent = new Strand(scheduler, "parent", null, false, null, null);
+        Strand child = new Strand(scheduler, "child", parent, false, null, null);
+        Assert.assertSame(scheduler.getNonIsolatedLock(child, MODULE_B), scheduler.getNonIsolatedLock(parent, null));
+
+        parent.resume();
+        try {
+            Assert.assertTrue(parent.isRunnable());
+            boolean[] otherThreadAcquired = new boolean[1];
+            Thread thread = new Thread(() -> otherThreadAcquired[0] = scheduler.globalNonIsolatedLock.tryLock());
+            thread.start();
+            thread.join();
+            Assert.assertFalse(otherThreadAcquired[0]);
+        } finally {
+            parent.done();
+        }
+        Assert.assertFalse(parent.isRunnable());
+    }
+}
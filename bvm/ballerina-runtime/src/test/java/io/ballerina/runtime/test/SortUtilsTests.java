@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.SortUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test cases for the sort kernels of lang.array:sort.
+ */
+public class SortUtilsTests {
+
+    @Test
+    void testSortInts() {
+        long[] values = {3, Long.MIN_VALUE, -1, Long.MAX_VALUE, 3};
+        SortUtils.sortInts(values, false);
+        Assert.assertEquals(values, new long[]{Long.MAX_VALUE, 3, 3, -1, Long.MIN_VALUE});
+    }
+
+    @Test
+    void testSortFloats() {
+        double[] values = {0.0, Double.NaN, -1.5, -0.0, Double.NEGATIVE_INFINITY, 0.0};
+        SortUtils.sortFloats(values, true);
+        Assert.assertEquals(Arrays.toString(values), "[-Infinity, -1.5, 0.0, -0.0, 0.0, NaN]");
+
+        values = new double[]{-0.0, Double.NaN, 2.5, 0.0, Double.POSITIVE_INFINITY};
+        SortUtils.sortFloats(values, false);
+        Assert.assertEquals(Arrays.toString(values), "[Infinity, 2.5, -0.0, 0.0, NaN]");
+    }
+
+    @Test
+    void testSortBytesAndBooleans() {
+        byte[] bytes = {(byte) 255, 3, 0, (byte) 128, 3};
+        SortUtils.sortBytes(bytes, true);
+        Assert.assertEquals(bytes, new byte[]{0, 3, 3, (byte) 128, (byte) 255});
+
+        boolean[] booleans = {false, true, false, true, true};
+        SortUtils.sortBooleans(booleans, false);
+        Assert.assertEquals(booleans, new boolean[]{true, true, true, false, false});
+    }
+
+    @Test
+    void testSortStringsByCodePoints() {
+        // U+1F600 is encoded with surrogates, which are below U+FFFF in UTF-16
+        BString[] values = toBStrings("😀", "￿", "b", "ab", "", "a");
+        SortUtils.sortStrings(values, true);
+        Assert.assertEquals(Arrays.toString(values), "[, a, ab, b, ￿, 😀]");
+    }
+
+    @Test
+    void testSortIndicesIsStable() {
+        Object[] keys = {2L, 1L, 2L, 1L};
+        Assert.assertEquals(SortUtils.sortIndices(keys, "ascending"), new int[]{1, 3, 0, 2});
+        Assert.assertEquals(SortUtils.sortIndices(keys, "descending"), new int[]{0, 2, 1, 3});
+
+        keys = new Object[]{0.0, Double.NaN, -0.0, -1.0};
+        Assert.assertEquals(SortUtils.sortIndices(keys, "ascending"), new int[]{3, 0, 2, 1});
+        Assert.assertEquals(SortUtils.sortIndices(keys, "descending"), new int[]{0, 2, 3, 1});
+
+        keys = toBStrings("b", "a", "b", "a");
+        Assert.assertEquals(SortUtils.sortIndices(keys, "descending"), new int[]{0, 2, 1, 3});
+    }
+
+    @Test
+    void testSortIndicesWithNil() {
+        Object[] keys = {null, 1L, 3L, null, 0L};
+        Assert.assertEquals(SortUtils.sortIndices(keys, "ascending"), new int[]{4, 1, 2, 0, 3});
+        Assert.assertEquals(SortUtils.sortIndices(keys, "descending"), new int[]{2, 1, 4, 0, 3});
+    }
+
+    @Test
+    void testSortLargeArrays() {
+        Random random = new Random(0);
+        int length = 100000;
+        long[] values = new long[length];
+        Object[] keys = new Object[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(1000);
+            keys[i] = values[i];
+        }
+        int[] indices = SortUtils.sortIndices(keys, "ascending");
+        SortUtils.sortInts(values, true);
+        for (int i = 1; i < length; i++) {
+            Assert.assertTrue(values[i - 1] <= values[i]);
+            Assert.assertEquals(keys[indices[i]], values[i]);
+            if (values[i - 1] == values[i]) {
+                Assert.assertTrue(indices[i - 1] < indices[i]);
+            }
+        }
+    }
+
+    private static BString[] toBStrings(String... values) {
+        return Arrays.stream(values).map(StringUtils::fromString).toArray(BString[]::new);
+    }
+}
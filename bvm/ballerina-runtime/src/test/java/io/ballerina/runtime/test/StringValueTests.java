@@ -1,6 +1,11 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.StringInternCache;
+import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +45,73 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testRepeatedConcatenation() {
+        BString subject = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            String piece = i % 7 == 0 ? UNICODE_STR : "piece" + i;
+            subject = subject.concat(StringUtils.fromString(piece));
+            expected.append(piece);
+        }
+        BString expectedValue = StringUtils.fromString(expected.toString());
+        Assert.assertTrue(subject instanceof RopeStringValue);
+        Assert.assertEquals(subject.length(), expectedValue.length());
+        Assert.assertEquals(subject, expectedValue);
+        Assert.assertEquals(subject.hashCode(), expectedValue.hashCode());
+        for (int i = 0; i < expectedValue.length(); i++) {
+            Assert.assertEquals(subject.getCodePoint(i), expectedValue.getCodePoint(i));
+        }
+        Assert.assertEquals(((RopeStringValue) subject).getSurrogates(),
+                ((NonBmpStringValue) expectedValue).getSurrogates());
+    }
+
+    @Test
+    void testConcatenationToSharedPrefix() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString(UNICODE_STR));
+        BString first = prefix.concat(StringUtils.fromString("first"));
+        BString second = prefix.concat(StringUtils.fromString("second"));
+        Assert.assertEquals(prefix.getValue(), "a".repeat(300) + UNICODE_STR);
+        Assert.assertEquals(first.getValue(), "a".repeat(300) + UNICODE_STR + "first");
+        Assert.assertEquals(second.getValue(), "a".repeat(300) + UNICODE_STR + "second");
+        Assert.assertEquals(second.length(), 300 + 16 + 6);
+        Assert.assertEquals(second.getCodePoint(314), 0x1F47D);
+        Assert.assertEquals(second.substring(315, 317).getValue(), "rs");
+    }
+
+    @Test
+    void testFromStringSurrogates() {
+        BString subject = StringUtils.fromString(UNICODE_STR);
+        Assert.assertTrue(subject instanceof NonBmpStringValue);
+        Assert.assertEquals(((NonBmpStringValue) subject).getSurrogates(), new int[]{1, 14});
+
+        StringBuilder manySurrogates = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            manySurrogates.append("a\uD83D\uDEF8");
+        }
+        int[] surrogates = ((NonBmpStringValue) StringUtils.fromString(manySurrogates.toString())).getSurrogates();
+        Assert.assertEquals(surrogates.length, 10);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(surrogates[i], i * 2 + 1);
+        }
+        Assert.assertTrue(StringUtils.fromString("Caf\u00E9") instanceof BmpStringValue);
+    }
+
+    @Test
+    void testFromStringLoneSurrogate() {
+        // A lone high surrogate followed by a surrogate pair
+        BString subject = StringUtils.fromString("a\uD83D\uD83D\uDEF8b");
+        Assert.assertEquals(((NonBmpStringValue) subject).getSurrogates(), new int[]{1, 1});
+        subject = StringUtils.fromString("a\uD83D\uDEF8\uD83D");
+        Assert.assertEquals(((NonBmpStringValue) subject).getSurrogates(), new int[]{1, 2});
+    }
+
+    @Test
+    void testInternedStrings() {
+        BString fieldName = StringInternCache.get("name");
+        Assert.assertSame(StringInternCache.get("name"), fieldName);
+        Assert.assertEquals(StringInternCache.get(UNICODE_STR), StringUtils.fromString(UNICODE_STR));
+        String longString = "a".repeat(100);
+        Assert.assertNotSame(StringInternCache.get(longString), StringInternCache.get(longString));
+    }
 }
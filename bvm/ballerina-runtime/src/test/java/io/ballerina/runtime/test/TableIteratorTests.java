@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for iterating tables while their rows are added and removed.
+ */
+public class TableIteratorTests {
+
+    private static final MapType ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Test
+    void testIterationContinuesAfterCompaction() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        for (int i = 0; i < 32; i++) {
+            table.add(createRow("row" + i));
+        }
+        BIterator<?> iterator = table.getIterator();
+        List<String> names = new ArrayList<>();
+        names.add(nextName(iterator));
+        names.add(nextName(iterator));
+
+        // Removing most of the rows makes the next added row move the remaining rows to the start
+        for (int i = 0; i < 20; i++) {
+            table.remove(StringUtils.fromString("row" + i));
+        }
+        table.add(createRow("added"));
+        while (iterator.hasNext()) {
+            names.add(nextName(iterator));
+        }
+
+        List<String> expected = new ArrayList<>(List.of("row0", "row1"));
+        for (int i = 20; i < 32; i++) {
+            expected.add("row" + i);
+        }
+        expected.add("added");
+        Assert.assertEquals(names, expected);
+    }
+
+    @Test
+    void testIterationVisitsRowAddedToReusedSlot() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        for (int i = 0; i < 3; i++) {
+            table.add(createRow("row" + i));
+        }
+        BIterator<?> iterator = table.getIterator();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(nextName(iterator), "row" + i);
+        }
+        Assert.assertFalse(iterator.hasNext());
+
+        // The slot of the last row is reused by the added row
+        table.remove(StringUtils.fromString("row2"));
+        table.add(createRow("added"));
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(nextName(iterator), "added");
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BTable<BString, BMap<BString, Object>> createTable() {
+        return (BTable<BString, BMap<BString, Object>>) ValueCreator.createTableValue(
+                TypeCreator.createTableType(ROW_TYPE, new String[]{"name"}, false));
+    }
+
+    private static BMap<BString, Object> createRow(String name) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(ROW_TYPE);
+        row.put(NAME, StringUtils.fromString(name));
+        return row;
+    }
+
+    private static String nextName(BIterator<?> iterator) {
+        BMap<?, ?> row = (BMap<?, ?>) ((BArray) iterator.next()).get(1);
+        return row.get(NAME).toString();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.types.semtype.CacheableTypeDescriptor;
+import io.ballerina.runtime.api.types.semtype.TypeCheckCache;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Test cases for the {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    void testCachedResults() {
+        TypeCheckCache cache = new TypeCheckCache();
+        Assert.assertNull(cache.cachedTypeCheckResult(type(1)));
+
+        cache.cacheTypeCheckResult(type(1), true);
+        cache.cacheTypeCheckResult(type(-2), false);
+        cache.cacheTypeCheckResult(type(0), false);
+        Assert.assertEquals(cache.cachedTypeCheckResult(type(1)), Boolean.TRUE);
+        Assert.assertEquals(cache.cachedTypeCheckResult(type(-2)), Boolean.FALSE);
+        Assert.assertEquals(cache.cachedTypeCheckResult(type(0)), Boolean.FALSE);
+        Assert.assertNull(cache.cachedTypeCheckResult(type(2)));
+    }
+
+    @Test
+    void testResultsOfManyTypes() {
+        TypeCheckCache cache = new TypeCheckCache();
+        for (int typeId = 0; typeId < 5000; typeId++) {
+            cache.cacheTypeCheckResult(type(typeId), typeId % 3 == 0);
+        }
+        int cachedCount = 0;
+        for (int typeId = 0; typeId < 5000; typeId++) {
+            Boolean result = cache.cachedTypeCheckResult(type(typeId));
+            if (result != null) {
+                Assert.assertEquals(result.booleanValue(), typeId % 3 == 0);
+                cachedCount++;
+            }
+        }
+        // Results of other types are evicted once the cache is full, but the latest result is always kept
+        Assert.assertTrue(cachedCount > 0 && cachedCount <= 1024, "cached " + cachedCount + " results");
+        Assert.assertEquals(cache.cachedTypeCheckResult(type(4999)), Boolean.FALSE);
+    }
+
+    @Test
+    void testStatistics() {
+        TypeCheckCache.registerMetrics(new MetricRegistry(new NoOpMetricProvider()));
+        long hits = TypeCheckCache.getHitCount();
+        long misses = TypeCheckCache.getMissCount();
+
+        TypeCheckCache cache = new TypeCheckCache();
+        cache.cachedTypeCheckResult(type(7));
+        cache.cacheTypeCheckResult(type(7), true);
+        cache.cachedTypeCheckResult(type(7));
+        cache.cachedTypeCheckResult(type(7));
+        Assert.assertTrue(TypeCheckCache.getHitCount() - hits >= 2);
+        Assert.assertTrue(TypeCheckCache.getMissCount() - misses >= 1);
+    }
+
+    private static CacheableTypeDescriptor type(int typeId) {
+        return (CacheableTypeDescriptor) Proxy.newProxyInstance(TypeCheckCacheTests.class.getClassLoader(),
+                new Class<?>[]{CacheableTypeDescriptor.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("typeId")) {
+                        return typeId;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.utils.Utf8BufferWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for encoding characters as UTF-8 with the {@link Utf8BufferWriter}.
+ */
+public class Utf8BufferWriterTests {
+
+    @Test
+    void testWriteNonAsciiCharacters() throws IOException {
+        String text = "aéह😀b";
+        Assert.assertEquals(writeToStream(text), text.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(writeToChannel(text), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteSurrogatePairAcrossWrites() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8BufferWriter writer = new Utf8BufferWriter(out)) {
+            writer.write("x\ud83d");
+            writer.write("\ude00");
+        }
+        Assert.assertEquals(out.toString(StandardCharsets.UTF_8), "x😀");
+    }
+
+    @Test
+    void testWriteUnpairedSurrogates() throws IOException {
+        Assert.assertEquals(new String(writeToStream("a\ud83db"), StandardCharsets.UTF_8), "a?b");
+        Assert.assertEquals(new String(writeToStream("a\ude00b"), StandardCharsets.UTF_8), "a?b");
+        Assert.assertEquals(new String(writeToStream("a\ud83d"), StandardCharsets.UTF_8), "a?");
+    }
+
+    @Test
+    void testWriteMoreThanBufferSize() throws IOException {
+        String text = "abé€😀".repeat(5000);
+        Assert.assertEquals(writeToStream(text), text.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(writeToChannel(text), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteEncodedBytes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8BufferWriter writer = new Utf8BufferWriter(out)) {
+            writer.write("{");
+            writer.writeEncoded("\"é\":".getBytes(StandardCharsets.UTF_8));
+            writer.write("1}");
+        }
+        Assert.assertEquals(out.toString(StandardCharsets.UTF_8), "{\"é\":1}");
+    }
+
+    @Test
+    void testSerializeJsonToChannel() {
+        Object json = JsonUtils.parse("{\"name\": \"café\", \"items\": [1, 2.5, true, null, \"😀\"]}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, Channels.newChannel(out));
+        Assert.assertEquals(out.toString(StandardCharsets.UTF_8), StringUtils.getJsonString(json));
+    }
+
+    private static byte[] writeToStream(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8BufferWriter writer = new Utf8BufferWriter(out)) {
+            writer.write(text);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] writeToChannel(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8BufferWriter writer = new Utf8BufferWriter(Channels.newChannel(out))) {
+            writer.write(text.toCharArray());
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.NonIsolatedLockMode;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WorkerChannelMap;
+import io.ballerina.runtime.internal.scheduling.WorkerUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for worker message passing through the {@link WorkerChannelMap}.
+ */
+public class WorkerChannelTests {
+
+    private static final String CHANNEL_KEY = "w1->w2";
+
+    @Test
+    void testReceiveSentMessage() {
+        WorkerChannelMap channelMap = new WorkerChannelMap();
+        WorkerUtils.addWorkerChannels(channelMap, new String[]{CHANNEL_KEY});
+        WorkerUtils.addWorkerChannels(channelMap, new String[]{CHANNEL_KEY});
+        WorkerUtils.asyncSend(channelMap, CHANNEL_KEY, 10L);
+
+        Strand strand = new Strand(new Scheduler(null, NonIsolatedLockMode.GLOBAL), "w2", null, false, null,
+                channelMap);
+        strand.resume();
+        try {
+            Assert.assertEquals(WorkerUtils.receive(strand, channelMap, CHANNEL_KEY), 10L);
+            Assert.assertTrue(strand.isRunnable());
+            Assert.assertTrue(channelMap.get(CHANNEL_KEY).isReceived());
+        } finally {
+            strand.done();
+        }
+    }
+
+    @Test
+    void testReceiveMessageSentLater() throws InterruptedException {
+        WorkerChannelMap channelMap = new WorkerChannelMap();
+        WorkerUtils.addWorkerChannels(channelMap, new String[]{CHANNEL_KEY});
+        Strand strand = new Strand(new Scheduler(null, NonIsolatedLockMode.GLOBAL), "w2", null, true, null,
+                channelMap);
+
+        Object[] result = new Object[1];
+        Thread receiver = new Thread(() -> result[0] = WorkerUtils.receive(strand, channelMap, CHANNEL_KEY));
+        receiver.start();
+        WorkerUtils.asyncSend(channelMap, CHANNEL_KEY, 20L);
+        receiver.join();
+        Assert.assertEquals(result[0], 20L);
+    }
+
+    @Test
+    void testReceiveFromCompletedWorker() {
+        WorkerChannelMap channelMap = new WorkerChannelMap();
+        WorkerUtils.addWorkerChannels(channelMap, new String[]{CHANNEL_KEY});
+        WorkerUtils.completedWorkerChannels(channelMap, null, new String[]{CHANNEL_KEY}, null);
+
+        Strand strand = new Strand(new Scheduler(null, NonIsolatedLockMode.GLOBAL), "w2", null, true, null,
+                channelMap);
+        Assert.assertTrue(WorkerUtils.receive(strand, channelMap, CHANNEL_KEY) instanceof BError);
+    }
+}
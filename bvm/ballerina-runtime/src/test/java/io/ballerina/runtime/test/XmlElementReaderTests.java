@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for reading the elements at a path of an XML document one at a time.
+ */
+public class XmlElementReaderTests {
+
+    @Test
+    void testReadElementsAtPath() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader(
+                "<feed><title>t</title><entry><id>1</id></entry><skip><entry><id>x</id></entry></skip>" +
+                        "<entry><id>2</id></entry></feed>"), List.of("feed", "entry"));
+        Assert.assertEquals(readAll(elements), List.of("<entry><id>1</id></entry>", "<entry><id>2</id></entry>"));
+    }
+
+    @Test
+    void testReadRootElement() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader("<?xml version=\"1.0\"?><a><b/></a>"),
+                List.of());
+        Assert.assertEquals(readAll(elements), List.of("<a><b></b></a>"));
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    @Test
+    void testReadNamespacedElements() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader(
+                "<f:feed xmlns:f=\"http://f\"><f:entry>1</f:entry><entry>2</entry><f:entry>3</f:entry></f:feed>"),
+                List.of("{http://f}feed", "{http://f}entry"));
+        List<BXml> read = new ArrayList<>();
+        elements.forEachRemaining(read::add);
+        Assert.assertEquals(read.size(), 2);
+        Assert.assertEquals(read.get(0).getTextValue(), "1");
+        Assert.assertEquals(read.get(1).getTextValue(), "3");
+    }
+
+    @Test
+    void testReadMalformedDocument() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader("<a><b>1</b><b>2</c></a>"),
+                List.of("a", "b"));
+        Assert.assertEquals(elements.next().getTextValue(), "1");
+        BError error = Assert.expectThrows(BError.class, elements::hasNext);
+        Assert.assertTrue(error.getMessage().startsWith("failed to parse xml"));
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    private static List<String> readAll(Iterator<BXml> elements) {
+        List<String> read = new ArrayList<>();
+        while (elements.hasNext()) {
+            read.add(elements.next().toString());
+        }
+        return read;
+    }
+}
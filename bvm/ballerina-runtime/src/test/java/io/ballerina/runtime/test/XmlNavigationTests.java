@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Test cases for navigating XML values with lazily evaluated sequences.
+ */
+public class XmlNavigationTests {
+
+    @Test
+    void testChainedNavigation() {
+        BXml root = XmlUtils.parse("<root><a><b>1</b></a>text<a><b>2</b><c/></a><c/></root>");
+        BXml elements = root.children().elements("a");
+        Assert.assertEquals(elements.size(), 2);
+        Assert.assertEquals(elements.getItem(1).children().elements("b").toString(), "<b>2</b>");
+        Assert.assertEquals(root.children().elements().size(), 3);
+    }
+
+    @Test
+    void testChildrenAreNotUpdatedByElementUpdates() {
+        BXml root = XmlUtils.parse("<root><a/>text<b/><a/></root>");
+        BXml children = root.children();
+        BXml elements = root.children("a");
+        root.removeChildren("a");
+        Assert.assertEquals(children.toString(), "<a></a>text<b></b><a></a>");
+        Assert.assertEquals(elements.size(), 2);
+        Assert.assertEquals(root.children().toString(), "text<b></b>");
+    }
+
+    @Test
+    void testChildrenByName() {
+        StringBuilder xml = new StringBuilder("<root>");
+        for (int i = 0; i < 100; i++) {
+            xml.append("<item>").append(i).append("</item><other/>");
+        }
+        xml.append("</root>");
+        BXml root = XmlUtils.parse(xml.toString());
+        BXml items = root.children("item");
+        Assert.assertEquals(items.size(), 100);
+        Assert.assertEquals(items.getItem(42).getTextValue(), "42");
+        Assert.assertEquals(root.children("other").size(), 100);
+        Assert.assertTrue(root.children("missing").isEmpty());
+
+        root.removeChildren("other");
+        Assert.assertTrue(root.children("other").isEmpty());
+        Assert.assertEquals(root.children("item").size(), 100);
+    }
+
+    @Test
+    void testDescendants() {
+        BXml root = XmlUtils.parse("<a><a><b/><a/></a><b><a/></b></a>");
+        Assert.assertEquals(root.descendants(List.of("a")).size(), 4);
+        Assert.assertEquals(root.descendants(List.of("b")).toString(), "<b></b><b><a></a></b>");
+        Assert.assertEquals(root.children().descendants(List.of("a")).size(), 3);
+    }
+
+    @Test
+    void testDescendantsAreNotUpdatedByNestedUpdates() {
+        BXml root = XmlUtils.parse("<root><a><b>1</b></a><b>2</b></root>");
+        BXml descendants = root.descendants(List.of("b"));
+        BXml childDescendants = root.children().descendants(List.of("b"));
+        BXml nestedElement = root.children().getItem(0);
+        nestedElement.removeChildren("b");
+        nestedElement.setChildren(XmlUtils.parse("<b>3</b>"));
+        Assert.assertEquals(descendants.toString(), "<b>1</b><b>2</b>");
+        Assert.assertEquals(childDescendants.toString(), "<b>1</b><b>2</b>");
+        Assert.assertEquals(root.descendants(List.of("b")).toString(), "<b>3</b><b>2</b>");
+    }
+
+    @Test
+    void testChildrenByNameAfterRename() {
+        StringBuilder xml = new StringBuilder("<root>");
+        for (int i = 0; i < 20; i++) {
+            xml.append("<item>").append(i).append("</item>");
+        }
+        xml.append("</root>");
+        BXml root = XmlUtils.parse(xml.toString());
+        Assert.assertEquals(root.children("item").size(), 20);
+        ((BXmlItem) root.children().getItem(5)).setQName(new QName("renamed"));
+        Assert.assertEquals(root.children("item").size(), 19);
+        Assert.assertEquals(root.children("renamed").toString(), "<renamed>5</renamed>");
+    }
+
+    @Test
+    void testElementsAreNotUpdatedByRenames() {
+        BXml root = XmlUtils.parse("<root><a>1</a><b>2</b><a>3</a></root>");
+        BXml elements = root.children().elements("a");
+        BXml children = root.children("b");
+        ((BXmlItem) root.children().getItem(1)).setQName(new QName("a"));
+        Assert.assertEquals(elements.toString(), "<a>1</a><a>3</a>");
+        Assert.assertEquals(children.size(), 1);
+        Assert.assertEquals(root.children().elements("a").size(), 3);
+    }
+}
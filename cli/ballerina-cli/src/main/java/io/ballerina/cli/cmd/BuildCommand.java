@@ -233,6 +233,22 @@ public class BuildCommand implements BLauncherCmd {
             description = "allow passing the package locking mode.", converter = PackageLockingModeConverter.class)
     private PackageLockingMode lockingMode;
 
+    @CommandLine.Option(names = "--jobs", description = "maximum number of threads used to parse the source files " +
+            "in parallel, while the modules are still compiled one at a time")
+    private Integer jobs;
+
+    @CommandLine.Option(names = "--eliminate-dead-code", hidden = true, description = "experimental removal of the " +
+            "unreachable module-level functions of the root package from the executable")
+    private Boolean eliminateDeadCode;
+
+    @CommandLine.Option(names = "--disable-inlining", description = "disable the inlining of small functions into " +
+            "their callers")
+    private Boolean disableInlining;
+
+    @CommandLine.Option(names = "--eliminate-allocations", description = "replace the records and tuples, which do " +
+            "not escape their functions, with local variables")
+    private Boolean eliminateAllocations;
+
     @Override
     public void execute() {
         long start = 0;
@@ -243,6 +259,13 @@ public class BuildCommand implements BLauncherCmd {
             return;
         }
 
+        if (this.jobs != null && this.jobs < 1) {
+            CommandUtil.printError(this.errStream, "invalid value for option '--jobs': " + this.jobs +
+                    ". The number of jobs should be a positive integer", "bal build --jobs <count>", true);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         // load project
         Project project;
         BuildOptions buildOptions = constructBuildOptions();
@@ -436,7 +459,11 @@ public class BuildCommand implements BLauncherCmd {
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
                 .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
-                .setLockingMode(lockingMode);
+                .setLockingMode(lockingMode)
+                .setJobs(jobs)
+                .setEliminateDeadCode(eliminateDeadCode)
+                .setDisableInlining(disableInlining)
+                .setEliminateAllocations(eliminateAllocations);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
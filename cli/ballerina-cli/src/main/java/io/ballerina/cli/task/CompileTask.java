@@ -251,6 +251,10 @@ public class CompileTask implements Task {
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_21);
             if (project.buildOptions().dumpBuildTime()) {
                 BuildTime.getInstance().codeGenDuration = System.currentTimeMillis() - start;
+                BuildTime.getInstance().classGenerationDuration = jBallerinaBackend.classGenerationDuration();
+                BuildTime.getInstance().frameComputationDuration = jBallerinaBackend.frameComputationDuration();
+                BuildTime.getInstance().frameComputationCpuDuration =
+                        jBallerinaBackend.frameComputationCpuDuration();
             }
 
             // Report package compilation and backend diagnostics
@@ -31,6 +31,7 @@ import java.io.PrintStream;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Locale;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 
@@ -89,5 +90,9 @@ public class DumpBuildTimeTask implements Task {
         JsonObject buildTimeJson = (JsonObject) gson.toJsonTree(buildTime);
         buildTimeJson.entrySet()
                 .forEach(entry -> this.out.println("\t" + entry.getKey() + " : " + entry.getValue().toString()));
+        if (buildTime.frameComputationDuration > 0) {
+            double speedup = (double) buildTime.frameComputationCpuDuration / buildTime.frameComputationDuration;
+            this.out.println("\tframeComputationSpeedup : " + String.format(Locale.ROOT, "%.2f", speedup));
+        }
     }
 }
@@ -35,6 +35,9 @@ public class BuildTime {
     public long codeModifierPluginDuration;
     public long packageCompilationDuration;
     public long codeGenDuration;
+    public long classGenerationDuration;
+    public long frameComputationDuration;
+    public long frameComputationCpuDuration;
     public long emitArtifactDuration;
     public long testingExecutionDuration;
     public long runningExecutableDuration;
@@ -55,6 +55,7 @@ import static io.ballerina.cli.cmd.CommandOutputUtils.getOutput;
 import static io.ballerina.cli.cmd.CommandOutputUtils.replaceDependenciesTomlContent;
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
 import static io.ballerina.projects.util.ProjectConstants.BUILD_FILE;
+import static io.ballerina.projects.util.ProjectConstants.DEAD_CODE_ELIMINATION_REPORT_FILE_NAME;
 import static io.ballerina.projects.util.ProjectConstants.DIST_CACHE_DIRECTORY;
 import static io.ballerina.projects.util.ProjectConstants.DOT;
 import static io.ballerina.projects.util.ProjectConstants.TARGET_DIR_NAME;
@@ -368,6 +369,53 @@ public class BuildCommandTest extends BaseCommandTest {
                 .resolve("foo-winery-0.1.0.jar").toFile().exists());
     }
 
+    @Test(description = "Build a valid ballerina project with a given number of jobs")
+    public void testBuildBalProjectWithJobs() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        System.setProperty(USER_DIR_PROPERTY, projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--jobs", "4");
+        try {
+            buildCommand.execute();
+        } catch (BLauncherException e) {
+            String failureLog = readOutput(true);
+            Assert.fail(failureLog + "\n error message: " + e.getDetailedMessages().get(0));
+        }
+        String buildLog = readOutput(true);
+        Assert.assertEquals(buildLog.replace("\r", ""), getOutput("build-bal-project.txt"));
+        Assert.assertTrue(projectPath.resolve("target").resolve("bin").resolve("winery.jar").toFile().exists());
+    }
+
+    @Test(description = "Build a ballerina project with an invalid number of jobs")
+    public void testBuildBalProjectWithInvalidJobs() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        System.setProperty(USER_DIR_PROPERTY, projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--jobs", "0");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("invalid value for option '--jobs': 0"), buildLog);
+    }
+
+    @Test(description = "Build a valid ballerina project removing the unreachable functions")
+    public void testBuildBalProjectWithDeadCodeElimination() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        System.setProperty(USER_DIR_PROPERTY, projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--eliminate-dead-code");
+        try {
+            buildCommand.execute();
+        } catch (BLauncherException e) {
+            String failureLog = readOutput(true);
+            Assert.fail(failureLog + "\n error message: " + e.getDetailedMessages().get(0));
+        }
+        String buildLog = readOutput(true);
+        Assert.assertEquals(buildLog.replace("\r", ""), getOutput("build-bal-project.txt"));
+        Assert.assertTrue(projectPath.resolve("target").resolve("bin").resolve("winery.jar").toFile().exists());
+        Assert.assertTrue(projectPath.resolve("target").resolve("report")
+                .resolve(DEAD_CODE_ELIMINATION_REPORT_FILE_NAME).toFile().exists());
+    }
+
     @Test(dependsOnMethods = "testBuildBalFile")
     public void testCodeGeneratorForSingleFile() throws IOException {
         Path execPath = this.testResources.resolve("valid-bal-file").resolve("hello_world-for-codegen-test.jar");
@@ -1600,6 +1648,12 @@ public class BuildCommandTest extends BaseCommandTest {
         Assert.assertTrue(buildLog.contains("packageCompilationDuration"),
                 "Missing packageCompilationDuration field in build time logs");
         Assert.assertTrue(buildLog.contains("codeGenDuration"), "Missing codeGenDuration field in build time logs");
+        Assert.assertTrue(buildLog.contains("classGenerationDuration"),
+                "Missing classGenerationDuration field in build time logs");
+        Assert.assertTrue(buildLog.contains("frameComputationDuration"),
+                "Missing frameComputationDuration field in build time logs");
+        Assert.assertTrue(buildLog.contains("frameComputationCpuDuration"),
+                "Missing frameComputationCpuDuration field in build time logs");
         Assert.assertTrue(buildLog.contains("emitArtifactDuration"),
                 "Missing emitArtifactDuration field in build time logs");
         Assert.assertTrue(buildLog.contains("testingExecutionDuration"),
@@ -90,6 +90,55 @@ public class BuildOptions {
         return this.compilationOptions.optimizeDependencyCompilation();
     }
 
+    /**
+     * Returns the number of threads used to parse the source files of the package and its dependencies in parallel.
+     * The modules are still compiled one at a time. The same limit applies to computing the stack map frames of the
+     * generated classes. If not specified, returns the number of available processors.
+     *
+     * @return the number of parsing threads
+     */
+    public int jobs() {
+        return this.compilationOptions.jobs();
+    }
+
+    /**
+     * Returns whether the module-level functions of the root package, which cannot be reached from its entry points,
+     * are removed before generating the code of an executable. This is an experimental option, which does not remove
+     * the functions, type definitions or globals of the dependencies.
+     *
+     * @return true if dead code elimination is enabled
+     */
+    public boolean eliminateDeadCode() {
+        return this.compilationOptions.eliminateDeadCode();
+    }
+
+    /**
+     * Returns whether the inlining of small functions into their callers is disabled.
+     *
+     * @return true if inlining is disabled
+     */
+    public boolean disableInlining() {
+        return this.compilationOptions.disableInlining();
+    }
+
+    /**
+     * Returns whether the records and tuples, which do not escape their functions, are replaced with local variables.
+     *
+     * @return true if the allocations are eliminated
+     */
+    public boolean eliminateAllocations() {
+        return this.compilationOptions.eliminateAllocations();
+    }
+
+    /**
+     * Returns whether the reuse of the unboxed int and float values of union and any typed variables is disabled.
+     *
+     * @return true if the unboxed values are not reused
+     */
+    public boolean disableUnboxingOptimization() {
+        return this.compilationOptions.disableUnboxingOptimization();
+    }
+
     /**
      * Returns the package locking mode. If not specified, returns {@code PackageLockingMode.MEDIUM}
      * @return the package locking mode
@@ -229,6 +278,11 @@ public class BuildOptions {
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
         buildOptionsBuilder.setOptimizeDependencyCompilation(compilationOptions.optimizeDependencyCompilation);
         buildOptionsBuilder.setLockingMode(compilationOptions.lockingMode);
+        buildOptionsBuilder.setJobs(compilationOptions.jobs);
+        buildOptionsBuilder.setEliminateDeadCode(compilationOptions.eliminateDeadCode);
+        buildOptionsBuilder.setDisableInlining(compilationOptions.disableInlining);
+        buildOptionsBuilder.setEliminateAllocations(compilationOptions.eliminateAllocations);
+        buildOptionsBuilder.setDisableUnboxingOptimization(compilationOptions.disableUnboxingOptimization);
 
         return buildOptionsBuilder.build();
     }
@@ -276,6 +330,10 @@ public class BuildOptions {
         SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
         OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation"),
         REMOTE_MANAGEMENT("remoteManagement"),
+        JOBS("jobs"),
+        ELIMINATE_DEAD_CODE("eliminateDeadCode"),
+        DISABLE_INLINING("disableInlining"),
+        ELIMINATE_ALLOCATIONS("eliminateAllocations"),
         CLOUD("cloud");
 
         private final String name;
@@ -450,6 +508,63 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * Set the number of threads used to parse the source files in parallel. The modules are still compiled one at a
+         * time.
+         *
+         * @param value number of jobs, or null to use the number of available processors
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setJobs(Integer value) {
+            compilationOptionsBuilder.setJobs(value);
+            return this;
+        }
+
+        /**
+         * Set whether the unreachable module-level functions of the root package are removed before generating the
+         * code of an executable. This option is experimental.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setEliminateDeadCode(Boolean value) {
+            compilationOptionsBuilder.setEliminateDeadCode(value);
+            return this;
+        }
+
+        /**
+         * Set whether the inlining of small functions into their callers is disabled.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setDisableInlining(Boolean value) {
+            compilationOptionsBuilder.setDisableInlining(value);
+            return this;
+        }
+
+        /**
+         * Set whether the records and tuples, which do not escape their functions, are replaced with local variables.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setEliminateAllocations(Boolean value) {
+            compilationOptionsBuilder.setEliminateAllocations(value);
+            return this;
+        }
+
+        /**
+         * Set whether the reuse of the unboxed int and float values of union and any typed variables is disabled.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setDisableUnboxingOptimization(Boolean value) {
+            compilationOptionsBuilder.setDisableUnboxingOptimization(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
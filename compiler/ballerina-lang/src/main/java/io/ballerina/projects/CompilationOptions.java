@@ -44,6 +44,11 @@ public class CompilationOptions {
     Boolean remoteManagement;
     Boolean optimizeDependencyCompilation;
     PackageLockingMode lockingMode;
+    Integer jobs;
+    Boolean eliminateDeadCode;
+    Boolean disableInlining;
+    Boolean eliminateAllocations;
+    Boolean disableUnboxingOptimization;
 
     CompilationOptions(Boolean offlineBuild, Boolean experimental,
                        Boolean observabilityIncluded, Boolean dumpBir, Boolean dumpBirFile,
@@ -52,7 +57,8 @@ public class CompilationOptions {
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean disableSyntaxTree,
                        Boolean remoteManagement, Boolean optimizeDependencyCompilation,
-                       PackageLockingMode lockingMode) {
+                       PackageLockingMode lockingMode, Integer jobs, Boolean eliminateDeadCode,
+                       Boolean disableInlining, Boolean eliminateAllocations, Boolean disableUnboxingOptimization) {
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
@@ -72,6 +78,11 @@ public class CompilationOptions {
         this.remoteManagement = remoteManagement;
         this.optimizeDependencyCompilation = optimizeDependencyCompilation;
         this.lockingMode = lockingMode;
+        this.jobs = jobs;
+        this.eliminateDeadCode = eliminateDeadCode;
+        this.disableInlining = disableInlining;
+        this.eliminateAllocations = eliminateAllocations;
+        this.disableUnboxingOptimization = disableUnboxingOptimization;
     }
 
     public boolean offlineBuild() {
@@ -147,6 +158,29 @@ public class CompilationOptions {
         return this.lockingMode;
     }
 
+    int jobs() {
+        if (this.jobs == null || this.jobs < 1) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return this.jobs;
+    }
+
+    boolean eliminateDeadCode() {
+        return toBooleanDefaultIfNull(this.eliminateDeadCode);
+    }
+
+    boolean disableInlining() {
+        return toBooleanDefaultIfNull(this.disableInlining);
+    }
+
+    boolean eliminateAllocations() {
+        return toBooleanDefaultIfNull(this.eliminateAllocations);
+    }
+
+    boolean disableUnboxingOptimization() {
+        return toBooleanDefaultIfNull(this.disableUnboxingOptimization);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -248,6 +282,31 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setLockingMode(this.lockingMode);
         }
+        if (theirOptions.jobs != null) {
+            compilationOptionsBuilder.setJobs(theirOptions.jobs);
+        } else {
+            compilationOptionsBuilder.setJobs(this.jobs);
+        }
+        if (theirOptions.eliminateDeadCode != null) {
+            compilationOptionsBuilder.setEliminateDeadCode(theirOptions.eliminateDeadCode);
+        } else {
+            compilationOptionsBuilder.setEliminateDeadCode(this.eliminateDeadCode);
+        }
+        if (theirOptions.disableInlining != null) {
+            compilationOptionsBuilder.setDisableInlining(theirOptions.disableInlining);
+        } else {
+            compilationOptionsBuilder.setDisableInlining(this.disableInlining);
+        }
+        if (theirOptions.eliminateAllocations != null) {
+            compilationOptionsBuilder.setEliminateAllocations(theirOptions.eliminateAllocations);
+        } else {
+            compilationOptionsBuilder.setEliminateAllocations(this.eliminateAllocations);
+        }
+        if (theirOptions.disableUnboxingOptimization != null) {
+            compilationOptionsBuilder.setDisableUnboxingOptimization(theirOptions.disableUnboxingOptimization);
+        } else {
+            compilationOptionsBuilder.setDisableUnboxingOptimization(this.disableUnboxingOptimization);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -299,6 +358,11 @@ public class CompilationOptions {
         private Boolean optimizeDependencyCompilation;
         // TODO: remove this after fixing https://github.com/ballerina-platform/ballerina-library/issues/7755
         private PackageLockingMode lockingMode;
+        private Integer jobs;
+        private Boolean eliminateDeadCode;
+        private Boolean disableInlining;
+        private Boolean eliminateAllocations;
+        private Boolean disableUnboxingOptimization;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -395,12 +459,38 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setJobs(Integer value) {
+            jobs = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setEliminateDeadCode(Boolean value) {
+            eliminateDeadCode = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setDisableInlining(Boolean value) {
+            disableInlining = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setEliminateAllocations(Boolean value) {
+            eliminateAllocations = value;
+            return this;
+        }
+
+        public CompilationOptionsBuilder setDisableUnboxingOptimization(Boolean value) {
+            disableUnboxingOptimization = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, experimental, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
                     exportComponentModel, disableSyntaxTree, remoteManagement,
-                    optimizeDependencyCompilation, lockingMode);
+                    optimizeDependencyCompilation, lockingMode, jobs, eliminateDeadCode, disableInlining,
+                    eliminateAllocations, disableUnboxingOptimization);
         }
     }
 }
@@ -19,6 +19,8 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -72,15 +74,18 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private TextDocumentChange textDocumentChange;
         private final String name;
         private final DocumentId documentId;
         private final Module oldModule;
+        private final DocumentContext oldDocumentContext;
 
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
             this.content = oldDocument.textDocument().toString();
             this.oldModule = oldDocument.module();
+            this.oldDocumentContext = oldDocument.documentContext;
         }
 
         /**
@@ -91,6 +96,23 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.textDocumentChange = null;
+            return this;
+        }
+
+        /**
+         * Applies the given text edits to the content. The syntax tree of the new document is parsed incrementally
+         * from the syntax tree of this document, when these are the only changes made to the content.
+         *
+         * @param textDocumentChange text edits to apply to the content
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withContentChange(TextDocumentChange textDocumentChange) {
+            boolean isFirstChange = this.textDocumentChange == null &&
+                    this.content.equals(this.oldDocumentContext.content());
+            this.content = TextDocuments.from(this.content).apply(textDocumentChange).toString();
+            // Edits of a modified content are not relative to this document, and are computed again from the content
+            this.textDocumentChange = isFirstChange ? textDocumentChange : null;
             return this;
         }
 
@@ -102,7 +124,8 @@ public class Document {
         public Document apply() {
             DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
                     this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig, false);
+            DocumentContext documentContext = DocumentContext.from(documentConfig, this.oldDocumentContext,
+                    this.textDocumentChange);
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
@@ -27,17 +27,22 @@ import io.ballerina.projects.internal.NaturalProgrammingImportAnalyzer;
 import io.ballerina.projects.internal.TransactionImportValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.SourceKind;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.parser.BLangNodeBuilder;
+import org.wso2.ballerinalang.compiler.parser.BLangNodeBuilder.ModuleMemberNodes;
 import org.wso2.ballerinalang.compiler.parser.NodeCloner;
 import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
 
@@ -57,10 +62,18 @@ class DocumentContext {
     private Set<ModuleLoadRequest> moduleLoadRequests;
     private BLangCompilationUnit compilationUnit;
     private NodeCloner nodeCloner;
+    private ConvertedMembers convertedMembers;
     private final String name;
     private DocumentConfig documentConfig;
     private final boolean disableSyntaxTree;
 
+    // State of the previous version of the document, which is used to parse and convert the modified document
+    // incrementally until it is parsed and converted
+    private SyntaxTree previousSyntaxTree;
+    private TextDocumentChange textDocumentChange;
+    private ConvertedMembers previousConvertedMembers;
+    private int unchangedTextLength;
+
     private DocumentContext(DocumentConfig documentConfig, boolean disableSyntaxTree) {
         this.documentConfig = documentConfig;
         this.name = documentConfig.name();
@@ -71,6 +84,65 @@ class DocumentContext {
         return new DocumentContext(documentConfig, disableSyntaxTree);
     }
 
+    /**
+     * Creates the context of a modified version of a document, which reuses the syntax tree and the converted module
+     * members of the previous version for the unchanged parts of the document.
+     *
+     * @param documentConfig     configuration of the modified document
+     * @param previousContext    context of the previous version of the document
+     * @param textDocumentChange changes made to the previous version, or {@code null} to compute the changes from
+     *                           the contents of the versions
+     * @return context of the modified document
+     */
+    static DocumentContext from(DocumentConfig documentConfig, DocumentContext previousContext,
+                                TextDocumentChange textDocumentChange) {
+        DocumentContext documentContext = new DocumentContext(documentConfig, false);
+        if (previousContext.syntaxTree == null && previousContext.convertedMembers == null) {
+            return documentContext;
+        }
+
+        if (textDocumentChange == null) {
+            String previousContent = previousContext.content();
+            String content = documentConfig.content();
+            if (previousContent.equals(content)) {
+                documentContext.syntaxTree = previousContext.syntaxTree;
+                documentContext.textDocument = previousContext.textDocument;
+                documentContext.previousConvertedMembers = previousContext.convertedMembers;
+                documentContext.unchangedTextLength = Integer.MAX_VALUE;
+                return documentContext;
+            }
+            textDocumentChange = getTextDocumentChange(previousContent, content);
+        }
+
+        int unchangedTextLength = Integer.MAX_VALUE;
+        for (int i = 0; i < textDocumentChange.getTextEditCount(); i++) {
+            unchangedTextLength = Math.min(unchangedTextLength,
+                    textDocumentChange.getTextEdit(i).range().startOffset());
+        }
+        documentContext.previousSyntaxTree = previousContext.syntaxTree;
+        documentContext.textDocumentChange = textDocumentChange;
+        documentContext.previousConvertedMembers = previousContext.convertedMembers;
+        documentContext.unchangedTextLength = unchangedTextLength;
+        return documentContext;
+    }
+
+    // Computes a single edit, which replaces the text between the common prefix and the common suffix
+    private static TextDocumentChange getTextDocumentChange(String previousContent, String content) {
+        int maxLength = Math.min(previousContent.length(), content.length());
+        int prefixLength = 0;
+        while (prefixLength < maxLength && previousContent.charAt(prefixLength) == content.charAt(prefixLength)) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < maxLength - prefixLength && previousContent.charAt(
+                previousContent.length() - 1 - suffixLength) == content.charAt(content.length() - 1 - suffixLength)) {
+            suffixLength++;
+        }
+        TextRange range = TextRange.from(prefixLength, previousContent.length() - prefixLength - suffixLength);
+        String text = content.substring(prefixLength, content.length() - suffixLength);
+        return TextDocumentChange.from(new TextEdit[]{TextEdit.from(range, text)});
+    }
+
     DocumentId documentId() {
         return this.documentConfig.documentId();
     }
@@ -83,6 +155,14 @@ class DocumentContext {
         if (this.syntaxTree != null) {
             return this.syntaxTree;
         }
+        if (this.previousSyntaxTree != null) {
+            // Subtrees of the previous syntax tree, which are not affected by the changes, are reused
+            this.syntaxTree = SyntaxTree.from(this.previousSyntaxTree, this.textDocumentChange);
+            this.textDocument = this.syntaxTree.textDocument();
+            this.previousSyntaxTree = null;
+            this.textDocumentChange = null;
+            return this.syntaxTree;
+        }
         if (!this.disableSyntaxTree) {
             this.syntaxTree = SyntaxTree.from(this.textDocument(), this.name());
             return this.syntaxTree;
@@ -105,7 +185,7 @@ class DocumentContext {
         return TextDocuments.from(this::content);
     }
 
-    private String content() {
+    String content() {
         return this.documentConfig.content();
     }
 
@@ -119,8 +199,15 @@ class DocumentContext {
             return this.nodeCloner.cloneCUnit(this.compilationUnit);
         }
         BLangNodeBuilder bLangNodeBuilder = new BLangNodeBuilder(compilerContext, pkgID, this.name());
+        ConvertedMembers previousMembers = this.previousConvertedMembers;
+        if (previousMembers != null && previousMembers.compilerContext() == compilerContext &&
+                previousMembers.pkgID().equals(pkgID)) {
+            bLangNodeBuilder.reuseMemberNodes(previousMembers.memberNodes(), this.unchangedTextLength);
+        }
+        this.previousConvertedMembers = null;
         this.compilationUnit = (BLangCompilationUnit) bLangNodeBuilder.accept(synTree.rootNode()).get(0);
         this.compilationUnit.setSourceKind(sourceKind);
+        this.convertedMembers = new ConvertedMembers(compilerContext, pkgID, bLangNodeBuilder.getMemberNodes());
         return this.nodeCloner.cloneCUnit(this.compilationUnit);
     }
 
@@ -226,5 +313,17 @@ class DocumentContext {
         }
         this.syntaxTree = null;
         this.moduleLoadRequests = null;
+        this.convertedMembers = null;
+        this.previousSyntaxTree = null;
+        this.textDocumentChange = null;
+        this.previousConvertedMembers = null;
+    }
+
+    /**
+     * The nodes created for the module members of a document, which are valid only for the same compiler context and
+     * module, as the nodes refer to the symbols and names of them.
+     */
+    private record ConvertedMembers(CompilerContext compilerContext, PackageID pkgID,
+                                    List<ModuleMemberNodes> memberNodes) {
     }
 }
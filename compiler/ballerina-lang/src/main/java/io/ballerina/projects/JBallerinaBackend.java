@@ -17,6 +17,8 @@
  */
 package io.ballerina.projects;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
@@ -37,9 +39,12 @@ import org.ballerinalang.maven.Dependency;
 import org.ballerinalang.maven.MavenResolver;
 import org.ballerinalang.maven.Utils;
 import org.ballerinalang.maven.exceptions.MavenResolverException;
+import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenerator;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRDeadCodeEliminator;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
@@ -62,11 +67,13 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -74,6 +81,7 @@ import java.util.jar.Manifest;
 
 import static io.ballerina.projects.util.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectConstants.BIN_DIR_NAME;
+import static io.ballerina.projects.util.ProjectConstants.DEAD_CODE_ELIMINATION_REPORT_FILE_NAME;
 import static io.ballerina.projects.util.ProjectConstants.DOT;
 import static io.ballerina.projects.util.ProjectConstants.RESOURCE_DIR_NAME;
 import static io.ballerina.projects.util.ProjectUtils.getConflictingResourcesMsg;
@@ -107,8 +115,15 @@ public class JBallerinaBackend extends CompilerBackend {
     private final PackageCompilation packageCompilation;
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
+    private long classGenerationDuration;
+    private long frameComputationDuration;
+    private long frameComputationCpuDuration;
     private final List<JarConflict> conflictedJars;
     List<Diagnostic> conflictedResourcesDiagnostics = new ArrayList<>();
+    private final boolean eliminateDeadCode;
+    // Modules of the package, whose code is generated after removing their unreachable functions
+    private final Map<ModuleContext, CompilationCache> pendingCodeGenModules = new LinkedHashMap<>();
+    private final Map<String, List<String>> removedFunctions = new LinkedHashMap<>();
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         return from(packageCompilation, jdkVersion, true);
@@ -140,6 +155,7 @@ public class JBallerinaBackend extends CompilerBackend {
         this.interopValidator = InteropValidator.getInstance(compilerContext);
         this.jvmCodeGenerator = CodeGenerator.getInstance(compilerContext);
         this.conflictedJars = new ArrayList<>();
+        this.eliminateDeadCode = packageContext.project().buildOptions().compilationOptions().eliminateDeadCode();
         performCodeGen(shrink);
     }
 
@@ -152,6 +168,9 @@ public class JBallerinaBackend extends CompilerBackend {
             return;
         }
 
+        long classGenerationStart = jvmCodeGenerator.getClassGenerationTime();
+        long frameComputationStart = jvmCodeGenerator.getFrameComputationTime();
+        long frameComputationCpuStart = jvmCodeGenerator.getFrameComputationCpuTime();
         List<Diagnostic> diagnostics = new ArrayList<>();
         // add package resolution diagnostics
         diagnostics.addAll(this.packageContext.getResolution().diagnosticResult().allDiagnostics);
@@ -176,22 +195,17 @@ public class JBallerinaBackend extends CompilerBackend {
             if (!this.packageContext.getResolution().diagnosticResult().hasErrors() && !hasErrors(moduleDiagnostics)) {
                 moduleContext.generatePlatformSpecificCode(compilerContext, this);
             }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                if (this.packageContext.project().buildOptions().showDependencyDiagnostics() ||
-                        !ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
-                        (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
-                    boolean isWorkspaceDep = !this.packageContext.getResolution().dependencyGraph().getRoot()
-                            .packageInstance().descriptor().equals(
-                                    moduleContext.project().currentPackage().descriptor());
-                    moduleDiagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(),
-                            moduleContext.project(), isWorkspaceDep));
-                }
+            if (pendingCodeGenModules.containsKey(moduleContext)) {
+                continue;
             }
+            addModuleDiagnostics(moduleContext, moduleDiagnostics);
 
             if (moduleContext.project().kind() == ProjectKind.BALA_PROJECT) {
                 moduleContext.cleanBLangPackage();
             }
         }
+        generatePendingModules(moduleDiagnostics);
+        jvmCodeGenerator.releaseClassEmitterPool();
 
         // add compilation diagnostics
         diagnostics.addAll(moduleDiagnostics);
@@ -201,9 +215,70 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(conflictedResourcesDiagnostics);
 
         this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        this.classGenerationDuration = TimeUnit.NANOSECONDS.toMillis(
+                jvmCodeGenerator.getClassGenerationTime() - classGenerationStart);
+        this.frameComputationDuration = TimeUnit.NANOSECONDS.toMillis(
+                jvmCodeGenerator.getFrameComputationTime() - frameComputationStart);
+        this.frameComputationCpuDuration = TimeUnit.NANOSECONDS.toMillis(
+                jvmCodeGenerator.getFrameComputationCpuTime() - frameComputationCpuStart);
         codeGenCompleted = true;
     }
 
+    private void addModuleDiagnostics(ModuleContext moduleContext, List<Diagnostic> moduleDiagnostics) {
+        for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+            if (this.packageContext.project().buildOptions().showDependencyDiagnostics() ||
+                    !ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
+                    (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
+                boolean isWorkspaceDep = !this.packageContext.getResolution().dependencyGraph().getRoot()
+                        .packageInstance().descriptor().equals(
+                                moduleContext.project().currentPackage().descriptor());
+                moduleDiagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(),
+                        moduleContext.project(), isWorkspaceDep));
+            }
+        }
+    }
+
+    /**
+     * Removes the functions of the modules of the package, which cannot be reached from their entry points, and
+     * then generates the code of the modules. The modules of the package can only be used by each other and by
+     * their tests, so all the callers of their functions are known once the BIR of every module is generated.
+     * Dependencies are not changed, since their generated code is cached and shared with other packages.
+     *
+     * @param moduleDiagnostics diagnostics of the modules generated so far
+     */
+    private void generatePendingModules(List<Diagnostic> moduleDiagnostics) {
+        if (pendingCodeGenModules.isEmpty()) {
+            return;
+        }
+        if (!hasErrors(moduleDiagnostics)) {
+            List<BIRNode.BIRPackage> modules = new ArrayList<>();
+            List<BIRNode.BIRPackage> testModules = new ArrayList<>();
+            for (ModuleContext moduleContext : pendingCodeGenModules.keySet()) {
+                BLangPackage bLangPackage = moduleContext.bLangPackage();
+                modules.add(bLangPackage.symbol.bir);
+                for (BLangPackage testablePackage : bLangPackage.getTestablePkgs()) {
+                    if (testablePackage.symbol.bir != null) {
+                        testModules.add(testablePackage.symbol.bir);
+                    }
+                }
+            }
+            Map<PackageID, List<BIRNode.BIRFunction>> unreachableFunctions =
+                    new BIRDeadCodeEliminator().eliminate(modules, testModules);
+            for (Map.Entry<PackageID, List<BIRNode.BIRFunction>> entry : unreachableFunctions.entrySet()) {
+                List<String> functionNames = new ArrayList<>();
+                for (BIRNode.BIRFunction function : entry.getValue()) {
+                    functionNames.add(function.originalName.value);
+                }
+                removedFunctions.put(entry.getKey().toString(), functionNames);
+            }
+        }
+        for (Map.Entry<ModuleContext, CompilationCache> entry : pendingCodeGenModules.entrySet()) {
+            generateCode(entry.getKey(), entry.getValue());
+            addModuleDiagnostics(entry.getKey(), moduleDiagnostics);
+        }
+        pendingCodeGenModules.clear();
+    }
+
     private boolean hasErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -370,6 +445,14 @@ public class JBallerinaBackend extends CompilerBackend {
     // TODO This method should be moved to some other class owned by the JBallerinaBackend
     @Override
     public void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache) {
+        if (eliminateDeadCode && moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
+            pendingCodeGenModules.put(moduleContext, compilationCache);
+            return;
+        }
+        generateCode(moduleContext, compilationCache);
+    }
+
+    private void generateCode(ModuleContext moduleContext, CompilationCache compilationCache) {
         BLangPackage bLangPackage = moduleContext.bLangPackage();
         interopValidator.validate(moduleContext.moduleId(), this, bLangPackage);
         if (bLangPackage.getErrorCount() > 0) {
@@ -421,6 +504,46 @@ public class JBallerinaBackend extends CompilerBackend {
         return conflictedJars;
     }
 
+    /**
+     * Returns the names of the module-level functions removed from the modules of the root package by dead code
+     * elimination, by module. The map is empty unless dead code elimination is enabled in the build options.
+     *
+     * @return names of the removed functions of each module
+     */
+    public Map<String, List<String>> removedFunctions() {
+        return Collections.unmodifiableMap(removedFunctions);
+    }
+
+    /**
+     * Returns the time spent generating the JVM classes of the package and its dependencies, excluding the
+     * computation of the stack map frames.
+     *
+     * @return duration in milliseconds
+     */
+    public long classGenerationDuration() {
+        return classGenerationDuration;
+    }
+
+    /**
+     * Returns the wall-clock time spent computing the stack map frames of the generated JVM classes. The frames of
+     * the classes of a module are computed in parallel.
+     *
+     * @return duration in milliseconds
+     */
+    public long frameComputationDuration() {
+        return frameComputationDuration;
+    }
+
+    /**
+     * Returns the sum of the time spent computing the stack map frames of each generated JVM class, i.e. the time
+     * the computation would have taken if the classes were processed one after the other.
+     *
+     * @return duration in milliseconds
+     */
+    public long frameComputationCpuDuration() {
+        return frameComputationCpuDuration;
+    }
+
     // TODO Can we move this method to Module.displayName()
     private String getJarFileName(ModuleContext moduleContext) {
         String jarName;
@@ -664,9 +787,24 @@ public class JBallerinaBackend extends CompilerBackend {
             throw new ProjectException("error while creating the executable jar file for package '" +
                     this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
         }
+        if (eliminateDeadCode && packageContext.project().kind() == ProjectKind.BUILD_PROJECT) {
+            writeDeadCodeEliminationReport();
+        }
         return executableFilePath;
     }
 
+    private void writeDeadCodeEliminationReport() {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            Path reportPath = new Target(packageContext.project().targetDir()).getReportPath()
+                    .resolve(DEAD_CODE_ELIMINATION_REPORT_FILE_NAME);
+            Files.writeString(reportPath, gson.toJson(removedFunctions));
+        } catch (IOException e) {
+            throw new ProjectException("error while writing the dead code elimination report for package '" +
+                    this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
+        }
+    }
+
     private Path emitTestExecutable(Path executableFilePath, HashSet<JarLibrary> jarDependencies,
                           Path testSuiteJsonPath, String jsonCopyPath, List<String> excludedClasses,
                           String classPathTextCopyPath) {
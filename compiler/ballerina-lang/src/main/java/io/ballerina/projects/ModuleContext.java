@@ -23,6 +23,7 @@ import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.projects.internal.ModuleContextDataHolder;
+import io.ballerina.projects.repos.SharedCompilationCache;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
@@ -48,8 +49,10 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -57,6 +60,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
@@ -93,6 +98,9 @@ public class ModuleContext {
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
+    private SharedCompilationCache sharedCompilationCache;
+    private String sharedCacheKey;
+    private SharedCompilationCache.Entry sharedCacheEntry;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -365,6 +373,103 @@ public class ModuleContext {
         }
     }
 
+    /**
+     * Parses the source and test documents of the given modules using up to the given number of threads. The
+     * syntax trees are cached in the documents, so the phases that follow do not parse them again.
+     *
+     * @param moduleContexts modules to parse
+     * @param jobs           maximum number of threads
+     */
+    static void parseDocuments(Collection<ModuleContext> moduleContexts, int jobs) {
+        List<DocumentContext> documents = new ArrayList<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            // Syntax trees are not cached if syntax tree caching is disabled, so there is nothing to gain
+            if (moduleContext.project().buildOptions().disableSyntaxTree()) {
+                continue;
+            }
+            documents.addAll(moduleContext.srcDocContextMap.values());
+            documents.addAll(moduleContext.testDocContextMap.values());
+        }
+        if (jobs < 2 || documents.size() < 2) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.min(jobs, documents.size()));
+        try {
+            pool.submit(() -> documents.parallelStream().forEach(DocumentContext::parse)).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Computes the key of this module in the {@link SharedCompilationCache}. Along with the compiler, the key covers
+     * the sources of the module, the options which change the generated code, the platform libraries of the package
+     * and the keys of the modules this module depends on.
+     *
+     * @param dependencyKeys keys of the modules compiled before this module
+     * @return key of the module
+     */
+    String computeSharedCacheKey(Map<ModuleDescriptor, String> dependencyKeys) {
+        SharedCompilationCache.KeyBuilder keyBuilder = SharedCompilationCache.keyBuilder()
+                .add(descriptorString(moduleDescriptor))
+                .add(Boolean.toString(isExported()))
+                .add(Boolean.toString(project.buildOptions().observabilityIncluded()))
+                .add(Boolean.toString(project.buildOptions().remoteManagement()))
+                .add(Boolean.toString(project.buildOptions().disableInlining()))
+                .add(Boolean.toString(project.buildOptions().eliminateDeadCode()))
+                .add(Boolean.toString(project.buildOptions().eliminateAllocations()))
+                .add(Boolean.toString(project.buildOptions().disableUnboxingOptimization()));
+        List<DocumentContext> documents = new ArrayList<>(srcDocContextMap.values());
+        documents.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext document : documents) {
+            keyBuilder.add(document.name()).add(document.content());
+        }
+        for (Map.Entry<String, PackageManifest.Platform> platform :
+                new TreeMap<>(project.currentPackage().manifest().platforms()).entrySet()) {
+            keyBuilder.add(platform.getKey());
+            List<Map<String, Object>> platformDependencies = platform.getValue().dependencies();
+            if (platformDependencies != null) {
+                for (Map<String, Object> platformDependency : platformDependencies) {
+                    keyBuilder.add(new TreeMap<>(platformDependency).toString());
+                }
+            }
+        }
+        // Modules outside the dependency graph, such as the lang libs, are identified by their versions
+        List<String> dependencyKeyList = new ArrayList<>();
+        for (ModuleDependency dependency : moduleDependencies) {
+            dependencyKeyList.add(dependencyKeys.getOrDefault(dependency.descriptor(),
+                    descriptorString(dependency.descriptor())));
+        }
+        Collections.sort(dependencyKeyList);
+        dependencyKeyList.forEach(keyBuilder::add);
+        return keyBuilder.build();
+    }
+
+    /**
+     * Loads this module from the shared compilation cache instead of compiling it. If the module is not in the
+     * cache, it is added to the cache once its code is generated.
+     *
+     * @param sharedCompilationCache shared compilation cache
+     * @param key                    key of this module, computed by {@link #computeSharedCacheKey}
+     */
+    void loadFromSharedCache(SharedCompilationCache sharedCompilationCache, String key) {
+        Optional<SharedCompilationCache.Entry> entry = sharedCompilationCache.get(key);
+        if (entry.isEmpty()) {
+            this.sharedCompilationCache = sharedCompilationCache;
+            this.sharedCacheKey = key;
+            return;
+        }
+        // The BIR is written to the compilation cache along with the libraries once they are loaded for a backend
+        this.sharedCacheEntry = entry.get();
+        this.birBytes = DEFAULT_BIR_BYTE;
+        setCompilationState(ModuleCompilationState.LOADED_FROM_CACHE);
+    }
+
+    private static String descriptorString(ModuleDescriptor descriptor) {
+        return descriptor.org() + "/" + descriptor.packageName() + ":" + descriptor.version() + "/"
+                + descriptor.name();
+    }
+
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
@@ -458,8 +563,10 @@ public class ModuleContext {
             return;
         }
 
-        // Generate and write the thin JAR to the file system
-        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        // Generate and write the thin JAR to the file system, recording the libraries for the shared cache
+        CompilationCache compilationCache = moduleContext.sharedCacheKey == null ? moduleContext.compilationCache
+                : new RecordingCompilationCache(moduleContext.compilationCache);
+        compilerBackend.performCodeGen(moduleContext, compilationCache);
 
         // Skip bir caching if jar generation is not successful
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -474,6 +581,11 @@ public class ModuleContext {
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
         moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+
+        if (compilationCache instanceof RecordingCompilationCache recordingCache) {
+            moduleContext.sharedCompilationCache.put(moduleContext.sharedCacheKey, birContent.toByteArray(),
+                    recordingCache.libraries());
+        }
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext) {
@@ -518,6 +630,10 @@ public class ModuleContext {
     }
 
     private byte[] loadBirBytesInternalInner() {
+        SharedCompilationCache.Entry entry = sharedCacheEntry;
+        if (entry != null) {
+            return entry.bir();
+        }
         return compilationCache.getBir(this.moduleName());
     }
 
@@ -538,7 +654,21 @@ public class ModuleContext {
     }
 
     static void loadPlatformSpecificCodeInternal(ModuleContext moduleContext, CompilerBackend compilerBackend) {
-        // TODO implement
+        SharedCompilationCache.Entry entry = moduleContext.sharedCacheEntry;
+        if (entry == null) {
+            return;
+        }
+        // Same as with generated code, the libraries are cached before the BIR
+        for (Map.Entry<String, byte[]> library : entry.libraries().entrySet()) {
+            ByteArrayOutputStream libraryContent = new ByteArrayOutputStream();
+            libraryContent.writeBytes(library.getValue());
+            moduleContext.compilationCache.cachePlatformSpecificLibrary(compilerBackend, library.getKey(),
+                    libraryContent);
+        }
+        ByteArrayOutputStream birContent = new ByteArrayOutputStream();
+        birContent.writeBytes(entry.bir());
+        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        moduleContext.sharedCacheEntry = null;
     }
 
     static void shrinkDocuments(ModuleContext moduleContext) {
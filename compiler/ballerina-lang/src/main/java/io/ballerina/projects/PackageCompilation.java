@@ -23,6 +23,7 @@ import io.ballerina.projects.CompilerBackend.TargetPlatform;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
+import io.ballerina.projects.repos.SharedCompilationCache;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
@@ -38,7 +39,11 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 
+import static org.ballerinalang.compiler.CompilerOptionName.DISABLE_INLINING;
+import static org.ballerinalang.compiler.CompilerOptionName.DISABLE_UNBOXING_OPTIMIZATION;
+import static org.ballerinalang.compiler.CompilerOptionName.ELIMINATE_ALLOCATIONS;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL;
+import static org.ballerinalang.compiler.CompilerOptionName.JOBS;
 
 /**
  * Compilation at package level by resolving all the dependencies.
@@ -80,6 +85,10 @@ public class PackageCompilation {
     private void setCompilerOptions(CompilationOptions compilationOptions) {
         CompilerOptions options = CompilerOptions.getInstance(compilerContext);
         options.put(EXPERIMENTAL, Boolean.toString(compilationOptions.experimental()));
+        options.put(JOBS, Integer.toString(compilationOptions.jobs()));
+        options.put(DISABLE_INLINING, Boolean.toString(compilationOptions.disableInlining()));
+        options.put(ELIMINATE_ALLOCATIONS, Boolean.toString(compilationOptions.eliminateAllocations()));
+        options.put(DISABLE_UNBOXING_OPTIMIZATION, Boolean.toString(compilationOptions.disableUnboxingOptimization()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
@@ -197,7 +206,16 @@ public class PackageCompilation {
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
         // add compilation diagnostics
         if (!packageResolution.diagnosticResult().hasErrors()) {
-            for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+            List<ModuleContext> moduleContexts = packageResolution.topologicallySortedModuleList();
+            SharedCompilationCache.getDefault().ifPresent(cache -> loadModulesFromSharedCache(moduleContexts, cache));
+            List<ModuleContext> sourceModuleContexts = new ArrayList<>();
+            for (ModuleContext moduleContext : moduleContexts) {
+                if (moduleContext.currentCompilationState() == ModuleCompilationState.LOADED_FROM_SOURCES) {
+                    sourceModuleContexts.add(moduleContext);
+                }
+            }
+            ModuleContext.parseDocuments(sourceModuleContexts, compilationOptions.jobs());
+            for (ModuleContext moduleContext : moduleContexts) {
                 moduleContext.compile(compilerContext);
                 for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                     if (ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) &&
@@ -216,6 +234,29 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    /**
+     * Loads the dependency modules, which are not in the compilation caches of their packages, from the shared
+     * compilation cache. Modules of the current package are always compiled.
+     *
+     * @param moduleContexts         modules in topological order
+     * @param sharedCompilationCache shared compilation cache
+     */
+    private void loadModulesFromSharedCache(List<ModuleContext> moduleContexts,
+                                            SharedCompilationCache sharedCompilationCache) {
+        Map<ModuleDescriptor, String> moduleKeys = new HashMap<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            if (moduleContext.project() == rootPackageContext.project()) {
+                continue;
+            }
+            String key = moduleContext.computeSharedCacheKey(moduleKeys);
+            moduleKeys.put(moduleContext.descriptor(), key);
+            if (moduleContext.project().kind() == ProjectKind.BALA_PROJECT &&
+                    moduleContext.currentCompilationState() == ModuleCompilationState.LOADED_FROM_SOURCES) {
+                moduleContext.loadFromSharedCache(sharedCompilationCache, key);
+            }
+        }
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
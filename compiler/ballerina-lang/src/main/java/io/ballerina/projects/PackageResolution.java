@@ -328,6 +328,11 @@ public class PackageResolution {
 
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new ModuleContext.OverwritableLinkedHashSet();
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            moduleContexts.add(rootPackageContext.moduleContext(moduleId));
+        }
+        ModuleContext.parseDocuments(moduleContexts, compilationOptions.jobs());
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
             allModuleLoadRequests.addAll(moduleContext.populateModuleLoadRequests());
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@code CompilationCache} which keeps the platform-specific libraries written to the given cache, so that they
+ * can be added to the {@link io.ballerina.projects.repos.SharedCompilationCache} as well.
+ *
+ * @since 2201.14.0
+ */
+class RecordingCompilationCache extends CompilationCache {
+
+    private final CompilationCache compilationCache;
+    private final Map<String, byte[]> libraries = new LinkedHashMap<>();
+
+    RecordingCompilationCache(CompilationCache compilationCache) {
+        super(compilationCache.project);
+        this.compilationCache = compilationCache;
+    }
+
+    @Override
+    public byte[] getBir(ModuleName moduleName) {
+        return compilationCache.getBir(moduleName);
+    }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        compilationCache.cacheBir(moduleName, birContent);
+    }
+
+    @Override
+    public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
+        return compilationCache.getPlatformSpecificLibrary(compilerBackend, libraryName);
+    }
+
+    @Override
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                             String libraryName,
+                                             ByteArrayOutputStream libraryContent) {
+        compilationCache.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+        libraries.put(libraryName, libraryContent.toByteArray());
+    }
+
+    Map<String, byte[]> libraries() {
+        return Collections.unmodifiableMap(libraries);
+    }
+}
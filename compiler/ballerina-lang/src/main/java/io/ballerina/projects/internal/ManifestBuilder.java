@@ -940,6 +940,12 @@ public class ManifestBuilder {
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
         Boolean optimizeDependencyCompilation = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.OPTIMIZE_DEPENDENCY_COMPILATION.toString());
+        Boolean eliminateDeadCode = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.ELIMINATE_DEAD_CODE.toString());
+        Boolean disableInlining = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.DISABLE_INLINING.toString());
+        Boolean eliminateAllocations = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.ELIMINATE_ALLOCATIONS.toString());
         String lockingModeVal = getStringFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.LOCKING_MODE.toString());
         PackageLockingMode lockingMode = getPackageLockingMode(lockingModeVal, tableNode);
@@ -960,6 +966,9 @@ public class ManifestBuilder {
                 .setRemoteManagement(remoteManagement)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
                 .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setEliminateDeadCode(eliminateDeadCode)
+                .setDisableInlining(disableInlining)
+                .setEliminateAllocations(eliminateAllocations)
                 .setLockingMode(lockingMode);
 
         if (targetDir != null) {
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.projects.repos;
+
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+import org.apache.commons.io.FileUtils;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A user-level cache of the BIR and the platform-specific libraries of compiled modules, shared across projects.
+ * <p>
+ * Entries are addressed by a hash of everything the compiled module depends on: the compiler, the sources of the
+ * module and the keys of the modules it imports. An entry is therefore never updated, and two builds which compile
+ * the same module, in the same or different projects, share the entry. The structure of the cache is as below
+ * - compilation-cache
+ * - key
+ * - module.bir
+ * - libs
+ * - library-name
+ * <p>
+ * The cache is only used when it is enabled by setting its size in megabytes using the
+ * {@code BALLERINA_COMPILATION_CACHE_SIZE} environment variable. The least recently used entries are evicted once
+ * the size is exceeded.
+ *
+ * @since 2201.14.0
+ */
+public final class SharedCompilationCache {
+
+    private static final String BIR_FILE_NAME = "module" + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT;
+    private static final String LIBS_DIR_NAME = "libs";
+    private static final String TEMP_DIR_PREFIX = ".tmp-";
+    private static final long MB = 1024 * 1024;
+
+    private static volatile Optional<SharedCompilationCache> defaultCache;
+    private static volatile String compilerFingerprint;
+
+    private final Path cacheDirPath;
+    private final long maxSize;
+
+    public SharedCompilationCache(Path cacheDirPath, long maxSize) {
+        this.cacheDirPath = cacheDirPath;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache in the user home repository. The cache is enabled by setting its size in megabytes using the
+     * {@code BALLERINA_COMPILATION_CACHE_SIZE} environment variable, it is disabled if the variable is not set.
+     *
+     * @return the cache in the user home repository, if it is enabled
+     */
+    public static Optional<SharedCompilationCache> getDefault() {
+        Optional<SharedCompilationCache> cache = defaultCache;
+        if (cache == null) {
+            cache = createDefault();
+            defaultCache = cache;
+        }
+        return cache;
+    }
+
+    private static Optional<SharedCompilationCache> createDefault() {
+        String size = System.getenv(ProjectConstants.COMPILATION_CACHE_SIZE_ENV_KEY);
+        if (size == null || size.isBlank()) {
+            return Optional.empty();
+        }
+        long maxSizeInMb;
+        try {
+            maxSizeInMb = Long.parseLong(size.trim());
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (maxSizeInMb <= 0) {
+            return Optional.empty();
+        }
+        try {
+            Path cacheDirPath = ProjectUtils.createAndGetHomeReposPath()
+                    .resolve(ProjectConstants.COMPILATION_CACHE_DIR_NAME);
+            return Optional.of(new SharedCompilationCache(cacheDirPath, maxSizeInMb * MB));
+        } catch (RuntimeException e) {
+            // Builds should not fail because the user home is not usable, they just do not use the cache
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a builder of the key of a cache entry, which already includes the compiler.
+     *
+     * @return key builder
+     */
+    public static KeyBuilder keyBuilder() {
+        return new KeyBuilder().add(compilerFingerprint());
+    }
+
+    /**
+     * Returns the entry with the given key and marks it as recently used.
+     *
+     * @param key key of the entry
+     * @return the entry, if it is in the cache
+     */
+    public Optional<Entry> get(String key) {
+        Path entryPath = cacheDirPath.resolve(key);
+        Path birFilePath = entryPath.resolve(BIR_FILE_NAME);
+        if (!Files.isRegularFile(birFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] bir = Files.readAllBytes(birFilePath);
+            Map<String, byte[]> libraries = new LinkedHashMap<>();
+            try (Stream<Path> libraryPaths = Files.list(entryPath.resolve(LIBS_DIR_NAME))) {
+                for (Path libraryPath : libraryPaths.sorted().toList()) {
+                    libraries.put(libraryPath.getFileName().toString(), Files.readAllBytes(libraryPath));
+                }
+            }
+            Files.setLastModifiedTime(entryPath, FileTime.from(Instant.now()));
+            return Optional.of(new Entry(bir, libraries));
+        } catch (IOException e) {
+            // The entry may have been evicted by a concurrent build
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds an entry to the cache, unless there is an entry with the same key already.
+     *
+     * @param key       key of the entry
+     * @param bir       BIR of the module
+     * @param libraries platform-specific libraries of the module by their names
+     */
+    public void put(String key, byte[] bir, Map<String, byte[]> libraries) {
+        Path entryPath = cacheDirPath.resolve(key);
+        if (Files.exists(entryPath)) {
+            return;
+        }
+        // The entry is written to a temporary directory and moved into place so that it is either complete or missing
+        Path tempDirPath = null;
+        try {
+            Files.createDirectories(cacheDirPath);
+            tempDirPath = Files.createTempDirectory(cacheDirPath, TEMP_DIR_PREFIX);
+            Files.write(tempDirPath.resolve(BIR_FILE_NAME), bir);
+            Path libsDirPath = Files.createDirectory(tempDirPath.resolve(LIBS_DIR_NAME));
+            for (Map.Entry<String, byte[]> library : libraries.entrySet()) {
+                Files.write(libsDirPath.resolve(library.getKey()), library.getValue());
+            }
+            Files.move(tempDirPath, entryPath, StandardCopyOption.ATOMIC_MOVE);
+            tempDirPath = null;
+        } catch (IOException e) {
+            // Caching is best-effort, a concurrent build may have added the same entry
+            return;
+        } finally {
+            if (tempDirPath != null) {
+                FileUtils.deleteQuietly(tempDirPath.toFile());
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Removes the least recently used entries until the size of the cache is within the limit.
+     */
+    void evict() {
+        List<CachedEntry> entries = new ArrayList<>();
+        long totalSize = 0;
+        try (Stream<Path> paths = Files.list(cacheDirPath)) {
+            for (Path entryPath : paths.toList()) {
+                if (entryPath.getFileName().toString().startsWith(TEMP_DIR_PREFIX)) {
+                    continue;
+                }
+                CachedEntry entry = new CachedEntry(entryPath, FileUtils.sizeOfDirectory(entryPath.toFile()),
+                        Files.getLastModifiedTime(entryPath));
+                entries.add(entry);
+                totalSize += entry.size();
+            }
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            // Entries may be evicted by a concurrent build, the next build retries
+            return;
+        }
+        if (totalSize <= maxSize) {
+            return;
+        }
+        entries.sort(Comparator.comparing(CachedEntry::lastUsedTime));
+        for (CachedEntry entry : entries) {
+            if (totalSize <= maxSize) {
+                return;
+            }
+            if (FileUtils.deleteQuietly(entry.path().toFile())) {
+                totalSize -= entry.size();
+            }
+        }
+    }
+
+    private static String compilerFingerprint() {
+        String fingerprint = compilerFingerprint;
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        // Snapshot builds of the compiler share a version, so the compiler jar itself is part of the fingerprint
+        fingerprint = RepoUtils.getBallerinaVersion();
+        CodeSource codeSource = SharedCompilationCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null) {
+            try {
+                Path compilerPath = Path.of(codeSource.getLocation().toURI());
+                if (Files.isRegularFile(compilerPath)) {
+                    fingerprint += ":" + Files.size(compilerPath) + ":" + Files.getLastModifiedTime(compilerPath);
+                }
+            } catch (Exception ignore) {
+                // Fall back to the version of the compiler
+            }
+        }
+        compilerFingerprint = fingerprint;
+        return fingerprint;
+    }
+
+    /**
+     * A cached module.
+     *
+     * @param bir       BIR of the module
+     * @param libraries platform-specific libraries of the module by their names
+     */
+    public record Entry(byte[] bir, Map<String, byte[]> libraries) {
+
+    }
+
+    private record CachedEntry(Path path, long size, FileTime lastUsedTime) {
+
+    }
+
+    /**
+     * Builds the key of a cache entry by hashing the given values in order.
+     */
+    public static final class KeyBuilder {
+
+        private final MessageDigest digest;
+
+        private KeyBuilder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+
+        public KeyBuilder add(String value) {
+            return add(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public KeyBuilder add(byte[] value) {
+            // Values are length-prefixed so that different sequences of values can not have the same key
+            digest.update(Integer.toString(value.length).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ':');
+            digest.update(value);
+            return this;
+        }
+
+        public String build() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -65,6 +65,8 @@ public final class ProjectConstants {
     public static final String NATIVE_CONFIG_DIR_NAME = "native-config";
 
     public static final String CACHES_DIR_NAME = "cache";
+    public static final String COMPILATION_CACHE_DIR_NAME = "compilation-cache";
+    public static final String COMPILATION_CACHE_SIZE_ENV_KEY = "BALLERINA_COMPILATION_CACHE_SIZE";
 
     public static final String HOME_REPO_ENV_KEY = "BALLERINA_HOME_DIR";
     public static final String HOME_REPO_DEFAULT_DIRNAME = ".ballerina";
@@ -133,6 +135,7 @@ public final class ProjectConstants {
     public static final String ASM_COMMONS_JAR = "asm-commons-9.7.jar";
     public static final String DIFF_UTILS_JAR = "java-diff-utils-4.5.jar";
     public static final String REPORT_DIR_NAME = "report";
+    public static final String DEAD_CODE_ELIMINATION_REPORT_FILE_NAME = "dead_code_elimination_report.json";
 
     public static final String BALA_DOCS_DIR = "docs";
     public static final String REPOSITORIES_DIR = "repositories";
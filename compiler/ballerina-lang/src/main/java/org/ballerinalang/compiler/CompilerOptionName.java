@@ -24,7 +24,11 @@ package org.ballerinalang.compiler;
  */
 public enum CompilerOptionName {
     COMPILER_PHASE("compilerPhase"),
-    EXPERIMENTAL("experimental");
+    EXPERIMENTAL("experimental"),
+    JOBS("jobs"),
+    DISABLE_INLINING("disableInlining"),
+    ELIMINATE_ALLOCATIONS("eliminateAllocations"),
+    DISABLE_UNBOXING_OPTIMIZATION("disableUnboxingOptimization");
 
     public final String name;
 
@@ -299,7 +299,9 @@ public class BIRGen extends BLangNodeVisitor {
         this.env = new BIRGenEnv(birPkg);
         astPkg.accept(this);
 
-        this.birOptimizer.optimizePackage(birPkg);
+        // When tests are compiled, any function of the module can be mocked by the tests of any module of the
+        // package, and the calls to the mocked functions are replaced in the generated code, so none are inlined
+        this.birOptimizer.optimizePackage(birPkg, skipTest);
         if (!astPkg.moduleContextDataHolder.skipTests() && astPkg.hasTestablePackage()) {
             astPkg.getTestablePkgs().forEach(testPkg -> {
                 BIRPackage testBirPkg = new BIRPackage(testPkg.pos, testPkg.packageID.orgName,
@@ -307,7 +309,7 @@ public class BIRGen extends BLangNodeVisitor {
                         testPkg.packageID.sourceFileName, sourceRoot, skipTest, true);
                 this.env = new BIRGenEnv(testBirPkg);
                 testPkg.accept(this);
-                this.birOptimizer.optimizePackage(testBirPkg);
+                this.birOptimizer.optimizePackage(testBirPkg, false);
                 testPkg.symbol.bir = testBirPkg;
                 testBirPkg.importModules.add(new BIRNode.BIRImportModule(null, testPkg.packageID.orgName,
                         testPkg.packageID.name, testPkg.packageID.version));
@@ -27,8 +27,10 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.wso2.ballerinalang.compiler.bir.codegen.desugar.IdentifierDesugar.encodeModuleIdentifiers;
 import static org.wso2.ballerinalang.compiler.bir.codegen.desugar.IdentifierDesugar.replaceEncodedModuleIdentifiers;
@@ -45,6 +47,11 @@ public class CodeGenerator {
     private final PackageCache packageCache;
     private final BLangDiagnosticLog dlog;
     private final Types types;
+    private final CompilerOptions compilerOptions;
+    private ForkJoinPool classEmitterPool;
+    private long classGenerationTime = 0;
+    private long frameComputationTime = 0;
+    private long frameComputationCpuTime = 0;
 
     private CodeGenerator(CompilerContext compilerContext) {
         compilerContext.put(CODE_GEN, this);
@@ -52,6 +59,7 @@ public class CodeGenerator {
         this.packageCache = PackageCache.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         this.types = Types.getInstance(compilerContext);
+        this.compilerOptions = CompilerOptions.getInstance(compilerContext);
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -81,19 +89,77 @@ public class CodeGenerator {
 
         dlog.setCurrentPackageId(packageSymbol.pkgID);
         final JvmPackageGen jvmPackageGen = new JvmPackageGen(packageSymbol.bir, symbolTable, packageCache, dlog, types,
-                isRemoteMgtEnabled);
+                isRemoteMgtEnabled, getClassEmitterPool());
 
         //Rewrite identifier names with encoding special characters
         HashMap<String, String> originalIdentifierMap = encodeModuleIdentifiers(packageSymbol.bir);
 
         // TODO Get-rid of the following assignment
+        long start = System.nanoTime();
         CompiledJarFile compiledJarFile = jvmPackageGen.generate();
+        JvmClassEmitter classEmitter = jvmPackageGen.getClassEmitter();
+        frameComputationTime += classEmitter.getFrameComputationTime();
+        frameComputationCpuTime += classEmitter.getFrameComputationCpuTime();
+        classGenerationTime += System.nanoTime() - start - classEmitter.getFrameComputationTime();
         cleanUpBirPackage(packageSymbol);
         //Revert encoding identifier names
         replaceEncodedModuleIdentifiers(packageSymbol.bir, originalIdentifierMap);
         return compiledJarFile;
     }
 
+    private ForkJoinPool getClassEmitterPool() {
+        int jobs = compilerOptions.getJobs();
+        if (jobs < 2) {
+            return null;
+        }
+        // The pool is kept for the next modules, until the code of all modules is generated
+        if (classEmitterPool != null && classEmitterPool.getParallelism() != jobs) {
+            releaseClassEmitterPool();
+        }
+        if (classEmitterPool == null) {
+            classEmitterPool = new ForkJoinPool(jobs);
+        }
+        return classEmitterPool;
+    }
+
+    /**
+     * Shuts down the threads used to compute the stack map frames of the generated classes. This is called once the
+     * code of all modules is generated, and a new pool is created if more modules are generated afterwards.
+     */
+    public void releaseClassEmitterPool() {
+        if (classEmitterPool != null) {
+            classEmitterPool.shutdown();
+            classEmitterPool = null;
+        }
+    }
+
+    /**
+     * Returns the time spent generating the classes of all modules, excluding the stack map frame computation.
+     *
+     * @return time in nanoseconds
+     */
+    public long getClassGenerationTime() {
+        return classGenerationTime;
+    }
+
+    /**
+     * Returns the wall-clock time spent computing the stack map frames of the classes of all modules.
+     *
+     * @return time in nanoseconds
+     */
+    public long getFrameComputationTime() {
+        return frameComputationTime;
+    }
+
+    /**
+     * Returns the total time spent computing the stack map frames of the individual classes of all modules.
+     *
+     * @return time in nanoseconds
+     */
+    public long getFrameComputationCpuTime() {
+        return frameComputationCpuTime;
+    }
+
     private static void cleanUpBirPackage(BPackageSymbol packageSymbol) {
         packageSymbol.birPackageFile = null;
         BIRNode.BIRPackage bir = packageSymbol.bir;
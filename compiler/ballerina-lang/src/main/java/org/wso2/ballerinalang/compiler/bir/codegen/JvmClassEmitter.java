@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import io.ballerina.identifier.Utils;
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassTooLargeException;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodTooLargeException;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.JarEntries;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
+
+/**
+ * Emits the larger generated classes of a module, computing their stack map frames in parallel.
+ * <p>
+ * Computing the stack map frames takes up most of the time spent in ASM, but only depends on the bytecode of the
+ * class being written. The classes are therefore generated one after the other without frames, using the shared
+ * state of the code generator, and their frames are computed afterwards on a fork-join pool. The classes are
+ * added to the jar in the order they were generated so the jar does not depend on the scheduling of the pool, and
+ * any errors are reported in the same order.
+ *
+ * @since 2201.14.0
+ */
+public class JvmClassEmitter {
+
+    private final JvmPackageGen jvmPackageGen;
+    private final ForkJoinPool pool;
+    private final List<PendingClass> pendingClasses = new ArrayList<>();
+    private long frameComputationTime = 0;
+    private long frameComputationCpuTime = 0;
+
+    JvmClassEmitter(JvmPackageGen jvmPackageGen, ForkJoinPool pool) {
+        this.jvmPackageGen = jvmPackageGen;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a class writer for a class to be emitted through {@link #add}.
+     *
+     * @return class writer which does not compute the stack map frames
+     */
+    public ClassWriter newClassWriter() {
+        return new BallerinaClassWriter(0);
+    }
+
+    /**
+     * Adds a completely visited class to be emitted.
+     *
+     * @param className internal name of the class
+     * @param cw        class writer created by {@link #newClassWriter()}
+     * @param node      BIR node the class is generated for, used to report errors
+     */
+    public void add(String className, ClassWriter cw, BIRNode node) {
+        pendingClasses.add(new PendingClass(className, jvmPackageGen.getBytes(cw, node), node));
+    }
+
+    /**
+     * Computes the stack map frames of the added classes and puts them into the jar.
+     *
+     * @param jarEntries entries of the module jar
+     */
+    void emit(JarEntries jarEntries) {
+        long start = System.nanoTime();
+        if (pool == null || pendingClasses.size() < 2) {
+            pendingClasses.forEach(PendingClass::computeFrames);
+        } else {
+            pool.submit(() -> IntStream.range(0, pendingClasses.size()).parallel()
+                    .forEach(i -> pendingClasses.get(i).computeFrames())).join();
+        }
+        frameComputationTime += System.nanoTime() - start;
+        for (PendingClass pendingClass : pendingClasses) {
+            frameComputationCpuTime += pendingClass.duration;
+            jarEntries.put(pendingClass.className + CLASS_FILE_SUFFIX, pendingClass.getBytes(jvmPackageGen));
+        }
+        pendingClasses.clear();
+    }
+
+    /**
+     * Returns the wall-clock time spent computing stack map frames.
+     *
+     * @return time in nanoseconds
+     */
+    public long getFrameComputationTime() {
+        return frameComputationTime;
+    }
+
+    /**
+     * Returns the total time spent computing the stack map frames of the individual classes, which is the time the
+     * frame computation would have taken had it been done sequentially.
+     *
+     * @return time in nanoseconds
+     */
+    public long getFrameComputationCpuTime() {
+        return frameComputationCpuTime;
+    }
+
+    private static final class PendingClass {
+
+        private final String className;
+        private final BIRNode node;
+        private byte[] bytes;
+        private Throwable error;
+        private long duration;
+
+        PendingClass(String className, byte[] bytes, BIRNode node) {
+            this.className = className;
+            this.bytes = bytes;
+            this.node = node;
+        }
+
+        void computeFrames() {
+            // Classes which could not be written have already been reported
+            if (bytes.length == 0) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                new ClassReader(bytes).accept(cw, ClassReader.SKIP_FRAMES);
+                bytes = cw.toByteArray();
+            } catch (Throwable e) {
+                error = e;
+            }
+            duration = System.nanoTime() - start;
+        }
+
+        byte[] getBytes(JvmPackageGen jvmPackageGen) {
+            if (error == null) {
+                return bytes;
+            }
+            if (error instanceof MethodTooLargeException || error instanceof ClassTooLargeException) {
+                return jvmPackageGen.handleClassWriteError(error, node);
+            }
+            throw new BLangCompilerException("error while computing stack map frames of class '" +
+                    Utils.decodeIdentifier(className) + "'", error);
+        }
+    }
+}
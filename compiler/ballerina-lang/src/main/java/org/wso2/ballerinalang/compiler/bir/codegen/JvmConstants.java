@@ -362,6 +362,7 @@ public final class JvmConstants {
     public static final String POPULATE_INITIAL_VALUES_METHOD = "populateInitialValues";
     public static final String CLASS_LOCK_VAR_NAME = "$lock";
     public static final String GLOBAL_LOCK_NAME = "lock";
+    public static final String GLOBAL_LOCK_VAR_NAME_PREFIX = "$globalLock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String BAL_RUNTIME_VAR_NAME = "$balRuntime";
     public static final String LOCK_STORE_VAR_NAME = "$lockStore";
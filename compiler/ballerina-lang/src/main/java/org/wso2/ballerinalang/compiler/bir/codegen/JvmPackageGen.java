@@ -51,11 +51,13 @@ import org.wso2.ballerinalang.compiler.bir.codegen.split.identifiers.JvmBallerin
 import org.wso2.ballerinalang.compiler.bir.codegen.split.identifiers.JvmGlobalVariablesGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.utils.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.TypeHashVisitor;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
@@ -81,9 +83,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -92,6 +96,7 @@ import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
@@ -101,6 +106,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FIL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_DOT_CHARACTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_JAVA_MODULE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_VARIABLES_PACKAGE_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
@@ -120,8 +126,11 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PARENT_MO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SERVICE_EP_AVAILABLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TEST_EXECUTE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CREATOR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_GLOBAL_LOCK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LOAD_LOCK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.injectDefaultParamInitsToAttachedFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.desugar.BirDesugar.addDefaultBooleanVarsToSignature;
@@ -157,9 +166,11 @@ public class JvmPackageGen {
     private final Env typeEnv;
     public final BIRPackage currentModule;
     public final String globalVarsPkgName;
+    private final Set<Integer> globalLockIds = new TreeSet<>();
+    private final JvmClassEmitter classEmitter;
 
     JvmPackageGen(BIRNode.BIRPackage currentModule, SymbolTable symbolTable, PackageCache packageCache,
-                  BLangDiagnosticLog dlog, Types types, boolean isRemoteMgtEnabled) {
+                  BLangDiagnosticLog dlog, Types types, boolean isRemoteMgtEnabled, ForkJoinPool classEmitterPool) {
         birFunctionMap = new HashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
@@ -173,7 +184,7 @@ public class JvmPackageGen {
         JvmInstructionGen.anyType = symbolTable.anyType;
         this.typeEnv = symbolTable.typeEnv();
         this.currentModule = currentModule;
-
+        this.classEmitter = new JvmClassEmitter(this, classEmitterPool);
     }
 
     private static String getBvmAlias(String orgName, String moduleName) {
@@ -243,14 +254,15 @@ public class JvmPackageGen {
         fv.visitEnd();
     }
 
-    private static void generateStaticInitializer(ClassWriter cw, String className, BIRPackage birPackage,
-                                                  boolean isInitClass, boolean serviceEPAvailable,
-                                                  JvmConstantsGen jvmConstantsGen) {
+    private void generateStaticInitializer(ClassWriter cw, String className, BIRPackage birPackage,
+                                           boolean isInitClass, boolean serviceEPAvailable,
+                                           JvmConstantsGen jvmConstantsGen) {
         if (!isInitClass) {
             return;
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
-        setLockStoreField(mv, className);
+        setLockStoreField(mv, className, birPackage.packageID);
+        setGlobalLockFields(cw, mv, className);
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
         setCurrentModuleField(cw, mv, jvmConstantsGen, birPackage.packageID, className);
@@ -259,13 +271,53 @@ public class JvmPackageGen {
         mv.visitEnd();
     }
 
-    private static void setLockStoreField(MethodVisitor mv, String className) {
+    private static void setLockStoreField(MethodVisitor mv, String className, PackageID packageID) {
         mv.visitTypeInsn(NEW, LOCK_STORE);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitLdcInsn(packageID.toString());
+        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, INIT_WITH_STRING, false);
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
     }
 
+    private void setGlobalLockFields(ClassWriter cw, MethodVisitor mv, String className) {
+        for (int lockId : globalLockIds) {
+            String lockVarName = JvmCodeGenUtil.getGlobalLockVarName(lockId);
+            FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL, lockVarName, LOAD_LOCK, null, null);
+            fv.visitEnd();
+            mv.visitFieldInsn(GETSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
+            mv.visitLdcInsn(GLOBAL_LOCK_NAME + lockId);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLock", GET_GLOBAL_LOCK, false);
+            mv.visitFieldInsn(PUTSTATIC, className, lockVarName, LOAD_LOCK);
+        }
+    }
+
+    /**
+     * Collects the global locks used by the lock statements of the module, so that each of them is looked up only
+     * once, when the module init class is loaded.
+     */
+    private void collectGlobalLockIds() {
+        for (BIRFunction func : currentModule.functions) {
+            collectGlobalLockIds(func);
+        }
+        for (BIRTypeDefinition typeDef : currentModule.typeDefs) {
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                collectGlobalLockIds(func);
+            }
+        }
+    }
+
+    private void collectGlobalLockIds(BIRFunction func) {
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Lock lock && JvmCodeGenUtil.isGlobalLock(func, lock)) {
+                globalLockIds.add(lock.lockId);
+            }
+        }
+    }
+
+    boolean isGlobalLockResolved(int lockId) {
+        return globalLockIds.contains(lockId);
+    }
+
     private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
                                                    String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, SERVICE_EP_AVAILABLE, "Z", null, null);
@@ -352,13 +404,12 @@ public class JvmPackageGen {
         return null;
     }
 
-    private void generateModuleClasses(JarEntries jarEntries, String moduleInitClass, JvmTypeGen jvmTypeGen,
-                                       JvmCastGen jvmCastGen, JvmConstantsGen jvmConstantsGen,
-                                       Map<String, JavaClass> jvmClassMapping, boolean serviceEPAvailable,
-                                       BIRFunction mainFunc, BIRFunction testExecuteFunc,
+    private void generateModuleClasses(String moduleInitClass, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
+                                       JvmConstantsGen jvmConstantsGen, Map<String, JavaClass> jvmClassMapping,
+                                       boolean serviceEPAvailable, BIRFunction mainFunc, BIRFunction testExecuteFunc,
                                        AsyncDataCollector asyncDataCollector, Set<PackageID> immediateImports) {
         jvmClassMapping.forEach((moduleClass, javaClass) -> {
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassWriter cw = classEmitter.newClassWriter();
             asyncDataCollector.setCurrentSourceFileName(javaClass.sourceFileName);
             asyncDataCollector.setCurrentSourceFileWithoutExt(javaClass.cleanedBalFileName);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
@@ -398,8 +449,7 @@ public class JvmPackageGen {
             }
             generateStaticInitializer(cw, moduleClass, currentModule, isInitClass, serviceEPAvailable, jvmConstantsGen);
             cw.visitEnd();
-            byte[] bytes = getBytes(cw, currentModule);
-            jarEntries.put(moduleClass + CLASS_FILE_SUFFIX, bytes);
+            classEmitter.add(moduleClass, cw, currentModule);
         });
     }
 
@@ -569,11 +619,16 @@ public class JvmPackageGen {
     }
 
     public byte[] getBytes(ClassWriter cw, BIRNode node) {
-        byte[] result;
         try {
             return cw.toByteArray();
-        } catch (MethodTooLargeException e) {
-            String funcName = e.getMethodName();
+        } catch (Throwable e) {
+            return handleClassWriteError(e, node);
+        }
+    }
+
+    byte[] handleClassWriteError(Throwable e, BIRNode node) {
+        if (e instanceof MethodTooLargeException methodTooLargeException) {
+            String funcName = methodTooLargeException.getMethodName();
             BIRFunction func = findFunction(node, funcName);
             if (func != null && func.pos != null) {
                 dlog.error(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
@@ -582,15 +637,18 @@ public class JvmPackageGen {
                 dlog.error(node.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                         Utils.decodeIdentifier(funcName));
             }
-            result = new byte[0];
-        } catch (ClassTooLargeException e) {
+            return new byte[0];
+        }
+        if (e instanceof ClassTooLargeException classTooLargeException) {
             dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
-                    Utils.decodeIdentifier(e.getClassName()));
-            result = new byte[0];
-        } catch (Throwable e) {
-            throw new BLangCompilerException(e.getMessage(), e);
+                    Utils.decodeIdentifier(classTooLargeException.getClassName()));
+            return new byte[0];
         }
-        return result;
+        throw new BLangCompilerException(e.getMessage(), e);
+    }
+
+    public JvmClassEmitter getClassEmitter() {
+        return classEmitter;
     }
 
     private void clearPackageGenInfo() {
@@ -689,10 +747,11 @@ public class JvmPackageGen {
         JvmValueGen valueGen = new JvmValueGen(currentModule, this, methodGen, typeHashVisitor, types);
         JvmCastGen jvmCastGen = new JvmCastGen(symbolTable, jvmTypeGen, types);
         LambdaGen lambdaGen = new LambdaGen(this, jvmCastGen, currentModule);
-        valueGen.generateValueClasses(jarEntries, jvmConstantsGen, jvmTypeGen, asyncDataCollector);
+        valueGen.generateValueClasses(jvmConstantsGen, jvmTypeGen, asyncDataCollector);
 
         // generate module classes
-        generateModuleClasses(jarEntries, moduleInitClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
+        collectGlobalLockIds();
+        generateModuleClasses(moduleInitClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
                 jvmClassMapping, serviceEPAvailable, mainFunc, testExecuteFunc, asyncDataCollector, immediateImports);
 
         // Generate global vars and constants
@@ -713,6 +772,7 @@ public class JvmPackageGen {
         jvmConstantsGen.generateConstants(this, jvmCastGen, sortedFunctions, asyncDataCollector,
                 lazyLoadingDataCollector, jarEntries);
         lambdaGen.generateLambdaClasses(asyncDataCollector, jarEntries);
+        classEmitter.emit(jarEntries);
 
         // clear class name mappings
         clearPackageGenInfo();
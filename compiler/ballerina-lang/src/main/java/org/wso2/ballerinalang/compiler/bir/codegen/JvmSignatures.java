@@ -141,6 +141,7 @@ public final class JvmSignatures {
     public static final String ADD_BALLERINA_INFO = "(L" + STRING_VALUE + ";L" + STRING_VALUE + ";Z)V";
     public static final String ADD_COLLECTION = "(L" + COLLECTION + ";)Z";
     public static final String ADD_MODULE_CONFIG_DATA = "(L" + MAP + ";L" + MODULE + ";[L" + VARIABLE_KEY + ";)V";
+    public static final String ADD_MODULE_DEPENDENCIES = "(L" + BAL_RUNTIME + ";L" + MODULE + ";[L" + MODULE + ";Z)V";
     public static final String ADD_SERVICE_LISTENER = "(L" + B_OBJECT + ";L" + B_OBJECT + ";L" + OBJECT + ";)V";
     public static final String ADD_SHUTDOWN_HOOK = "(L" + JAVA_THREAD + ";)V";
     public static final String ADD_TYPE_ID = "(L" + MODULE + ";L" + STRING_VALUE + ";Z)V";
@@ -246,6 +247,7 @@ public final class JvmSignatures {
     public static final String GET_FUNCTION_TYPE = "L" + FUNCTION_TYPE + ";";
     public static final String GET_FUNCTION_TYPE_FOR_STRING = "(L" + STRING_VALUE + ";)" + GET_FUNCTION_TYPE;
     public static final String GET_FUTURE_VALUE = "L" + FUTURE_VALUE + ";";
+    public static final String GET_GLOBAL_LOCK = "(L" + STRING_VALUE + ";)L" + REENTRANT_LOCK + ";";
     public static final String GET_HANDLE_VALUE = "L" + HANDLE_VALUE + ";";
     public static final String GET_JBOOLEAN = "Z";
     public static final String GET_JSTRING = "()L" + STRING_VALUE + ";";
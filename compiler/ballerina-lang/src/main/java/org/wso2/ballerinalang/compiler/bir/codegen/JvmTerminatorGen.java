@@ -50,7 +50,6 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.Unifier;
-import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -136,6 +135,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ASYNC_SE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.BAL_ENV_PARAM;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.BOBJECT_CALL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FUNCTION;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_GLOBAL_LOCK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_RUNTIME_ERROR;
@@ -155,7 +155,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MODULE_I
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MULTIPLE_RECEIVE_CALL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_STRAND;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_STRAND_AND_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_STRAND_AND_REENTRANT_LOCK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RECEIVE_DATA;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
@@ -336,14 +335,8 @@ public class JvmTerminatorGen {
         Label gotoLabel = this.labelGen.getLabel(funcName + lockIns.lockedBB.id.value);
         this.mv.visitFieldInsn(GETSTATIC, this.moduleInitClass, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
         loadStrand(this.mv, localVarOffset);
-        if ((func.flags & Flags.ATTACHED) == Flags.ATTACHED && lockIns.lockVariables.isEmpty()) {
-            mv.visitVarInsn(ALOAD, 0);
-            this.mv.visitFieldInsn(GETFIELD, moduleClassName, CLASS_LOCK_VAR_NAME, LOAD_LOCK);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "lock", PASS_STRAND_AND_REENTRANT_LOCK, false);
-        } else {
-            this.mv.visitLdcInsn(GLOBAL_LOCK_NAME + lockIns.lockId);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "lock", PASS_STRAND_AND_LOCK_NAME, false);
-        }
+        loadLock(lockIns, moduleClassName, func);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "lock", PASS_STRAND_AND_REENTRANT_LOCK, false);
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
 
@@ -352,15 +345,26 @@ public class JvmTerminatorGen {
         Label gotoLabel = this.labelGen.getLabel(funcName + unlockIns.unlockBB.id.value);
         this.mv.visitFieldInsn(GETSTATIC, this.moduleInitClass, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
         loadStrand(this.mv, localVarOffset);
-        if ((func.flags & Flags.ATTACHED) == Flags.ATTACHED && unlockIns.relatedLock.lockVariables.isEmpty()) {
-            mv.visitVarInsn(ALOAD, 0);
+        loadLock(unlockIns.relatedLock, moduleClassName, func);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "unlock", PASS_STRAND_AND_REENTRANT_LOCK, false);
+        this.mv.visitJumpInsn(GOTO, gotoLabel);
+    }
+
+    private void loadLock(BIRTerminator.Lock lockIns, String moduleClassName, BIRNode.BIRFunction func) {
+        if (!JvmCodeGenUtil.isGlobalLock(func, lockIns)) {
+            this.mv.visitVarInsn(ALOAD, 0);
             this.mv.visitFieldInsn(GETFIELD, moduleClassName, CLASS_LOCK_VAR_NAME, LOAD_LOCK);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "unlock", PASS_STRAND_AND_REENTRANT_LOCK, false);
-        } else {
-            this.mv.visitLdcInsn(GLOBAL_LOCK_NAME + unlockIns.relatedLock.lockId);
-            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "unlock", PASS_STRAND_AND_LOCK_NAME, false);
+            return;
         }
-        this.mv.visitJumpInsn(GOTO, gotoLabel);
+        if (this.jvmPackageGen.isGlobalLockResolved(lockIns.lockId)) {
+            // Resolved once in the static initializer of the module init class
+            this.mv.visitFieldInsn(GETSTATIC, this.moduleInitClass, JvmCodeGenUtil.getGlobalLockVarName(
+                    lockIns.lockId), LOAD_LOCK);
+            return;
+        }
+        this.mv.visitFieldInsn(GETSTATIC, this.moduleInitClass, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
+        this.mv.visitLdcInsn(GLOBAL_LOCK_NAME + lockIns.lockId);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLock", GET_GLOBAL_LOCK, false);
     }
 
     private void genCallTerm(BIRTerminator.Call callIns, int localVarOffset, String funcName) {
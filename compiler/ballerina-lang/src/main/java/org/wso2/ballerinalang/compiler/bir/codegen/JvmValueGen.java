@@ -24,7 +24,6 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
-import org.wso2.ballerinalang.compiler.bir.codegen.internal.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.InitMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.model.JFieldBIRFunction;
@@ -49,7 +48,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -76,7 +74,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ABSTRACT_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_LOCK_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INSTANTIATE_FUNCTION;
@@ -193,7 +190,7 @@ public class JvmValueGen {
         return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
 
-    void generateValueClasses(JarEntries jarEntries, JvmConstantsGen jvmConstantsGen, JvmTypeGen jvmTypeGen,
+    void generateValueClasses(JvmConstantsGen jvmConstantsGen, JvmTypeGen jvmTypeGen,
                               AsyncDataCollector asyncDataCollector) {
         String packageName = getPackageName(module.packageID);
         module.typeDefs.forEach(optionalTypeDef -> {
@@ -210,21 +207,19 @@ public class JvmValueGen {
                     Symbols.isFlagOn(optionalTypeDef.type.tsymbol.flags, Flags.CLASS)) {
                 BObjectType objectType = (BObjectType) optionalTypeDef.type;
                 this.createObjectValueClasses(objectType, className, optionalTypeDef, jvmConstantsGen,
-                        asyncDataCollector, jarEntries);
+                        asyncDataCollector);
             } else if (bType.tag == TypeTags.RECORD) {
                 BRecordType recordType = (BRecordType) bType;
-                byte[] bytes = this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(className + CLASS_FILE_SUFFIX, bytes);
+                this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen);
                 String typedescClass = getTypeDescClassName(packageName, varName);
-                bytes = createRecordTypeDescClass(optionalTypeDef, recordType, typedescClass, jvmTypeGen);
-                jarEntries.put(typedescClass + CLASS_FILE_SUFFIX, bytes);
+                createRecordTypeDescClass(optionalTypeDef, recordType, typedescClass, jvmTypeGen);
             }
         });
     }
 
-    private byte[] createRecordTypeDescClass(BIRNode.BIRTypeDefinition typeDef, BRecordType recordType,
-                                             String className, JvmTypeGen jvmTypeGen) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+    private void createRecordTypeDescClass(BIRNode.BIRTypeDefinition typeDef, BRecordType recordType,
+                                           String className, JvmTypeGen jvmTypeGen) {
+        ClassWriter cw = jvmPackageGen.getClassEmitter().newClassWriter();
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         }
@@ -237,7 +232,7 @@ public class JvmValueGen {
         this.createInstantiateMethod(cw, recordType, jvmTypeGen, className);
         this.createInstantiateMethodWithInitialValues(cw, recordType, typeDef, className);
         cw.visitEnd();
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.getClassEmitter().add(className, cw, typeDef);
     }
 
     private void createTypedescInstance(ClassWriter cw, BRecordType recordType, String className) {
@@ -306,9 +301,9 @@ public class JvmValueGen {
         return getTypeValueClassName(getPackageName(packageID), typeName);
     }
 
-    private byte[] createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
-                                          JvmTypeGen jvmTypeGen) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+    private void createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
+                                        JvmTypeGen jvmTypeGen) {
+        ClassWriter cw = jvmPackageGen.getClassEmitter().newClassWriter();
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         }
@@ -332,8 +327,7 @@ public class JvmValueGen {
         this.createRecordConstructor(cw, INIT_TYPEDESC, className);
         this.createRecordConstructor(cw, TYPE_PARAMETER, className);
         cw.visitEnd();
-
-        return jvmPackageGen.getBytes(cw, typeDef);
+        jvmPackageGen.getClassEmitter().add(className, cw, typeDef);
     }
 
     private void createTypeDescConstructor(ClassWriter cw, String className) {
@@ -457,9 +451,9 @@ public class JvmValueGen {
     }
 
     private void createObjectValueClasses(BObjectType objectType, String className, BIRNode.BIRTypeDefinition typeDef,
-                                          JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector,
-                                          JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                                          JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector) {
+        JvmClassEmitter classEmitter = jvmPackageGen.getClassEmitter();
+        ClassWriter cw = classEmitter.newClassWriter();
         cw.visitSource(typeDef.pos.lineRange().fileName(), null);
 
         SymbolTable symbolTable = jvmPackageGen.symbolTable;
@@ -473,7 +467,7 @@ public class JvmValueGen {
         List<BIRFunction> attachedFuncs = typeDef.attachedFuncs;
         if (attachedFuncs.size() > MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
             this.createObjectMethodsWithSplitClasses(cw, attachedFuncs, className, objectType, jvmTypeGen,
-                    jvmCastGen, jvmConstantsGen, asyncDataCollector, typeDef, jarEntries);
+                    jvmCastGen, jvmConstantsGen, asyncDataCollector, typeDef);
         } else {
             this.createObjectMethods(cw, attachedFuncs, className, objectType, jvmTypeGen, jvmCastGen,
                     jvmConstantsGen, asyncDataCollector);
@@ -485,7 +479,7 @@ public class JvmValueGen {
         jvmObjectGen.createAndSplitSetMethod(cw, fields, className, jvmCastGen);
         jvmObjectGen.createAndSplitSetOnInitializationMethod(cw, fields, className);
         cw.visitEnd();
-        jarEntries.put(className + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(cw, typeDef));
+        classEmitter.add(className, cw, typeDef);
     }
 
     private void createObjectFields(ClassWriter cw, Map<String, BField> fields) {
@@ -515,10 +509,10 @@ public class JvmValueGen {
                                                      JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                                      JvmConstantsGen jvmConstantsGen,
                                                      AsyncDataCollector asyncDataCollector,
-                                                     BIRNode.BIRTypeDefinition typeDef,
-                                                     JarEntries jarEntries) {
+                                                     BIRNode.BIRTypeDefinition typeDef) {
+        JvmClassEmitter classEmitter = jvmPackageGen.getClassEmitter();
         int splitClassNum = 1;
-        ClassWriter splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter splitCW = classEmitter.newClassWriter();
         splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
         String splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
         splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -538,10 +532,9 @@ public class JvmValueGen {
             methodCountPerSplitClass++;
             if (methodCountPerSplitClass == MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
                 splitCW.visitEnd();
-                byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-                jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+                classEmitter.add(splitClassName, splitCW, typeDef);
                 splitClassNum++;
-                splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+                splitCW = classEmitter.newClassWriter();
                 splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
                 splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
                 splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -551,8 +544,7 @@ public class JvmValueGen {
         }
         if (methodCountPerSplitClass != 0) {
             splitCW.visitEnd();
-            byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-            jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+            classEmitter.add(splitClassName, splitCW, typeDef);
         }
     }
 
@@ -28,12 +28,14 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.utils.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.TypeHashVisitor;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.util.Flags;
@@ -63,6 +65,7 @@ import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V21;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_MAP_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURATION_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURE_INIT;
@@ -78,6 +81,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_CONFIG_DATA_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VARIABLE_KEY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ADD_MODULE_CONFIG_DATA;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ADD_MODULE_DEPENDENCIES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CURRENT_MODULE_INIT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_JBOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
@@ -110,7 +114,7 @@ public class ConfigMethodGen {
         JvmCodeGenUtil.visitMaxStackForMethod(mv, JVM_INIT_METHOD, innerClassName);
         mv.visitEnd();
 
-        generateConfigInit(cw, imprtMods, pkg.packageID, innerClassName);
+        generateConfigInit(cw, imprtMods, pkg, innerClassName);
         populateConfigDataMethod(cw, moduleInitClass, pkg, new JvmTypeGen(jvmConstantsGen, pkg.packageID,
                 typeHashVisitor, symbolTable));
         cw.visitEnd();
@@ -129,7 +133,7 @@ public class ConfigMethodGen {
         mv.visitEnd();
     }
 
-    private void generateConfigInit(ClassWriter cw, Set<PackageID> imprtMods, PackageID packageID,
+    private void generateConfigInit(ClassWriter cw, Set<PackageID> imprtMods, BIRNode.BIRPackage pkg,
                                     String innerClassName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, CONFIGURE_INIT, INIT_CONFIG, null, null);
         mv.visitCode();
@@ -143,7 +147,8 @@ public class ConfigMethodGen {
         for (PackageID id : imprtMods) {
             generateInvokeConfigureInit(mv, id);
         }
-        generateInvokeConfiguration(mv, packageID);
+        generateAddModuleDependencies(mv, imprtMods, pkg);
+        generateInvokeConfiguration(mv, pkg.packageID);
         mv.visitInsn(RETURN);
         JvmCodeGenUtil.visitMaxStackForMethod(mv, CONFIGURE_INIT, innerClassName);
         mv.visitEnd();
@@ -166,6 +171,60 @@ public class ConfigMethodGen {
         mv.visitLabel(elseLabel);
     }
 
+    private void generateAddModuleDependencies(MethodVisitor mv, Set<PackageID> imprtMods, BIRNode.BIRPackage pkg) {
+        // Registers the imports of the module with the scheduler to partition the non-isolated strands
+        mv.visitVarInsn(ALOAD, 4);
+        mv.visitFieldInsn(GETSTATIC, getModuleLevelClassName(pkg.packageID, MODULE_INIT_CLASS_NAME),
+                CURRENT_MODULE_VAR_NAME, GET_MODULE);
+        mv.visitLdcInsn(imprtMods.size());
+        mv.visitTypeInsn(ANEWARRAY, MODULE);
+        int importIndex = 0;
+        for (PackageID id : imprtMods) {
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(importIndex++);
+            mv.visitFieldInsn(GETSTATIC, getModuleLevelClassName(id, MODULE_INIT_CLASS_NAME),
+                    CURRENT_MODULE_VAR_NAME, GET_MODULE);
+            mv.visitInsn(AASTORE);
+        }
+        mv.visitInsn(hasNonIsolatedState(pkg) ? ICONST_1 : ICONST_0);
+        mv.visitMethodInsn(INVOKESTATIC, LAUNCH_UTILS, "addModuleDependencies", ADD_MODULE_DEPENDENCIES, false);
+    }
+
+    private static boolean hasNonIsolatedState(BIRNode.BIRPackage pkg) {
+        for (BIRNode.BIRGlobalVariableDcl globalVar : pkg.globalVars) {
+            // Isolated variables are only accessed within lock statements, and the annotation data is only
+            // written during module initialization
+            if (Symbols.isFlagOn(globalVar.flags, Flags.ISOLATED) || ANNOTATION_MAP_NAME.equals(globalVar.name.value)) {
+                continue;
+            }
+            if (!Symbols.isFlagOn(globalVar.flags, Flags.FINAL) ||
+                    !Symbols.isFlagOn(Types.getImpliedType(globalVar.type).getFlags(), Flags.READONLY)) {
+                return true;
+            }
+        }
+        // The lang library does not rely on the non-isolated lock for its external functions
+        if (JvmPackageGen.isLangModule(pkg.packageID)) {
+            return false;
+        }
+        for (BIRNode.BIRFunction function : pkg.functions) {
+            if (isNonIsolatedExternalFunction(function)) {
+                return true;
+            }
+        }
+        for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
+            for (BIRNode.BIRFunction function : typeDef.attachedFuncs) {
+                if (isNonIsolatedExternalFunction(function)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNonIsolatedExternalFunction(BIRNode.BIRFunction function) {
+        return Symbols.isFlagOn(function.flags, Flags.NATIVE) && !Symbols.isFlagOn(function.flags, Flags.ISOLATED);
+    }
+
     private void generateInvokeConfigureInit(MethodVisitor mv, PackageID id) {
         String configClass = getModuleLevelClassName(id, CONFIGURATION_CLASS_NAME);
         mv.visitVarInsn(ALOAD, 0);
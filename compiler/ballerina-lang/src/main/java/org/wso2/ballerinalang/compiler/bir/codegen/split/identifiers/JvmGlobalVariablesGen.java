@@ -21,6 +21,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split.identifiers;
 import org.objectweb.asm.ClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmClassEmitter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
@@ -75,6 +76,7 @@ public class JvmGlobalVariablesGen {
         }
         Map<String, LazyLoadBirBasicBlock> lazyBBMap = lazyLoadingDataCollector.lazyLoadingBBMap;
         Collection<BIRNode.BIRGlobalVariableDcl> globalVariableDcls = module.globalVars;
+        JvmClassEmitter classEmitter = jvmPackageGen.getClassEmitter();
         ClassWriter allGlobalVarsCW = new BallerinaClassWriter(COMPUTE_FRAMES);
         allGlobalVarsCW.visit(V21, ACC_PUBLIC | ACC_SUPER, jvmConstantsGen.allGlobalVarsClassName, null, OBJECT, null);
         for (BIRNode.BIRGlobalVariableDcl globalVar : globalVariableDcls) {
@@ -83,7 +85,7 @@ public class JvmGlobalVariablesGen {
             if (varName.equals("_")) {
                 continue;
             }
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassWriter cw = classEmitter.newClassWriter();
             String globalVarClassName = getVarStoreClass(globalVarsPkgName, varName);
             if (globalVar.pos != null) {
                 cw.visitSource(globalVar.pos.lineRange().fileName(), null);
@@ -96,7 +98,7 @@ public class JvmGlobalVariablesGen {
             loadIdentifierValue(cw, varName, module, lazyBBMap, jvmPackageGen, jvmTypeGen, jvmCastGen,
                     jvmConstantsGen, asyncDataCollector);
             cw.visitEnd();
-            jarEntries.put(globalVarClassName + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(cw, this.module));
+            classEmitter.add(globalVarClassName, cw, this.module);
         }
         genLoadDebugVariablesMethod(allGlobalVarsCW);
         allGlobalVarsCW.visitEnd();
@@ -92,6 +92,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VAL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_VAR_NAME_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_PACKAGE_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_RUNTIME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
@@ -288,6 +289,21 @@ public final class JvmCodeGenUtil {
         return (func.flags & Flags.NATIVE) == Flags.NATIVE;
     }
 
+    /**
+     * Checks whether a lock statement is guarded by a module level lock rather than by the lock of its object.
+     *
+     * @param func function containing the lock statement
+     * @param lock lock terminator of the statement
+     * @return true if the statement uses a global lock
+     */
+    public static boolean isGlobalLock(BIRNode.BIRFunction func, BIRTerminator.Lock lock) {
+        return (func.flags & Flags.ATTACHED) != Flags.ATTACHED || !lock.lockVariables.isEmpty();
+    }
+
+    public static String getGlobalLockVarName(int lockId) {
+        return GLOBAL_LOCK_VAR_NAME_PREFIX + lockId;
+    }
+
     public static void generateExitRuntime(MethodVisitor mv) {
         mv.visitMethodInsn(INVOKESTATIC , JAVA_RUNTIME, "getRuntime", GET_RUNTIME, false);
         mv.visitInsn(ICONST_0);
@@ -18,11 +18,13 @@
 package org.wso2.ballerinalang.compiler.bir.emit;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.io.PrintStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.wso2.ballerinalang.compiler.bir.emit.EmitterUtils.emitBasicBlockRef;
@@ -69,6 +71,24 @@ public class BIREmitter {
 
     public void emit(BIRNode.BIRPackage birPackage) {
         console.println(emitModule(birPackage));
+        if (!birPackage.eliminatedAllocations.isEmpty()) {
+            console.println(emitEliminatedAllocations(birPackage));
+        }
+    }
+
+    public static String emitEliminatedAllocations(BIRNode.BIRPackage mod) {
+        StringBuilder allocStr = new StringBuilder("================ Eliminated Allocations ================");
+        allocStr.append(emitLBreaks(1));
+        for (Map.Entry<String, List<BIRNonTerminator>> entry : mod.eliminatedAllocations.entrySet()) {
+            allocStr.append(entry.getKey()).append(" {").append(emitLBreaks(1));
+            for (BIRNonTerminator allocation : entry.getValue()) {
+                allocStr.append(emitTabs(1)).append("// ").append(allocation.pos.lineRange()).append(emitLBreaks(1));
+                allocStr.append(emitInstructions(List.of(allocation), 1));
+            }
+            allocStr.append("}").append(emitLBreaks(1));
+        }
+        allocStr.append("================ Eliminated Allocations ================");
+        return allocStr.toString();
     }
 
     public static String emitModule(BIRNode.BIRPackage mod) {
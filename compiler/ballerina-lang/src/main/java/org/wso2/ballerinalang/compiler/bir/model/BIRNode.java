@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.util.Name;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,8 @@ public abstract class BIRNode {
         public final List<BIRServiceDeclaration> serviceDecls;
         public boolean isListenerAvailable;
         public Map<String, Map<String, String>> recordDefaultValueMap = new HashMap<>();
+        // Allocations of records and tuples replaced with local variables, by the name of their functions
+        public Map<String, List<BIRNonTerminator>> eliminatedAllocations = new LinkedHashMap<>();
 
         public BIRPackage(Location pos, Name org, Name pkgName, Name name, Name version,
                           Name sourceFileName, String sourceRoot, boolean skipTest) {
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRListConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRListConstructorExprEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the records and tuples, which do not escape the function creating them, with a local variable for each of
+ * their fields or members.
+ * <p>
+ * A value does not escape, when the variable it is created into is only used to load and store its fields or members
+ * with constant keys or indexes. Passing it to a call, returning it, moving it to another variable or storing it in
+ * another structure lets it escape. Only closed records without optional fields and tuples without a rest type are
+ * replaced, since their fields and members are known at compile time. The replaced allocations are recorded in the
+ * module, so that they can be listed with the BIR dump.
+ *
+ * @since 2201.14.0
+ */
+public class BIRAllocationEliminator {
+
+    private static final String SCALAR_VAR_PREFIX = "%scalar";
+
+    private int scalarReplacementCount = 0;
+
+    /**
+     * Replaces the allocations, which do not escape their functions, in the functions of a module.
+     *
+     * @param pkg module to optimize
+     */
+    public void optimizeNode(BIRPackage pkg) {
+        for (BIRFunction function : pkg.functions) {
+            optimizeFunction(pkg, function.name.value, function);
+        }
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            for (BIRFunction attachedFunc : typeDef.attachedFuncs) {
+                optimizeFunction(pkg, typeDef.internalName.value + "." + attachedFunc.name.value, attachedFunc);
+            }
+        }
+    }
+
+    private void optimizeFunction(BIRPackage pkg, String functionName, BIRFunction function) {
+        Map<BIRVariableDcl, Allocation> allocations = findAllocations(function);
+        if (allocations.isEmpty()) {
+            return;
+        }
+        findAccesses(function, allocations);
+        allocations.values().removeIf(allocation -> allocation.escapes);
+        if (allocations.isEmpty()) {
+            return;
+        }
+
+        Map<BIRNonTerminator, List<BIRNonTerminator>> replacements = new IdentityHashMap<>();
+        for (Allocation allocation : allocations.values()) {
+            replaceAllocation(function, allocation, replacements);
+        }
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            List<BIRNonTerminator> instructions = new ArrayList<>(basicBlock.instructions.size());
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                instructions.addAll(replacements.getOrDefault(instruction, List.of(instruction)));
+            }
+            basicBlock.instructions = instructions;
+        }
+        function.localVars.removeAll(allocations.keySet());
+
+        List<BIRNonTerminator> eliminatedAllocations = new ArrayList<>();
+        for (Allocation allocation : allocations.values()) {
+            eliminatedAllocations.add(allocation.instruction);
+        }
+        pkg.eliminatedAllocations.put(functionName, eliminatedAllocations);
+    }
+
+    private static Map<BIRVariableDcl, Allocation> findAllocations(BIRFunction function) {
+        Map<BIRVariableDcl, Allocation> allocations = new LinkedHashMap<>();
+        Set<BIRVariableDcl> definedVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                Allocation allocation = switch (instruction) {
+                    case NewStructure newStructure -> getRecordAllocation(newStructure);
+                    case NewArray newArray -> getTupleAllocation(newArray);
+                    default -> null;
+                };
+                if (allocation == null) {
+                    continue;
+                }
+                BIRVariableDcl allocationVar = instruction.lhsOp.variableDcl;
+                if (!definedVars.add(allocationVar)) {
+                    // A variable reused for several values is left as it is
+                    allocations.remove(allocationVar);
+                    continue;
+                }
+                if (allocationVar.scope == VarScope.FUNCTION &&
+                        (allocationVar.kind == VarKind.LOCAL || allocationVar.kind == VarKind.TEMP)) {
+                    allocations.put(allocationVar, allocation);
+                }
+            }
+        }
+        return allocations;
+    }
+
+    private static Allocation getRecordAllocation(NewStructure newStructure) {
+        if (!(Types.getImpliedType(newStructure.lhsOp.variableDcl.type) instanceof BRecordType recordType) ||
+                !recordType.sealed) {
+            return null;
+        }
+        Map<Object, BType> fieldTypes = new LinkedHashMap<>();
+        for (BField field : recordType.fields.values()) {
+            if (Symbols.isFlagOn(field.symbol.flags, Flags.OPTIONAL)) {
+                return null;
+            }
+            fieldTypes.put(field.name.value, field.type);
+        }
+        for (BIRMappingConstructorEntry entry : newStructure.initialValues) {
+            if (!(entry instanceof BIRMappingConstructorKeyValueEntry)) {
+                return null;
+            }
+        }
+        return new Allocation(newStructure, fieldTypes);
+    }
+
+    private static Allocation getTupleAllocation(NewArray newArray) {
+        if (!(Types.getImpliedType(newArray.lhsOp.variableDcl.type) instanceof BTupleType tupleType) ||
+                tupleType.restType != null) {
+            return null;
+        }
+        List<BType> memberTypes = tupleType.getTupleTypes();
+        if (newArray.values.size() != memberTypes.size()) {
+            return null;
+        }
+        Map<Object, BType> fieldTypes = new LinkedHashMap<>();
+        for (int i = 0; i < memberTypes.size(); i++) {
+            if (!(newArray.values.get(i) instanceof BIRListConstructorExprEntry)) {
+                return null;
+            }
+            fieldTypes.put((long) i, memberTypes.get(i));
+        }
+        return new Allocation(newArray, fieldTypes);
+    }
+
+    private static void findAccesses(BIRFunction function, Map<BIRVariableDcl, Allocation> allocations) {
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            // The keys are loaded right before they are used, so they are only tracked within a basic block
+            Map<BIRVariableDcl, Object> constants = new HashMap<>();
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                findAccesses(instruction, constants, allocations);
+                if (instruction.lhsOp != null) {
+                    constants.remove(instruction.lhsOp.variableDcl);
+                    if (instruction instanceof ConstantLoad constantLoad) {
+                        constants.put(constantLoad.lhsOp.variableDcl, getConstantKey(constantLoad));
+                    }
+                }
+            }
+            markEscaping(basicBlock.terminator.lhsOp, allocations);
+            for (BIROperand operand : basicBlock.terminator.getRhsOperands()) {
+                markEscaping(operand, allocations);
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            markEscaping(errorEntry.errorOp, allocations);
+        }
+    }
+
+    private static void findAccesses(BIRNonTerminator instruction, Map<BIRVariableDcl, Object> constants,
+                                     Map<BIRVariableDcl, Allocation> allocations) {
+        if (instruction instanceof FieldAccess fieldAccess) {
+            switch (fieldAccess.kind) {
+                case MAP_LOAD, ARRAY_LOAD -> {
+                    Allocation allocation = allocations.get(fieldAccess.rhsOp.variableDcl);
+                    if (allocation != null) {
+                        markEscaping(fieldAccess.keyOp, allocations);
+                        markEscaping(fieldAccess.lhsOp, allocations);
+                        addAccess(allocation, fieldAccess, constants.get(fieldAccess.keyOp.variableDcl),
+                                fieldAccess.lhsOp);
+                        return;
+                    }
+                }
+                case MAP_STORE, ARRAY_STORE -> {
+                    Allocation allocation = allocations.get(fieldAccess.lhsOp.variableDcl);
+                    if (allocation != null) {
+                        markEscaping(fieldAccess.keyOp, allocations);
+                        markEscaping(fieldAccess.rhsOp, allocations);
+                        addAccess(allocation, fieldAccess, constants.get(fieldAccess.keyOp.variableDcl),
+                                fieldAccess.rhsOp);
+                        return;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        Allocation allocation = allocations.get(instruction.lhsOp == null ? null : instruction.lhsOp.variableDcl);
+        if (allocation != null && allocation.instruction != instruction) {
+            allocation.escapes = true;
+        }
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            markEscaping(operand, allocations);
+        }
+        if (allocation != null && allocation.instruction == instruction) {
+            addInitialValues(allocation, constants);
+        }
+    }
+
+    private static void addAccess(Allocation allocation, FieldAccess fieldAccess, Object key, BIROperand valueOp) {
+        BType fieldType = allocation.fieldTypes.get(key);
+        if (fieldType == null || fieldAccess.optionalFieldAccess || fieldAccess.fillingRead ||
+                fieldAccess.onInitialization ||
+                !BIRFunctionInliner.isSameJvmType(valueOp.variableDcl.type, fieldType)) {
+            allocation.escapes = true;
+            return;
+        }
+        allocation.accesses.put(fieldAccess, key);
+    }
+
+    private static void addInitialValues(Allocation allocation, Map<BIRVariableDcl, Object> constants) {
+        if (allocation.instruction instanceof NewStructure newStructure) {
+            for (BIRMappingConstructorEntry entry : newStructure.initialValues) {
+                BIRMappingConstructorKeyValueEntry keyValueEntry = (BIRMappingConstructorKeyValueEntry) entry;
+                addInitialValue(allocation, constants.get(keyValueEntry.keyOp.variableDcl), keyValueEntry.valueOp);
+            }
+        } else {
+            List<BIRListConstructorEntry> values = ((NewArray) allocation.instruction).values;
+            for (int i = 0; i < values.size(); i++) {
+                addInitialValue(allocation, (long) i, values.get(i).exprOp);
+            }
+        }
+        // Every field must be given a value, as the variables of the fields are not initialized otherwise
+        if (allocation.initialValues.size() != allocation.fieldTypes.size()) {
+            allocation.escapes = true;
+        }
+    }
+
+    private static void addInitialValue(Allocation allocation, Object key, BIROperand valueOp) {
+        BType fieldType = allocation.fieldTypes.get(key);
+        if (fieldType == null || allocation.initialValues.containsKey(key) ||
+                !BIRFunctionInliner.isSameJvmType(valueOp.variableDcl.type, fieldType)) {
+            allocation.escapes = true;
+            return;
+        }
+        allocation.initialValues.put(key, valueOp);
+    }
+
+    private static void markEscaping(BIROperand operand, Map<BIRVariableDcl, Allocation> allocations) {
+        if (operand == null) {
+            return;
+        }
+        Allocation allocation = allocations.get(operand.variableDcl);
+        if (allocation != null) {
+            allocation.escapes = true;
+        }
+    }
+
+    private static Object getConstantKey(ConstantLoad constantLoad) {
+        int typeTag = Types.getImpliedType(constantLoad.type).tag;
+        if (TypeTags.isStringTypeTag(typeTag)) {
+            return String.valueOf(constantLoad.value);
+        }
+        if (typeTag == TypeTags.INT && constantLoad.value instanceof Long value) {
+            return value;
+        }
+        return null;
+    }
+
+    private void replaceAllocation(BIRFunction function, Allocation allocation,
+                                   Map<BIRNonTerminator, List<BIRNonTerminator>> replacements) {
+        String varPrefix = SCALAR_VAR_PREFIX + this.scalarReplacementCount++ + "_";
+        Map<Object, BIROperand> fieldOperands = new HashMap<>();
+        int fieldIndex = 0;
+        for (Map.Entry<Object, BType> field : allocation.fieldTypes.entrySet()) {
+            BIRVariableDcl fieldVar = new BIRVariableDcl(allocation.instruction.pos, field.getValue(),
+                    new Name(varPrefix + fieldIndex++), VarScope.FUNCTION, VarKind.SYNTHETIC, null);
+            function.localVars.add(fieldVar);
+            fieldOperands.put(field.getKey(), new BIROperand(fieldVar));
+        }
+
+        List<BIRNonTerminator> initialValueMoves = new ArrayList<>();
+        for (Map.Entry<Object, BIROperand> initialValue : allocation.initialValues.entrySet()) {
+            initialValueMoves.add(createMove(allocation.instruction, initialValue.getValue(),
+                    fieldOperands.get(initialValue.getKey())));
+        }
+        replacements.put(allocation.instruction, initialValueMoves);
+
+        for (Map.Entry<FieldAccess, Object> access : allocation.accesses.entrySet()) {
+            FieldAccess fieldAccess = access.getKey();
+            BIROperand fieldOperand = fieldOperands.get(access.getValue());
+            boolean isLoad = fieldAccess.kind == InstructionKind.MAP_LOAD ||
+                    fieldAccess.kind == InstructionKind.ARRAY_LOAD;
+            Move move = isLoad ?
+                    createMove(fieldAccess, fieldOperand, fieldAccess.lhsOp) :
+                    createMove(fieldAccess, fieldAccess.rhsOp, fieldOperand);
+            replacements.put(fieldAccess, List.of(move));
+        }
+    }
+
+    private static Move createMove(BIRNonTerminator instruction, BIROperand fromOperand, BIROperand toOperand) {
+        Move move = new Move(instruction.pos, fromOperand, toOperand);
+        move.scope = instruction.scope;
+        return move;
+    }
+
+    /**
+     * A record or tuple created in a function, along with the instructions accessing its fields or members.
+     */
+    private static class Allocation {
+
+        final BIRNonTerminator instruction;
+        // Types of the fields of a record by their names, or the members of a tuple by their indexes
+        final Map<Object, BType> fieldTypes;
+        final Map<Object, BIROperand> initialValues = new LinkedHashMap<>();
+        final Map<FieldAccess, Object> accesses = new IdentityHashMap<>();
+        boolean escapes = false;
+
+        Allocation(BIRNonTerminator instruction, Map<Object, BType> fieldTypes) {
+            this.instruction = instruction;
+            this.fieldTypes = fieldTypes;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.GOTO;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the int, float and boolean operations on constant operands at compile time, and replaces the branches on
+ * constant conditions with jumps.
+ * <p>
+ * The constants are tracked through the instructions of a basic block and on to the basic blocks which have it as
+ * their only predecessor, which covers the constants passed as arguments to inlined functions. Operations, which
+ * would panic at runtime, e.g. on integer overflow, are left as they are, so that the panic still happens.
+ *
+ * @since 2201.14.0
+ */
+public class BIRConstantFolder {
+
+    /**
+     * Folds the constant operations in a function.
+     *
+     * @param function function to optimize
+     */
+    public void optimizeNode(BIRFunction function) {
+        Map<BIRBasicBlock, List<BIRBasicBlock>> predecessors = getPredecessors(function.basicBlocks);
+        // A trapped panic can leave a basic block half way through, so constants are not carried over then
+        boolean hasErrorTable = !function.errorTable.isEmpty();
+        Map<BIRBasicBlock, Map<BIRVariableDcl, ConstantLoad>> exitConstants = new IdentityHashMap<>();
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            Map<BIRVariableDcl, ConstantLoad> constants = new HashMap<>();
+            List<BIRBasicBlock> basicBlockPredecessors = predecessors.get(basicBlock);
+            if (!hasErrorTable && basicBlockPredecessors.size() == 1) {
+                BIRBasicBlock predecessor = basicBlockPredecessors.getFirst();
+                Map<BIRVariableDcl, ConstantLoad> predecessorConstants = exitConstants.get(predecessor);
+                // Loops are entered from a basic block which is not visited yet
+                if (predecessorConstants != null) {
+                    constants.putAll(predecessorConstants);
+                    if (predecessor.terminator.lhsOp != null) {
+                        constants.remove(predecessor.terminator.lhsOp.variableDcl);
+                    }
+                }
+            }
+
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator instruction = instructions.get(i);
+                ConstantLoad foldedInstruction = foldInstruction(instruction, constants);
+                if (foldedInstruction != null) {
+                    foldedInstruction.scope = instruction.scope;
+                    instructions.set(i, foldedInstruction);
+                    instruction = foldedInstruction;
+                }
+                updateConstants(instruction, constants);
+            }
+
+            if (basicBlock.terminator instanceof Branch branch) {
+                ConstantLoad condition = constants.get(branch.op.variableDcl);
+                if (condition != null && condition.value instanceof Boolean value) {
+                    basicBlock.terminator = new GOTO(branch.pos, value ? branch.trueBB : branch.falseBB,
+                            branch.scope);
+                }
+            }
+            exitConstants.put(basicBlock, constants);
+        }
+    }
+
+    private static Map<BIRBasicBlock, List<BIRBasicBlock>> getPredecessors(List<BIRBasicBlock> basicBlocks) {
+        Map<BIRBasicBlock, List<BIRBasicBlock>> predecessors = new IdentityHashMap<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            predecessors.computeIfAbsent(basicBlock, bb -> new ArrayList<>());
+            for (BIRBasicBlock successor : basicBlock.terminator.getNextBasicBlocks()) {
+                predecessors.computeIfAbsent(successor, bb -> new ArrayList<>()).add(basicBlock);
+            }
+        }
+        return predecessors;
+    }
+
+    private static void updateConstants(BIRNonTerminator instruction, Map<BIRVariableDcl, ConstantLoad> constants) {
+        if (instruction.lhsOp == null) {
+            return;
+        }
+        BIRVariableDcl lhsVar = instruction.lhsOp.variableDcl;
+        constants.remove(lhsVar);
+        if (lhsVar.scope != VarScope.FUNCTION) {
+            return;
+        }
+        if (instruction instanceof ConstantLoad constantLoad && getConstantValue(constantLoad) != null) {
+            constants.put(lhsVar, constantLoad);
+        } else if (instruction instanceof Move move) {
+            ConstantLoad constant = constants.get(move.rhsOp.variableDcl);
+            if (constant != null && getTypeTag(constant.type) == getTypeTag(lhsVar.type)) {
+                constants.put(lhsVar, constant);
+            }
+        }
+    }
+
+    private static ConstantLoad foldInstruction(BIRNonTerminator instruction,
+                                                Map<BIRVariableDcl, ConstantLoad> constants) {
+        Object value;
+        if (instruction instanceof BinaryOp binaryOp) {
+            Object lhsValue = getConstantValue(binaryOp.rhsOp1, constants);
+            Object rhsValue = getConstantValue(binaryOp.rhsOp2, constants);
+            if (lhsValue instanceof Long lhsInt && rhsValue instanceof Long rhsInt) {
+                value = foldIntOperation(binaryOp.kind, lhsInt, rhsInt);
+            } else if (lhsValue instanceof Double lhsFloat && rhsValue instanceof Double rhsFloat) {
+                value = foldFloatOperation(binaryOp.kind, lhsFloat, rhsFloat);
+            } else if (lhsValue instanceof Boolean lhsBoolean && rhsValue instanceof Boolean rhsBoolean) {
+                value = foldBooleanOperation(binaryOp.kind, lhsBoolean, rhsBoolean);
+            } else {
+                return null;
+            }
+        } else if (instruction instanceof UnaryOP unaryOp) {
+            Object operandValue = getConstantValue(unaryOp.rhsOp, constants);
+            if (unaryOp.kind == InstructionKind.NOT && operandValue instanceof Boolean operand) {
+                value = !operand;
+            } else if (unaryOp.kind == InstructionKind.NEGATE && operandValue instanceof Long operand) {
+                // Negation of integers is not checked for overflow
+                value = -operand;
+            } else if (unaryOp.kind == InstructionKind.NEGATE && operandValue instanceof Double operand) {
+                value = -operand;
+            } else {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        if (value == null || !isOfType(value, instruction.lhsOp.variableDcl.type)) {
+            return null;
+        }
+        return new ConstantLoad(instruction.pos, value, instruction.lhsOp.variableDcl.type, instruction.lhsOp);
+    }
+
+    private static Object foldIntOperation(InstructionKind kind, long lhs, long rhs) {
+        try {
+            return switch (kind) {
+                case ADD -> Math.addExact(lhs, rhs);
+                case SUB -> Math.subtractExact(lhs, rhs);
+                case MUL -> Math.multiplyExact(lhs, rhs);
+                case DIV -> rhs == 0 || (lhs == Long.MIN_VALUE && rhs == -1) ? null : lhs / rhs;
+                case MOD -> rhs == 0 ? null : lhs % rhs;
+                case EQUAL -> lhs == rhs;
+                case NOT_EQUAL -> lhs != rhs;
+                case LESS_THAN -> lhs < rhs;
+                case LESS_EQUAL -> lhs <= rhs;
+                case GREATER_THAN -> lhs > rhs;
+                case GREATER_EQUAL -> lhs >= rhs;
+                case BITWISE_AND -> lhs & rhs;
+                case BITWISE_OR -> lhs | rhs;
+                case BITWISE_XOR -> lhs ^ rhs;
+                // The shift distance is truncated to an int like in the generated code
+                case BITWISE_LEFT_SHIFT -> lhs << (int) rhs;
+                case BITWISE_RIGHT_SHIFT -> lhs >> (int) rhs;
+                case BITWISE_UNSIGNED_RIGHT_SHIFT -> lhs >>> (int) rhs;
+                default -> null;
+            };
+        } catch (ArithmeticException e) {
+            // Overflows are left to panic at runtime
+            return null;
+        }
+    }
+
+    private static Object foldFloatOperation(InstructionKind kind, double lhs, double rhs) {
+        // Comparisons of floats follow the Ballerina semantics for NaN and signed zeros, so they are not folded
+        return switch (kind) {
+            case ADD -> lhs + rhs;
+            case SUB -> lhs - rhs;
+            case MUL -> lhs * rhs;
+            case DIV -> lhs / rhs;
+            case MOD -> lhs % rhs;
+            default -> null;
+        };
+    }
+
+    private static Object foldBooleanOperation(InstructionKind kind, boolean lhs, boolean rhs) {
+        return switch (kind) {
+            case EQUAL -> lhs == rhs;
+            case NOT_EQUAL -> lhs != rhs;
+            default -> null;
+        };
+    }
+
+    private static Object getConstantValue(BIROperand operand, Map<BIRVariableDcl, ConstantLoad> constants) {
+        ConstantLoad constant = constants.get(operand.variableDcl);
+        if (constant == null || getTypeTag(constant.type) != getTypeTag(operand.variableDcl.type)) {
+            return null;
+        }
+        return getConstantValue(constant);
+    }
+
+    private static Object getConstantValue(ConstantLoad constantLoad) {
+        Object value = constantLoad.value;
+        return isOfType(value, constantLoad.type) ? value : null;
+    }
+
+    private static boolean isOfType(Object value, BType type) {
+        return switch (getTypeTag(type)) {
+            case TypeTags.INT -> value instanceof Long;
+            case TypeTags.FLOAT -> value instanceof Double;
+            case TypeTags.BOOLEAN -> value instanceof Boolean;
+            default -> false;
+        };
+    }
+
+    private static int getTypeTag(BType type) {
+        return Types.getImpliedType(type).tag;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.identifier.Utils;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FPLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.util.Constants.MAIN_FUNCTION_NAME;
+
+/**
+ * Removes the module level functions of a set of modules, which cannot be reached from the entry points of the
+ * modules through calls or function pointers.
+ * <p>
+ * The entry points are the module init, start and stop functions, the main function, the methods of the type
+ * definitions, the functions which provide the default values of record fields and all the functions of the test
+ * modules. Type definitions and their methods are always kept, since they can be used through type descriptors and
+ * method calls that are only resolved at runtime.
+ * <p>
+ * All the callers of the functions must be in the given modules, i.e. no other module may depend on them.
+ *
+ * @since 2201.14.0
+ */
+public class BIRDeadCodeEliminator {
+
+    // The init, start and stop functions are the first functions of a module
+    private static final int MODULE_LIFECYCLE_FUNCTION_COUNT = 3;
+
+    private final Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+    private final Set<BIRFunction> reachableFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Deque<BIRFunction> worklist = new ArrayDeque<>();
+
+    /**
+     * Removes the functions of the given modules, which are not reachable from their entry points.
+     *
+     * @param modules     modules to remove the functions from
+     * @param testModules test modules of the given modules, whose functions are all kept
+     * @return the removed functions of each module, in the order they were defined
+     */
+    public Map<PackageID, List<BIRFunction>> eliminate(List<BIRPackage> modules, List<BIRPackage> testModules) {
+        for (BIRPackage module : modules) {
+            for (BIRFunction function : module.functions) {
+                this.moduleFunctions.put(getFunctionKey(module.packageID, function.name.value), function);
+            }
+        }
+        for (BIRPackage module : modules) {
+            addEntryPoints(module, false);
+        }
+        for (BIRPackage testModule : testModules) {
+            addEntryPoints(testModule, true);
+        }
+        while (!this.worklist.isEmpty()) {
+            visitFunction(this.worklist.poll());
+        }
+
+        Map<PackageID, List<BIRFunction>> removedFunctions = new LinkedHashMap<>();
+        for (BIRPackage module : modules) {
+            List<BIRFunction> unreachableFunctions = new ArrayList<>();
+            for (BIRFunction function : module.functions) {
+                if (!this.reachableFunctions.contains(function)) {
+                    unreachableFunctions.add(function);
+                }
+            }
+            if (unreachableFunctions.isEmpty()) {
+                continue;
+            }
+            module.functions.removeIf(function -> !this.reachableFunctions.contains(function));
+            removedFunctions.put(module.packageID, unreachableFunctions);
+        }
+        return removedFunctions;
+    }
+
+    private void addEntryPoints(BIRPackage module, boolean isTestModule) {
+        List<BIRFunction> functions = module.functions;
+        for (int i = 0; i < functions.size(); i++) {
+            BIRFunction function = functions.get(i);
+            if (isTestModule || i < MODULE_LIFECYCLE_FUNCTION_COUNT || isEntryPoint(function)) {
+                markReachable(function);
+            }
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            for (BIRFunction attachedFunc : typeDef.attachedFuncs) {
+                markReachable(attachedFunc);
+            }
+        }
+        // The default value functions of record types are looked up by name when the types are created
+        for (Map<String, String> fieldDefaultFunctions : module.recordDefaultValueMap.values()) {
+            for (String functionName : fieldDefaultFunctions.values()) {
+                markReachable(module.packageID, Utils.decodeIdentifier(functionName));
+            }
+        }
+    }
+
+    private static boolean isEntryPoint(BIRFunction function) {
+        return MAIN_FUNCTION_NAME.equals(function.originalName.value) ||
+                Symbols.isFlagOn(function.flags, Flags.ATTACHED) || Symbols.isFlagOn(function.flags, Flags.RECORD);
+    }
+
+    private void visitFunction(BIRFunction function) {
+        // The default values of parameters are looked up by name when functions are called through the runtime
+        if (function.type != null && function.type.tsymbol instanceof BInvokableTypeSymbol typeSymbol) {
+            for (BInvokableSymbol defaultValueSymbol : typeSymbol.defaultValues.values()) {
+                markReachable(defaultValueSymbol.pkgID, defaultValueSymbol.name.value);
+            }
+        }
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction instanceof FPLoad fpLoad) {
+                    markReachable(fpLoad.pkgId, fpLoad.funcName);
+                }
+            }
+            // Async calls are calls as well
+            if (basicBlock.terminator instanceof Call call) {
+                markReachable(call.calleePkg, call.name);
+            }
+        }
+    }
+
+    private void markReachable(PackageID packageID, Name functionName) {
+        if (packageID != null && functionName != null) {
+            markReachable(packageID, functionName.value);
+        }
+    }
+
+    private void markReachable(PackageID packageID, String functionName) {
+        BIRFunction function = this.moduleFunctions.get(getFunctionKey(packageID, functionName));
+        if (function != null) {
+            markReachable(function);
+        }
+    }
+
+    private void markReachable(BIRFunction function) {
+        if (this.reachableFunctions.add(function)) {
+            this.worklist.add(function);
+        }
+    }
+
+    private static String getFunctionKey(PackageID packageID, String functionName) {
+        // Test modules have the same organization and name as the modules they test
+        return packageID.orgName.value + "/" + packageID.name.value + ":" + functionName;
+    }
+}
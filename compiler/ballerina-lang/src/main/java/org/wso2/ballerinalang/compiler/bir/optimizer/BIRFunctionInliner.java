@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.wso2.ballerinalang.compiler.bir.BIRGenUtils;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.GOTO;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inlines the calls to small module level functions of the same module, which are made up of instructions that
+ * cannot call other functions, yield or panic.
+ * <p>
+ * Since these functions are leaves of the call graph, they cannot be recursive, and the strand of the caller never
+ * has to be suspended while running them. Restricting them to instructions that cannot panic keeps the stack traces
+ * of errors intact, as no error can be created while the inlined code runs. Only the functions defined in the same
+ * source file as the call are inlined, so that the line numbers of the inlined instructions stay valid for debuggers
+ * and coverage tools.
+ *
+ * @since 2201.14.0
+ */
+public class BIRFunctionInliner {
+
+    // Number of instructions, including the terminators, of the largest function that is inlined
+    private static final int MAX_CALLEE_INSTRUCTION_COUNT = 16;
+    // Number of instructions a function can grow up to by inlining, which keeps it below the size of a JVM method
+    private static final int MAX_CALLER_INSTRUCTION_COUNT = 1000;
+    private static final String INLINED_VAR_PREFIX = "%inline";
+
+    private final Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+    private int inlinedCallCount;
+
+    /**
+     * Inlines the calls to small functions in the functions of a module.
+     *
+     * @param birPackage module to optimize
+     * @return the functions into which calls were inlined
+     */
+    public List<BIRFunction> optimizeNode(BIRPackage birPackage) {
+        this.moduleFunctions.clear();
+        for (BIRFunction function : birPackage.functions) {
+            this.moduleFunctions.put(function.name.value, function);
+        }
+        List<BIRFunction> optimizedFunctions = new ArrayList<>();
+        for (BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            for (BIRFunction attachedFunc : typeDef.attachedFuncs) {
+                if (optimizeFunction(birPackage, attachedFunc)) {
+                    optimizedFunctions.add(attachedFunc);
+                }
+            }
+        }
+        for (BIRFunction function : birPackage.functions) {
+            if (optimizeFunction(birPackage, function)) {
+                optimizedFunctions.add(function);
+            }
+        }
+        return optimizedFunctions;
+    }
+
+    private boolean optimizeFunction(BIRPackage birPackage, BIRFunction caller) {
+        this.inlinedCallCount = 0;
+        int instructionCount = getInstructionCount(caller);
+        List<BIRBasicBlock> basicBlocks = caller.basicBlocks;
+        // The basic blocks of the inlined functions are added after the calls, and do not contain calls
+        for (int i = 0; i < basicBlocks.size(); i++) {
+            BIRBasicBlock basicBlock = basicBlocks.get(i);
+            if (!(basicBlock.terminator instanceof Call call)) {
+                continue;
+            }
+            BIRFunction callee = getInlinableCallee(birPackage, caller, call);
+            if (callee == null) {
+                continue;
+            }
+            int calleeInstructionCount = getInstructionCount(callee);
+            if (instructionCount + calleeInstructionCount > MAX_CALLER_INSTRUCTION_COUNT) {
+                break;
+            }
+            List<BIRBasicBlock> inlinedBasicBlocks = inline(caller, basicBlock, call, callee);
+            basicBlocks.addAll(i + 1, inlinedBasicBlocks);
+            i += inlinedBasicBlocks.size();
+            instructionCount += calleeInstructionCount;
+        }
+        if (this.inlinedCallCount == 0) {
+            return false;
+        }
+        BIRGenUtils.rearrangeBasicBlocks(caller);
+        return true;
+    }
+
+    private BIRFunction getInlinableCallee(BIRPackage birPackage, BIRFunction caller, Call call) {
+        if (call.kind != InstructionKind.CALL || call.isVirtual || !birPackage.packageID.equals(call.calleePkg)) {
+            return null;
+        }
+        BIRFunction callee = this.moduleFunctions.get(call.name.value);
+        if (callee == null || callee == caller || !isInlinable(callee) || !isInSameFile(call.pos, callee.pos)
+                || call.args.size() != callee.parameters.size()) {
+            return null;
+        }
+        for (int i = 0; i < call.args.size(); i++) {
+            if (!isSameJvmType(call.args.get(i).variableDcl.type, callee.parameters.get(i).type)) {
+                return null;
+            }
+        }
+        if (call.lhsOp != null && !isSameJvmType(callee.returnVariable.type, call.lhsOp.variableDcl.type)) {
+            return null;
+        }
+        return callee;
+    }
+
+    private static boolean isInlinable(BIRFunction function) {
+        if (Symbols.isFlagOn(function.flags, Flags.NATIVE) || function.hasWorkers
+                || function.workerChannels.length > 0 || function.receiver != null || function.restParam != null
+                || !function.errorTable.isEmpty() || function.basicBlocks.isEmpty()
+                || getInstructionCount(function) > MAX_CALLEE_INSTRUCTION_COUNT) {
+            return false;
+        }
+        for (BIRFunctionParameter parameter : function.parameters) {
+            if (parameter.hasDefaultExpr) {
+                return false;
+            }
+        }
+        Set<BIRVariableDcl> localVars = Collections.newSetFromMap(new IdentityHashMap<>());
+        localVars.addAll(function.localVars);
+        if (!localVars.contains(function.returnVariable) || !localVars.containsAll(function.parameters)) {
+            return false;
+        }
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isInlinable(instruction, localVars)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case GOTO, RETURN -> {
+                }
+                case BRANCH -> {
+                    if (!localVars.contains(((Branch) terminator).op.variableDcl)) {
+                        return false;
+                    }
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInlinable(BIRNonTerminator instruction, Set<BIRVariableDcl> localVars) {
+        // Global variables are not accessed, so the inlined code does not depend on the module being initialized
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (!localVars.contains(operand.variableDcl)) {
+                return false;
+            }
+        }
+        if (instruction.lhsOp == null || !localVars.contains(instruction.lhsOp.variableDcl)) {
+            return false;
+        }
+        return switch (instruction) {
+            case Move move -> true;
+            case ConstantLoad constantLoad -> true;
+            case BinaryOp binaryOp -> isNonPanickingOperation(binaryOp);
+            case UnaryOP unaryOp -> isNonPanickingOperation(unaryOp);
+            default -> false;
+        };
+    }
+
+    private static boolean isNonPanickingOperation(BinaryOp binaryOp) {
+        int lhsTypeTag = getTypeTag(binaryOp.rhsOp1.variableDcl.type);
+        if (lhsTypeTag != getTypeTag(binaryOp.rhsOp2.variableDcl.type)) {
+            return false;
+        }
+        // Integer arithmetic panics on overflow and division by zero, while float arithmetic does not
+        return switch (binaryOp.kind) {
+            case ADD, SUB, MUL, DIV, MOD -> lhsTypeTag == TypeTags.FLOAT;
+            case LESS_THAN, LESS_EQUAL, GREATER_THAN, GREATER_EQUAL ->
+                    lhsTypeTag == TypeTags.INT || lhsTypeTag == TypeTags.FLOAT;
+            case EQUAL, NOT_EQUAL ->
+                    lhsTypeTag == TypeTags.INT || lhsTypeTag == TypeTags.FLOAT || lhsTypeTag == TypeTags.BOOLEAN;
+            case BITWISE_AND, BITWISE_OR, BITWISE_XOR, BITWISE_LEFT_SHIFT, BITWISE_RIGHT_SHIFT,
+                 BITWISE_UNSIGNED_RIGHT_SHIFT -> lhsTypeTag == TypeTags.INT;
+            default -> false;
+        };
+    }
+
+    private static boolean isNonPanickingOperation(UnaryOP unaryOp) {
+        int typeTag = getTypeTag(unaryOp.rhsOp.variableDcl.type);
+        return switch (unaryOp.kind) {
+            case NOT -> typeTag == TypeTags.BOOLEAN;
+            case NEGATE -> typeTag == TypeTags.INT || typeTag == TypeTags.FLOAT;
+            default -> false;
+        };
+    }
+
+    private List<BIRBasicBlock> inline(BIRFunction caller, BIRBasicBlock callBasicBlock, Call call,
+                                       BIRFunction callee) {
+        String varPrefix = INLINED_VAR_PREFIX + this.inlinedCallCount++ + "_";
+        Map<BIRVariableDcl, BIROperand> operands = new IdentityHashMap<>();
+        for (BIRVariableDcl calleeVar : callee.localVars) {
+            BIRVariableDcl inlinedVar = new BIRVariableDcl(calleeVar.pos, calleeVar.type,
+                    new Name(varPrefix + calleeVar.name.value.replace("%", "")), VarScope.FUNCTION,
+                    VarKind.SYNTHETIC, null);
+            caller.localVars.add(inlinedVar);
+            operands.put(calleeVar, new BIROperand(inlinedVar));
+        }
+
+        Map<BIRBasicBlock, BIRBasicBlock> basicBlocks = new IdentityHashMap<>();
+        List<BIRBasicBlock> inlinedBasicBlocks = new ArrayList<>();
+        for (BIRBasicBlock calleeBasicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBasicBlock = new BIRBasicBlock(calleeBasicBlock.number);
+            basicBlocks.put(calleeBasicBlock, inlinedBasicBlock);
+            inlinedBasicBlocks.add(inlinedBasicBlock);
+        }
+        BIRBasicBlock returnBasicBlock = call.thenBB;
+        if (call.lhsOp != null) {
+            returnBasicBlock = new BIRBasicBlock(callee.basicBlocks.size());
+            returnBasicBlock.instructions.add(
+                    new Move(call.pos, operands.get(callee.returnVariable), call.lhsOp));
+            returnBasicBlock.terminator = new GOTO(null, call.thenBB);
+            inlinedBasicBlocks.add(returnBasicBlock);
+        }
+
+        for (BIRBasicBlock calleeBasicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBasicBlock = basicBlocks.get(calleeBasicBlock);
+            for (BIRNonTerminator instruction : calleeBasicBlock.instructions) {
+                inlinedBasicBlock.instructions.add(copyInstruction(instruction, operands));
+            }
+            BIRTerminator terminator = calleeBasicBlock.terminator;
+            inlinedBasicBlock.terminator = switch (terminator) {
+                case GOTO gotoIns -> new GOTO(gotoIns.pos, basicBlocks.get(gotoIns.targetBB));
+                case Branch branch -> new Branch(branch.pos, operands.get(branch.op.variableDcl),
+                        basicBlocks.get(branch.trueBB), basicBlocks.get(branch.falseBB));
+                default -> new GOTO(null, returnBasicBlock);
+            };
+        }
+
+        // The arguments are passed by copying them to the parameters of the inlined function
+        for (int i = 0; i < call.args.size(); i++) {
+            callBasicBlock.instructions.add(
+                    new Move(call.pos, call.args.get(i), operands.get(callee.parameters.get(i))));
+        }
+        callBasicBlock.terminator = new GOTO(call.pos, basicBlocks.get(callee.basicBlocks.getFirst()), call.scope);
+        return inlinedBasicBlocks;
+    }
+
+    private static BIRNonTerminator copyInstruction(BIRNonTerminator instruction,
+                                                    Map<BIRVariableDcl, BIROperand> operands) {
+        BIROperand lhsOp = operands.get(instruction.lhsOp.variableDcl);
+        return switch (instruction) {
+            case Move move -> new Move(move.pos, operands.get(move.rhsOp.variableDcl), lhsOp);
+            case ConstantLoad constantLoad ->
+                    new ConstantLoad(constantLoad.pos, constantLoad.value, constantLoad.type, lhsOp);
+            case BinaryOp binaryOp -> new BinaryOp(binaryOp.pos, binaryOp.kind, lhsOp,
+                    operands.get(binaryOp.rhsOp1.variableDcl), operands.get(binaryOp.rhsOp2.variableDcl));
+            case UnaryOP unaryOp ->
+                    new UnaryOP(unaryOp.pos, unaryOp.kind, lhsOp, operands.get(unaryOp.rhsOp.variableDcl));
+            default -> throw new IllegalStateException("instruction cannot be inlined: " + instruction.kind);
+        };
+    }
+
+    private static boolean isInSameFile(Location callPos, Location calleePos) {
+        return callPos != null && calleePos != null &&
+                callPos.lineRange().fileName().equals(calleePos.lineRange().fileName());
+    }
+
+    // Moves do not convert values, so the values must have the same representation in both variables
+    static boolean isSameJvmType(BType sourceType, BType targetType) {
+        if (sourceType == targetType) {
+            return true;
+        }
+        int typeTag = getTypeTag(sourceType);
+        return typeTag == getTypeTag(targetType) && (typeTag == TypeTags.INT || typeTag == TypeTags.BYTE ||
+                typeTag == TypeTags.FLOAT || typeTag == TypeTags.BOOLEAN || typeTag == TypeTags.STRING);
+    }
+
+    private static int getTypeTag(BType type) {
+        return Types.getImpliedType(type).tag;
+    }
+
+    private static int getInstructionCount(BIRFunction function) {
+        int instructionCount = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            instructionCount += basicBlock.instructions.size() + 1;
+        }
+        return instructionCount;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.codegen.model.JLargeArrayInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.model.JLargeMapInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.model.JMethodCallInstruction;
@@ -39,6 +40,7 @@ import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Lists;
 
@@ -64,6 +66,11 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
     private final LargeMethodOptimizer largeMethodOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final BIRConstantFolder constantFolder;
+    private final BIRUnboxingOptimizer unboxingOptimizer;
+    private final BIRAllocationEliminator allocationEliminator;
+    private final CompilerOptions compilerOptions;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -81,9 +88,24 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
         this.largeMethodOptimizer = new LargeMethodOptimizer(SymbolTable.getInstance(context));
+        this.functionInliner = new BIRFunctionInliner();
+        this.constantFolder = new BIRConstantFolder();
+        this.unboxingOptimizer = new BIRUnboxingOptimizer();
+        this.allocationEliminator = new BIRAllocationEliminator();
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        optimizePackage(pkg, true);
+    }
+
+    /**
+     * Optimizes the BIR of a module.
+     *
+     * @param pkg             module to optimize
+     * @param inlineFunctions whether calls to small functions can be inlined, i.e. none of them can be mocked
+     */
+    public void optimizePackage(BIRPackage pkg, boolean inlineFunctions) {
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
         // Split large BIR functions into smaller methods based on maps and arrays
@@ -94,6 +116,23 @@ public class BIROptimizer {
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
 
+        // Inline small functions and fold the constants exposed by them
+        if (inlineFunctions && !Boolean.parseBoolean(this.compilerOptions.get(CompilerOptionName.DISABLE_INLINING))) {
+            for (BIRFunction function : this.functionInliner.optimizeNode(pkg)) {
+                this.constantFolder.optimizeNode(function);
+            }
+        }
+
+        // Replace the records and tuples, which do not escape their functions, with local variables
+        if (Boolean.parseBoolean(this.compilerOptions.get(CompilerOptionName.ELIMINATE_ALLOCATIONS))) {
+            this.allocationEliminator.optimizeNode(pkg);
+        }
+
+        // Reuse the unboxed int and float values instead of unboxing the same values again
+        if (!Boolean.parseBoolean(this.compilerOptions.get(CompilerOptionName.DISABLE_UNBOXING_OPTIMIZATION))) {
+            this.unboxingOptimizer.optimizeNode(pkg);
+        }
+
         // Optimize BB - unnecessary goto removal
         bbOptimizer.optimizeNode(pkg, null);
 
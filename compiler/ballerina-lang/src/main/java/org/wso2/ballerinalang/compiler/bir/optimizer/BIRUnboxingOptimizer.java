@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reuses the int and float values, which are already available in unboxed variables, instead of unboxing the
+ * variables of union, {@code any}, {@code anydata}, {@code json} and {@code readonly} types again.
+ * <p>
+ * Such a variable gets an unboxed counterpart, when an int or float variable is cast to it, or when it is cast to an
+ * int or float variable, e.g. when a narrowed variable is read. The later casts of the variable to the same type are
+ * replaced with moves from the unboxed counterpart, as long as neither of them is assigned in between. This avoids the
+ * type checks and conversions done by the runtime for each cast and keeps the value in a primitive JVM local.
+ *
+ * @since 2201.14.0
+ */
+public class BIRUnboxingOptimizer {
+
+    /**
+     * Replaces the repeated unboxing of the same values in the functions of a module.
+     *
+     * @param pkg module to optimize
+     */
+    public void optimizeNode(BIRPackage pkg) {
+        for (BIRFunction function : pkg.functions) {
+            optimizeFunction(function);
+        }
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            for (BIRFunction attachedFunc : typeDef.attachedFuncs) {
+                optimizeFunction(attachedFunc);
+            }
+        }
+    }
+
+    private static void optimizeFunction(BIRFunction function) {
+        Map<BIRBasicBlock, List<BIRBasicBlock>> predecessors = getPredecessors(function.basicBlocks);
+        // A trapped panic can leave a basic block half way through, so the values are not carried over then
+        boolean hasErrorTable = !function.errorTable.isEmpty();
+        Map<BIRBasicBlock, Map<BIRVariableDcl, BIROperand>> exitUnboxedValues = new IdentityHashMap<>();
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            Map<BIRVariableDcl, BIROperand> unboxedValues = new HashMap<>();
+            List<BIRBasicBlock> basicBlockPredecessors = predecessors.get(basicBlock);
+            if (!hasErrorTable && basicBlockPredecessors.size() == 1) {
+                BIRBasicBlock predecessor = basicBlockPredecessors.getFirst();
+                Map<BIRVariableDcl, BIROperand> predecessorUnboxedValues = exitUnboxedValues.get(predecessor);
+                // Loops are entered from a basic block which is not visited yet
+                if (predecessorUnboxedValues != null) {
+                    unboxedValues.putAll(predecessorUnboxedValues);
+                    if (predecessor.terminator.lhsOp != null) {
+                        removeValues(predecessor.terminator.lhsOp.variableDcl, unboxedValues);
+                    }
+                }
+            }
+
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator instruction = instructions.get(i);
+                if (instruction instanceof TypeCast typeCast) {
+                    BIROperand unboxedValue = getUnboxedValue(typeCast, unboxedValues);
+                    if (unboxedValue != null) {
+                        Move move = new Move(typeCast.pos, unboxedValue, typeCast.lhsOp);
+                        move.scope = typeCast.scope;
+                        instructions.set(i, move);
+                        instruction = move;
+                    }
+                }
+                updateUnboxedValues(instruction, unboxedValues);
+            }
+            exitUnboxedValues.put(basicBlock, unboxedValues);
+        }
+    }
+
+    private static Map<BIRBasicBlock, List<BIRBasicBlock>> getPredecessors(List<BIRBasicBlock> basicBlocks) {
+        Map<BIRBasicBlock, List<BIRBasicBlock>> predecessors = new IdentityHashMap<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            predecessors.computeIfAbsent(basicBlock, bb -> new ArrayList<>());
+            for (BIRBasicBlock successor : basicBlock.terminator.getNextBasicBlocks()) {
+                predecessors.computeIfAbsent(successor, bb -> new ArrayList<>()).add(basicBlock);
+            }
+        }
+        return predecessors;
+    }
+
+    private static BIROperand getUnboxedValue(TypeCast typeCast, Map<BIRVariableDcl, BIROperand> unboxedValues) {
+        BIRVariableDcl targetVar = typeCast.lhsOp.variableDcl;
+        if (!isBoxed(typeCast.rhsOp.variableDcl.type) || !isUnboxed(targetVar.type)) {
+            return null;
+        }
+        BIROperand unboxedValue = unboxedValues.get(typeCast.rhsOp.variableDcl);
+        if (unboxedValue == null || getTypeTag(unboxedValue.variableDcl.type) != getTypeTag(targetVar.type)) {
+            return null;
+        }
+        return unboxedValue;
+    }
+
+    private static void updateUnboxedValues(BIRNonTerminator instruction,
+                                            Map<BIRVariableDcl, BIROperand> unboxedValues) {
+        if (instruction.lhsOp == null) {
+            return;
+        }
+        BIRVariableDcl lhsVar = instruction.lhsOp.variableDcl;
+        removeValues(lhsVar, unboxedValues);
+        if (instruction instanceof TypeCast typeCast) {
+            BIRVariableDcl rhsVar = typeCast.rhsOp.variableDcl;
+            if (!isLocal(lhsVar) || !isLocal(rhsVar) || lhsVar.equals(rhsVar)) {
+                return;
+            }
+            if (isUnboxed(rhsVar.type) && isBoxed(lhsVar.type) && containsType(lhsVar.type, rhsVar.type)) {
+                unboxedValues.put(lhsVar, typeCast.rhsOp);
+            } else if (isBoxed(rhsVar.type) && isUnboxed(lhsVar.type)) {
+                unboxedValues.putIfAbsent(rhsVar, typeCast.lhsOp);
+            }
+        } else if (instruction instanceof Move move && isLocal(lhsVar) && isBoxed(lhsVar.type)) {
+            BIROperand unboxedValue = unboxedValues.get(move.rhsOp.variableDcl);
+            if (unboxedValue != null) {
+                unboxedValues.put(lhsVar, unboxedValue);
+            }
+        }
+    }
+
+    private static void removeValues(BIRVariableDcl variableDcl, Map<BIRVariableDcl, BIROperand> unboxedValues) {
+        unboxedValues.remove(variableDcl);
+        unboxedValues.values().removeIf(unboxedValue -> unboxedValue.variableDcl.equals(variableDcl));
+    }
+
+    private static boolean isLocal(BIRVariableDcl variableDcl) {
+        // Module level variables can be updated by other strands
+        return variableDcl.scope == VarScope.FUNCTION;
+    }
+
+    private static boolean isBoxed(BType type) {
+        return switch (getTypeTag(type)) {
+            case TypeTags.UNION, TypeTags.ANY, TypeTags.ANYDATA, TypeTags.JSON, TypeTags.READONLY -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean containsType(BType boxedType, BType unboxedType) {
+        // The cast to a union converts a number of another numeric type to the numeric type in the union
+        if (!(Types.getImpliedType(boxedType) instanceof BUnionType unionType)) {
+            return true;
+        }
+        int unboxedTypeTag = getTypeTag(unboxedType);
+        for (BType memberType : unionType.getMemberTypes()) {
+            if (getTypeTag(memberType) == unboxedTypeTag) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUnboxed(BType type) {
+        int typeTag = getTypeTag(type);
+        return typeTag == TypeTags.INT || typeTag == TypeTags.FLOAT;
+    }
+
+    private static int getTypeTag(BType type) {
+        return Types.getImpliedType(type).tag;
+    }
+}
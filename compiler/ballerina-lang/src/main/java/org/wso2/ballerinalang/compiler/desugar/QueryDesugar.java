@@ -192,6 +192,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.FieldKind;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -221,6 +222,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
+    private static final Name QUERY_CREATE_INDEXED_FILTER_FUNCTION = new Name("createIndexedFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
     private static final Name QUERY_CREATE_GROUP_BY_FUNCTION = new Name("createGroupByFunction");
     private static final Name QUERY_CREATE_COLLECT_FUNCTION = new Name("createCollectFunction");
@@ -539,8 +541,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, letFunc);
                     break;
                 case WHERE:
+                    BLangFromClause inputFromClause = clause == clauses.get(1) ? initFromClause : null;
                     BLangVariableReference whereFunc = addWhereFunction(block, (BLangWhereClause) clause,
-                            stmtsToBePropagated);
+                            inputFromClause, stmtsToBePropagated);
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
@@ -773,14 +776,22 @@ public class QueryDesugar extends BLangNodeVisitor {
      * return <int>frame["x"] > 0;
      * });
      *
+     * A where clause of the form `x.field == value` that directly follows the from clause of `x` is desugared with
+     * createIndexedFilterFunction instead, passing the field name and the value, so that the members of a table can be
+     * looked up through an index of the table.
+     *
      * @param blockStmt           parent block to write to.
      * @param whereClause         to be desugared.
+     * @param inputFromClause     from clause that the where clause directly follows, or null.
      * @param stmtsToBePropagated list of statements to be propagated.
      * @return variableReference to created filter _StreamFunction.
      */
     BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause,
+                                            BLangFromClause inputFromClause,
                                             List<BLangStatement> stmtsToBePropagated) {
         Location pos = whereClause.pos;
+        List<BLangExpression> indexLookupArgs = inputFromClause == null ? null :
+                getIndexLookupArgs(whereClause, inputFromClause);
         BLangLambdaFunction lambda = createFilterLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
@@ -790,9 +801,59 @@ public class QueryDesugar extends BLangNodeVisitor {
                 lambda.function.returnTypeNode.getBType());
         body.addStatement(returnNode);
         lambda.accept(this);
+        if (indexLookupArgs != null) {
+            indexLookupArgs.add(0, lambda);
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_FILTER_FUNCTION, indexLookupArgs,
+                    pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
     }
 
+    /**
+     * Returns the field name and the value compared by a where clause of the form `x.field == value`, where `x` is
+     * the variable of the given from clause over a table and `value` is a literal or a final variable of a simple
+     * type. The value can then be evaluated once, before the members of the table are iterated.
+     *
+     * @param whereClause where clause directly following the from clause.
+     * @param fromClause  from clause that introduces `x`.
+     * @return field name and value expressions, or null if the where clause is not of that form.
+     */
+    private List<BLangExpression> getIndexLookupArgs(BLangWhereClause whereClause, BLangFromClause fromClause) {
+        if (Types.getImpliedType(fromClause.collection.getBType()).tag != TypeTags.TABLE
+                || !(fromClause.variableDefinitionNode.getVariable() instanceof BLangSimpleVariable inputVariable)
+                || !(whereClause.expression instanceof BLangBinaryExpr binaryExpr)
+                || binaryExpr.opKind != OperatorKind.EQUAL) {
+            return null;
+        }
+        List<BLangExpression> args = getIndexLookupArgs(binaryExpr.lhsExpr, binaryExpr.rhsExpr, inputVariable.symbol);
+        return args != null ? args : getIndexLookupArgs(binaryExpr.rhsExpr, binaryExpr.lhsExpr, inputVariable.symbol);
+    }
+
+    private List<BLangExpression> getIndexLookupArgs(BLangExpression fieldExpr, BLangExpression valueExpr,
+                                                     BVarSymbol inputSymbol) {
+        if (!(fieldExpr instanceof BLangFieldBasedAccess fieldAccess) || fieldAccess.optionalFieldAccess
+                || fieldAccess.fieldKind != FieldKind.SINGLE
+                || !(fieldAccess.expr instanceof BLangSimpleVarRef inputVarRef) || inputVarRef.symbol != inputSymbol
+                || !types.isSubTypeOfSimpleBasicTypeOrString(valueExpr.getBType())) {
+            return null;
+        }
+        BLangExpression value;
+        if (valueExpr instanceof BLangLiteral literal) {
+            value = ASTBuilderUtil.createLiteral(literal.pos, literal.getBType(), literal.value);
+        } else if (valueExpr instanceof BLangSimpleVarRef varRef && !(varRef instanceof BLangConstRef)
+                && varRef.symbol != null && varRef.symbol.kind == SymbolKind.VARIABLE
+                && (Symbols.isFlagOn(varRef.symbol.flags, Flags.FINAL)
+                    || Symbols.isFlagOn(varRef.symbol.flags, Flags.FUNCTION_FINAL))) {
+            value = ASTBuilderUtil.createVariableRef(varRef.pos, varRef.symbol);
+        } else {
+            return null;
+        }
+        List<BLangExpression> args = new ArrayList<>();
+        args.add(createStringLiteral(fieldAccess.field.pos, fieldAccess.field.value));
+        args.add(types.addConversionExprIfRequired(value, symTable.anydataType));
+        return args;
+    }
+
     /**
      * Desugar orderByClause to below and return a reference to created orderBy _StreamFunction.
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
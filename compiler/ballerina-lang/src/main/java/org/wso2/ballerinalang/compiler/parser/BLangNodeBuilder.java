@@ -561,6 +561,23 @@ public class BLangNodeBuilder extends NodeTransformer<BLangNode> {
 
     private final HashSet<String> constantSet = new HashSet<String>();
 
+    /* To reuse the nodes of the members of the previous version of the document, which are unchanged */
+    private List<ModuleMemberNodes> previousMemberNodes = List.of();
+    private int unchangedTextLength;
+    private final List<ModuleMemberNodes> memberNodes = new ArrayList<>();
+
+    /**
+     * The top-level nodes created for a module member, which can be reused for the same member of a modified
+     * version of the document.
+     *
+     * @param member        module member
+     * @param topLevelNodes top-level nodes created for the member, including its anonymous types and functions
+     * @param constantName  name of the member if it is a constant declaration
+     */
+    public record ModuleMemberNodes(ModuleMemberDeclarationNode member, List<TopLevelNode> topLevelNodes,
+                                    String constantName) {
+    }
+
     public BLangNodeBuilder(CompilerContext context,
                             PackageID packageID, String entryName) {
         this.dlog = BLangDiagnosticLog.getInstance(context);
@@ -572,6 +589,28 @@ public class BLangNodeBuilder extends NodeTransformer<BLangNode> {
         this.missingNodesHelper = BLangMissingNodesHelper.getInstance(context);
     }
 
+    /**
+     * Reuses the nodes created for the members of the previous version of the document, which are unchanged and
+     * precede the first modified position, instead of creating them again.
+     *
+     * @param previousMemberNodes nodes of the members of the previous version, created by another builder
+     * @param unchangedTextLength length of the text at the start of the document, which is not modified
+     */
+    public void reuseMemberNodes(List<ModuleMemberNodes> previousMemberNodes, int unchangedTextLength) {
+        this.previousMemberNodes = previousMemberNodes;
+        this.unchangedTextLength = unchangedTextLength;
+    }
+
+    /**
+     * Returns the nodes created for the members of the module part, or {@code null} for the members which cannot be
+     * reused as their conversion reported errors.
+     *
+     * @return nodes created for the members, in the order of the members
+     */
+    public List<ModuleMemberNodes> getMemberNodes() {
+        return this.memberNodes;
+    }
+
     public List<org.ballerinalang.model.tree.Node> accept(Node node) {
         BLangNode bLangNode = node.apply(this);
         List<org.ballerinalang.model.tree.Node> nodes = new ArrayList<>();
@@ -674,12 +713,36 @@ public class BLangNodeBuilder extends NodeTransformer<BLangNode> {
         }
 
         // Generate other module-level declarations
-        for (ModuleMemberDeclarationNode member : modulePart.members()) {
+        NodeList<ModuleMemberDeclarationNode> members = modulePart.members();
+        for (int i = 0; i < members.size(); i++) {
+            ModuleMemberDeclarationNode member = members.get(i);
+            ModuleMemberNodes unchangedMemberNodes = getUnchangedMemberNodes(i, member);
+            if (unchangedMemberNodes != null) {
+                unchangedMemberNodes.topLevelNodes().forEach(compilationUnit::addTopLevelNode);
+                if (unchangedMemberNodes.constantName() != null) {
+                    constantSet.add(unchangedMemberNodes.constantName());
+                }
+                memberNodes.add(new ModuleMemberNodes(member, unchangedMemberNodes.topLevelNodes(),
+                        unchangedMemberNodes.constantName()));
+                continue;
+            }
+
+            int topLevelNodeCount = compilationUnit.topLevelNodes.size();
+            int errorCount = dlog.errorCount();
             TopLevelNode node = (TopLevelNode) member.apply(this);
             if (member.kind() == SyntaxKind.MODULE_XML_NAMESPACE_DECLARATION) {
                 ((BLangXMLNS) node).compUnit = compUnit;
             }
             compilationUnit.addTopLevelNode(node);
+            // Members with errors are not reused, so that their errors are reported again
+            if (dlog.errorCount() != errorCount) {
+                memberNodes.add(null);
+                continue;
+            }
+            List<TopLevelNode> topLevelNodes = List.copyOf(compilationUnit.topLevelNodes.subList(topLevelNodeCount,
+                    compilationUnit.topLevelNodes.size()));
+            String constantName = node instanceof BLangConstant constant ? constant.name.value : null;
+            memberNodes.add(new ModuleMemberNodes(member, topLevelNodes, constantName));
         }
 
         Location newLocation = new BLangDiagnosticLocation(pos.lineRange().fileName(), 0, 0, 0, 0, 0, 0);
@@ -691,6 +754,30 @@ public class BLangNodeBuilder extends NodeTransformer<BLangNode> {
         return compilationUnit;
     }
 
+    private ModuleMemberNodes getUnchangedMemberNodes(int memberIndex, ModuleMemberDeclarationNode member) {
+        if (memberIndex >= this.previousMemberNodes.size()) {
+            return null;
+        }
+        ModuleMemberNodes previousNodes = this.previousMemberNodes.get(memberIndex);
+        if (previousNodes == null) {
+            return null;
+        }
+        // The positions of the nodes are unchanged only if the member precedes the first modified position
+        TextRange textRange = member.textRangeWithMinutiae();
+        ModuleMemberDeclarationNode previousMember = previousNodes.member();
+        if (textRange.endOffset() >= this.unchangedTextLength ||
+                !textRange.equals(previousMember.textRangeWithMinutiae())) {
+            return null;
+        }
+        // The incremental parser reuses the internal nodes of unchanged members
+        if (member.internalNode() == previousMember.internalNode() ||
+                (member.kind() == previousMember.kind() &&
+                        member.toSourceCode().equals(previousMember.toSourceCode()))) {
+            return previousNodes;
+        }
+        return null;
+    }
+
     @Override
     public BLangNode transform(ModuleVariableDeclarationNode modVarDeclrNode) {
         TypedBindingPatternNode typedBindingPattern = modVarDeclrNode.typedBindingPattern();
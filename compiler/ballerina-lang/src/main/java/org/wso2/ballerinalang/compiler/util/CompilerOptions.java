@@ -68,4 +68,18 @@ public class CompilerOptions {
 
         return CompilerPhase.fromValue(phaseName);
     }
+
+    /**
+     * Returns the maximum number of threads the compiler may use to compute the stack map frames of the generated
+     * classes in parallel. The modules themselves are compiled one at a time.
+     *
+     * @return the number of jobs, defaults to the number of available processors
+     */
+    public int getJobs() {
+        String jobs = get(CompilerOptionName.JOBS);
+        if (jobs == null || jobs.isEmpty()) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return Integer.parseInt(jobs);
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.projects;
+
+import io.ballerina.projects.repos.SharedCompilationCache;
+import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Test cases for the {@link SharedCompilationCache}.
+ *
+ * @since 2201.14.0
+ */
+public class SharedCompilationCacheTests {
+
+    private Path cacheDirPath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        cacheDirPath = Files.createTempDirectory("shared-compilation-cache");
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        FileUtils.deleteQuietly(cacheDirPath.toFile());
+    }
+
+    @Test
+    public void testCacheEntry() {
+        SharedCompilationCache cache = new SharedCompilationCache(cacheDirPath, 1024);
+        String key = SharedCompilationCache.keyBuilder().add("module").build();
+        Assert.assertTrue(cache.get(key).isEmpty());
+
+        cache.put(key, new byte[]{1, 2, 3}, Map.of("testorg-mod-1.0.0", new byte[]{4, 5}));
+        Optional<SharedCompilationCache.Entry> entry = cache.get(key);
+        Assert.assertTrue(entry.isPresent());
+        Assert.assertEquals(entry.get().bir(), new byte[]{1, 2, 3});
+        Assert.assertEquals(entry.get().libraries().keySet(), Map.of("testorg-mod-1.0.0", 0).keySet());
+        Assert.assertEquals(entry.get().libraries().get("testorg-mod-1.0.0"), new byte[]{4, 5});
+
+        // Entries are never updated
+        cache.put(key, new byte[]{6}, Map.of());
+        Assert.assertEquals(cache.get(key).orElseThrow().bir(), new byte[]{1, 2, 3});
+    }
+
+    @Test
+    public void testCacheIsDisabledByDefault() {
+        // The cache is only enabled by setting its size, which the test environment does not
+        Assert.assertNull(System.getenv(ProjectConstants.COMPILATION_CACHE_SIZE_ENV_KEY));
+        Assert.assertTrue(SharedCompilationCache.getDefault().isEmpty());
+    }
+
+    @Test
+    public void testKeys() {
+        String key = SharedCompilationCache.keyBuilder().add("ab").add("c").build();
+        Assert.assertEquals(SharedCompilationCache.keyBuilder().add("ab").add("c").build(), key);
+        Assert.assertNotEquals(SharedCompilationCache.keyBuilder().add("a").add("bc").build(), key);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() throws IOException {
+        SharedCompilationCache cache = new SharedCompilationCache(cacheDirPath, 250);
+        cache.put("a", new byte[50], Map.of("lib", new byte[50]));
+        cache.put("b", new byte[50], Map.of("lib", new byte[50]));
+        Files.setLastModifiedTime(cacheDirPath.resolve("a"), FileTime.fromMillis(2000));
+        Files.setLastModifiedTime(cacheDirPath.resolve("b"), FileTime.fromMillis(1000));
+
+        cache.put("c", new byte[50], Map.of("lib", new byte[50]));
+        Assert.assertTrue(cache.get("a").isPresent());
+        Assert.assertTrue(cache.get("b").isEmpty());
+        Assert.assertTrue(cache.get("c").isPresent());
+    }
+}
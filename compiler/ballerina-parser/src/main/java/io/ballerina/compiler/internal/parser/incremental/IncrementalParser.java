@@ -60,8 +60,9 @@ public class IncrementalParser extends BallerinaParser {
     private STNode getIfReusable(STNode node, Predicate<SyntaxKind> predicate) {
         if (node != null && predicate.test(node.kind)) {
             this.subtreeSupplier.consume();
+            return node;
         }
-        return node;
+        return null;
     }
 
     private final Predicate<SyntaxKind> isModelLevelDeclaration =
@@ -67,6 +67,23 @@ public class ModuleLevelDeclarationTest extends AbstractIncrementalParserTest {
         Assert.assertEquals(funcName.text(), "main");
     }
 
+    @Test
+    public void testAppendingFunction() {
+        String input = "import ballerina/io;\n\npublic function main() {\n    io:println(\"hello\");\n}\n";
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(input));
+
+        // Applying a change at the end of the document
+        String function = "\nfunction foo() {\n    int x = 1;\n}\n";
+        TextEdit[] edits = new TextEdit[]{TextEdit.from(TextRange.from(input.length(), 0), function)};
+        SyntaxTree newTree = SyntaxTree.from(oldTree, TextDocumentChange.from(edits));
+
+        ModulePartNode modulePartNode = newTree.rootNode();
+        Assert.assertEquals(modulePartNode.toSourceCode(), input + function);
+        Assert.assertEquals(modulePartNode.members().size(), 2);
+        Assert.assertSame(modulePartNode.imports().get(0).internalNode(),
+                ((ModulePartNode) oldTree.rootNode()).imports().get(0).internalNode());
+    }
+
     @Test
     public void testReusingModuleLevelDeclerations() {
         SyntaxTree oldTree = parseFile("module_declarations/module_declarations_old.bal");
@@ -42,6 +42,10 @@ public final class GetFilteredChildrenFlat {
     public static BXml getFilteredChildrenFlat(BXml xmlVal, long index, BString[] elemNames) {
         if (xmlVal.getNodeType() == XmlNodeType.ELEMENT) {
             BXmlItem element = (BXmlItem) xmlVal;
+            if (index < 0 && isElementName(elemNames)) {
+                // The child elements are returned without copying them
+                return element.children(elemNames[0].getValue());
+            }
             return ValueCreator.createXmlSequence(filterElementChildren(index, elemNames, element));
         } else if (xmlVal.getNodeType() == XmlNodeType.SEQUENCE) {
             BXmlSequence sequence = (BXmlSequence) xmlVal;
@@ -58,7 +62,9 @@ public final class GetFilteredChildrenFlat {
     }
 
     private static List<BXml> filterElementChildren(long index, BString[] elemNames, BXmlItem element) {
-        BXmlSequence elements = (BXmlSequence) GetElements.getElements(element.getChildrenSeq(), elemNames);
+        BXmlSequence elements = isElementName(elemNames) ?
+                (BXmlSequence) element.children(elemNames[0].getValue()) :
+                (BXmlSequence) GetElements.getElements(element.getChildrenSeq(), elemNames);
         if (index < 0) {
             // Return all elements
             return elements.getChildrenList();
@@ -70,4 +76,13 @@ public final class GetFilteredChildrenFlat {
             return new ArrayList<>();
         }
     }
+
+    // Whether the filter is a single element name, of which the child elements can be looked up by name
+    private static boolean isElementName(BString[] elemNames) {
+        if (elemNames.length != 1) {
+            return false;
+        }
+        String elemName = elemNames[0].getValue();
+        return !elemName.endsWith(GetElements.STAR) && !elemName.startsWith("{}");
+    }
 }
@@ -22,13 +22,16 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
+import io.ballerina.runtime.internal.utils.SortUtils;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
@@ -48,73 +51,66 @@ public final class Sort {
     public static BArray sort(Environment env, BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer function = (BFunctionPointer) func;
-
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
-
-        if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(env.getRuntime(), arr.get(i));
-                sortArr[i][1] = arr.get(i);
-            }
-        } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+        ArrayType sortedArrayType = TypeCreator.createArrayType(arr.getElementType());
+        boolean ascending = direction.toString().equals("ascending");
+        int size = arr.size();
+
+        if (function == null) {
+            // Members stored in primitive arrays are sorted in a copy of the array without boxing them
+            switch (TypeUtils.getImpliedType(arr.getElementType()).getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    long[] ints = arr.getIntArray();
+                    SortUtils.sortInts(ints, ascending);
+                    return new ArrayValueImpl(ints, sortedArrayType);
+                case TypeTags.FLOAT_TAG:
+                    double[] floats = arr.getFloatArray();
+                    SortUtils.sortFloats(floats, ascending);
+                    return new ArrayValueImpl(floats, sortedArrayType);
+                case TypeTags.BYTE_TAG:
+                    byte[] bytes = arr.getByteArray();
+                    SortUtils.sortBytes(bytes, ascending);
+                    return new ArrayValueImpl(bytes, sortedArrayType);
+                case TypeTags.BOOLEAN_TAG:
+                    boolean[] booleans = arr.getBooleanArray();
+                    SortUtils.sortBooleans(booleans, ascending);
+                    return new ArrayValueImpl(booleans, sortedArrayType);
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    BString[] strings = new BString[size];
+                    for (int i = 0; i < size; i++) {
+                        strings[i] = arr.getBString(i);
+                    }
+                    SortUtils.sortStrings(strings, ascending);
+                    return new ArrayValueImpl(strings, sortedArrayType);
+                default:
+                    break;
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
-
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
-
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+        // Keys are computed once per member, and the members are sorted by the indices of their sorted keys
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = function != null ? function.call(env.getRuntime(), arr.get(i)) : arr.get(i);
         }
 
-        return sortedArray;
-    }
-
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
-        if (hi <= lo) {
-            return;
+        int[] sortedIndices;
+        try {
+            sortedIndices = SortUtils.sortIndices(keys, direction.toString());
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap<BString, Object>) error.getDetails());
         }
 
-        int mid = lo + (hi - lo) / 2;
-
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
-
-        merge(input, aux, lo, mid, hi, direction);
-    }
-
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
-
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
-                }
-                input[k] = aux[index];
-
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap<BString, Object>) error.getDetails());
-            }
+        BArray sortedArray = ValueCreator.createArrayValue(sortedArrayType);
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, arr.get(sortedIndices[k]));
         }
+        return sortedArray;
     }
 }
@@ -50,6 +50,13 @@ function createFilterFunction(function(_Frame _frame) returns boolean|error filt
     paramTypes: ["io.ballerina.runtime.api.values.BFunctionPointer"]
 } external;
 
+function createIndexedFilterFunction(function(_Frame _frame) returns boolean|error filterFunc, string fieldName,
+        anydata value) returns handle = @java:Method {
+    'class: "io.ballerina.runtime.internal.query.clauses.Where",
+    name: "initIndexedWhereClause",
+    paramTypes: ["io.ballerina.runtime.api.values.BFunctionPointer","io.ballerina.runtime.api.values.BString","java.lang.Object"]
+} external;
+
 function createLimitFunction(function (_Frame _frame) returns int limitFunction) returns handle = @java:Method {
     'class: "io.ballerina.runtime.internal.query.clauses.Limit",
     name: "initLimitClause",
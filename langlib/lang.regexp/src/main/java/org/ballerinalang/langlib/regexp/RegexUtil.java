@@ -27,11 +27,12 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.RegExpValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 
 import java.util.List;
 import java.util.regex.Matcher;
@@ -68,6 +69,9 @@ public final class RegexUtil {
         if (str instanceof NonBmpStringValue nonBmpStringValue) {
             return nonBmpStringValue.getSurrogates();
         }
+        if (str instanceof RopeStringValue ropeStringValue) {
+            return ropeStringValue.getSurrogates();
+        }
         return new int[0];
     }
 
@@ -84,10 +88,7 @@ public final class RegexUtil {
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+        Pattern pattern = RegExpPatternCache.getPattern((RegExpValue) regexpVal, Pattern.UNICODE_CHARACTER_CLASS);
         return pattern.matcher(inputStr);
     }
 
@@ -140,3 +140,22 @@ public type StopHandler function() returns error?;
 public isolated function onGracefulStop(StopHandler 'handler) = @java:Method {
     'class: "org.ballerinalang.langlib.runtime.Registry"
 } external;
+
+# Creates an index on a field of the members of a table.
+#
+# The index is kept up to date as members are added to, replaced in and removed from the table.
+# A query whose first clause after `from` is a `where` clause comparing the indexed field
+# with a literal or a final variable using `==` looks up the matching members through
+# the index, instead of iterating over all the members of the table.
+#
+# ```ballerina
+# table<Employee> key(id) employees = table [];
+# runtime:createIndex(employees, "email");
+# Employee[] matches = from Employee e in employees where e.email == email select e;
+# ```
+#
+# + t - the table
+# + fieldName - the name of a readonly field of the member type of the table
+public isolated function createIndex(table<map<any|error>> t, string fieldName) = @java:Method {
+    'class: "org.ballerinalang.langlib.runtime.CreateIndex"
+} external;
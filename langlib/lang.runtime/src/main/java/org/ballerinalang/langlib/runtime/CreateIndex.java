@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langlib.runtime;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+
+/**
+ * Native implementation for createIndex function.
+ *
+ * @since 2201.14.0
+ */
+public final class CreateIndex {
+
+    public static void createIndex(BTable<?, ?> table, BString fieldName) {
+        table.createIndex(fieldName);
+    }
+
+    private CreateIndex() {
+    }
+}
@@ -393,6 +393,57 @@ public isolated function fromJsonStringWithType(string str, typedesc<anydata> t
     name: "fromJsonStringWithType"
 } external;
 
+# Parses a stream of byte blocks that contain a JSON array encoded in UTF-8 and returns a stream of its members.
+#
+# Members are parsed one at a time as the returned stream is iterated, in the same way as
+# function `fromJsonString`, so the whole array is not kept in memory.
+# The returned stream completes with an error if the content is not a valid JSON array.
+#
+# ```ballerina
+# stream<byte[], error?> blocks = ["[1, {\"id\"".toBytes(), ": 12}]".toBytes()].toStream();
+# stream<json, error?> members = value:fromJsonArrayStream(blocks);
+# members.next() ⇒ {"value":1}
+# members.next() ⇒ {"value":{"id":12}}
+# members.next() ⇒ ()
+# ```
+#
+# + byteStream - stream of byte blocks of a JSON array
+# + return - stream of the members of the JSON array
+public isolated function fromJsonArrayStream(stream<byte[], error?> byteStream) returns stream<json, error?> {
+    stream<json, error?> members = new (new JsonArrayMemberIterator(byteStream));
+    return members;
+}
+
+class JsonArrayMemberIterator {
+
+    private stream<byte[], error?> byteStream;
+
+    isolated function init(stream<byte[], error?> byteStream) {
+        self.byteStream = byteStream;
+    }
+
+    public isolated function next() returns record {| json value; |}|error? {
+        boolean|error hasNext = externHasNextJsonArrayMember(self);
+        if hasNext is error {
+            return hasNext;
+        }
+        if !hasNext {
+            return ();
+        }
+        return {value: check externNextJsonArrayMember(self)};
+    }
+}
+
+isolated function externHasNextJsonArrayMember(JsonArrayMemberIterator iterator) returns boolean|error = @java:Method {
+    'class: "org.ballerinalang.langlib.value.FromJsonArrayStream",
+    name: "hasNext"
+} external;
+
+isolated function externNextJsonArrayMember(JsonArrayMemberIterator iterator) returns json|error = @java:Method {
+    'class: "org.ballerinalang.langlib.value.FromJsonArrayStream",
+    name: "next"
+} external;
+
 # Merges two `json` values.
 #
 # The merge of parameter `j1` with parameter `j2` is defined as follows:
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langlib.value;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.ByteStreamInputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Native implementation of lang.value.JsonArrayMemberIterator, which parses the members of a JSON array in a stream
+ * of byte blocks one at a time.
+ *
+ * @since 2201.14.0
+ */
+public final class FromJsonArrayStream {
+
+    private static final String MEMBERS = "&members&";
+    private static final String BYTES = "&bytes&";
+    private static final BString BYTE_STREAM = StringUtils.fromString("byteStream");
+
+    private FromJsonArrayStream() {
+    }
+
+    public static Object hasNext(Environment env, BObject iterator) {
+        Iterator<Object> members = getMembers(iterator);
+        if (members == null) {
+            BStream byteStream = (BStream) iterator.get(BYTE_STREAM);
+            ByteStreamInputStream bytes = new ByteStreamInputStream(env.getRuntime(), byteStream.getIteratorObj());
+            members = JsonUtils.parseArrayMembers(bytes, StandardCharsets.UTF_8.name(), PredefinedTypes.TYPE_JSON);
+            iterator.addNativeData(BYTES, bytes);
+            iterator.addNativeData(MEMBERS, members);
+        }
+        try {
+            return members.hasNext();
+        } catch (BError e) {
+            return createError(iterator, e);
+        }
+    }
+
+    public static Object next(BObject iterator) {
+        try {
+            return getMembers(iterator).next();
+        } catch (BError e) {
+            return createError(iterator, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterator<Object> getMembers(BObject iterator) {
+        return (Iterator<Object>) iterator.getNativeData(MEMBERS);
+    }
+
+    private static BError createError(BObject iterator, BError e) {
+        // Errors of the byte stream are returned as they are
+        if (((ByteStreamInputStream) iterator.getNativeData(BYTES)).isStreamError(e)) {
+            return e;
+        }
+        return ErrorCreator.createError(StringUtils.fromString("{ballerina/lang.value}FromJsonStringError"),
+                                        StringUtils.fromString(e.getMessage()));
+    }
+}
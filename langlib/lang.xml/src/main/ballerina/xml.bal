@@ -553,6 +553,66 @@ public isolated function fromString(string s) returns xml|error = @java:Method {
     name: "fromString"
 } external;
 
+# Parses a stream of byte blocks that contain an XML document encoded in UTF-8
+# and returns a stream of the elements at a path of the document.
+#
+# The path is the names of the elements from the root element to the returned elements,
+# in the same form as function `getName` returns. If no path is given, the returned
+# stream contains the root element.
+# Elements are parsed one at a time as the returned stream is iterated, and elements
+# that are not in the path are skipped, so the whole document is not kept in memory.
+# The returned stream completes with an error if the document is not well-formed.
+#
+# ```ballerina
+# stream<byte[], error?> blocks = ["<feed><title>News</title><entry>1</entry><en".toBytes(),
+#         "try>2</entry></feed>".toBytes()].toStream();
+# stream<xml:Element, error?> entries = xml:fromElementStream(blocks, "feed", "entry");
+# entries.next() ⇒ {"value":`<entry>1</entry>`}
+# entries.next() ⇒ {"value":`<entry>2</entry>`}
+# entries.next() ⇒ ()
+# ```
+#
+# + byteStream - stream of byte blocks of an XML document
+# + path - names of the elements from the root element to the returned elements
+# + return - stream of the elements at the path
+public isolated function fromElementStream(stream<byte[], error?> byteStream, string... path)
+        returns stream<Element, error?> {
+    stream<Element, error?> elements = new (new XmlElementIterator(byteStream, path.cloneReadOnly()));
+    return elements;
+}
+
+class XmlElementIterator {
+
+    private stream<byte[], error?> byteStream;
+    private final string[] & readonly path;
+
+    isolated function init(stream<byte[], error?> byteStream, string[] & readonly path) {
+        self.byteStream = byteStream;
+        self.path = path;
+    }
+
+    public isolated function next() returns record {| Element value; |}|error? {
+        boolean|error hasNext = externHasNextElement(self);
+        if hasNext is error {
+            return hasNext;
+        }
+        if !hasNext {
+            return ();
+        }
+        return {value: check externNextElement(self)};
+    }
+}
+
+isolated function externHasNextElement(XmlElementIterator iterator) returns boolean|error = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.FromElementStream",
+    name: "hasNext"
+} external;
+
+isolated function externNextElement(XmlElementIterator iterator) returns Element|error = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.FromElementStream",
+    name: "next"
+} external;
+
 # Selects all the items in a sequence that are of type `xml:Text`.
 #
 # ```ballerina
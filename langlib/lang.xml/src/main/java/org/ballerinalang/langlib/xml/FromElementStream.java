@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langlib.xml;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.utils.ByteStreamInputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Native implementation of lang.xml.XmlElementIterator, which parses the elements at a path of an XML document in
+ * a stream of byte blocks one at a time.
+ *
+ * @since 2201.14.0
+ */
+public final class FromElementStream {
+
+    private static final String ELEMENTS = "&elements&";
+    private static final BString BYTE_STREAM = StringUtils.fromString("byteStream");
+    private static final BString PATH = StringUtils.fromString("path");
+
+    private FromElementStream() {
+    }
+
+    public static Object hasNext(Environment env, BObject iterator) {
+        Iterator<BXml> elements = getElements(iterator);
+        if (elements == null) {
+            BStream byteStream = (BStream) iterator.get(BYTE_STREAM);
+            BArray path = (BArray) iterator.get(PATH);
+            elements = XmlUtils.parseElements(
+                    new ByteStreamInputStream(env.getRuntime(), byteStream.getIteratorObj()),
+                    StandardCharsets.UTF_8.name(), Arrays.asList(path.getStringArray()));
+            iterator.addNativeData(ELEMENTS, elements);
+        }
+        try {
+            return elements.hasNext();
+        } catch (BError e) {
+            // Both errors of the byte stream and parsing errors are returned as they are
+            return e;
+        }
+    }
+
+    public static Object next(BObject iterator) {
+        try {
+            return getElements(iterator).next();
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterator<BXml> getElements(BObject iterator) {
+        return (Iterator<BXml>) iterator.getNativeData(ELEMENTS);
+    }
+}
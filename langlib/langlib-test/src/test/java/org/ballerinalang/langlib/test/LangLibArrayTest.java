@@ -563,6 +563,7 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse",
@@ -21,6 +21,7 @@ package org.ballerinalang.langlib.test;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
+import org.ballerinalang.test.exceptions.BLangTestException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -54,4 +55,16 @@ public class LangLibRuntimeTest {
         BRunUtil.invoke(compileResult, "testSleepDecimalValue");
     }
 
+    @Test
+    public void testCreateIndex() {
+        BRunUtil.invoke(compileResult, "testCreateIndex");
+    }
+
+    @Test(expectedExceptions = BLangTestException.class,
+            expectedExceptionsMessageRegExp = ".*OperationNotSupported \\{\"message\":\"cannot create an index on " +
+                    "field 'name'.*")
+    public void testCreateIndexOnMutableField() {
+        BRunUtil.invoke(compileResult, "testCreateIndexOnMutableField");
+    }
+
 }
@@ -451,7 +451,8 @@ public class LangLibTableTest {
                 "testRemoveEmptyAddThenIterate",
                 "testRemoveEmptyIterateThenAdd",
                 "testRemoveEmptyIterateThenAddQueryExpr",
-                "testRemoveEmptyIterateThenAddQueryAction"
+                "testRemoveEmptyIterateThenAddQueryAction",
+                "testRemoveManyAddThenIterate"
         };
     }
 
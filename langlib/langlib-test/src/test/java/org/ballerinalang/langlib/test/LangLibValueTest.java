@@ -485,6 +485,20 @@ public class LangLibValueTest {
         };
     }
 
+    @Test(dataProvider = "fromJsonArrayStreamFunctions")
+    public void testFromJsonArrayStream(String function) {
+        file = BCompileUtil.compile("test-src/valuelib_fromJson_test.bal");
+        BRunUtil.invoke(file, function);
+    }
+
+    @DataProvider(name = "fromJsonArrayStreamFunctions")
+    public Object[][] fromJsonArrayStreamFunctions() {
+        return new Object[][] {
+                { "testFromJsonArrayStream" },
+                { "testFromJsonArrayStreamNegative" }
+        };
+    }
+
     @Test(dataProvider = "toJsonFunctions")
     public void testToJson(String function) {
         BRunUtil.invoke(compileResult, function);
@@ -372,6 +372,16 @@ public class LangLibXMLTest {
         BRunUtil.invoke(compileResult, "testLangLibCallsWithUnions");
     }
 
+    @Test
+    public void testFromElementStream() {
+        BRunUtil.invoke(compileResult, "testFromElementStream");
+    }
+
+    @Test
+    public void testFromElementStreamNegative() {
+        BRunUtil.invoke(compileResult, "testFromElementStreamNegative");
+    }
+
     @Test
     public void testNegativeCases() {
         negativeResult = BCompileUtil.compile("test-src/xmllib_test_negative.bal");
@@ -1575,6 +1575,38 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    float[] floats = [0.0, float:NaN, -1.5, -0.0, 2.0, 0.0];
+    assertValueEquality(floats.sort().toString(), "[-1.5,0.0,-0.0,0.0,2.0,NaN]");
+    assertValueEquality(floats.sort(array:DESCENDING).toString(), "[2.0,0.0,-0.0,0.0,-1.5,NaN]");
+
+    string[] strings = ["b", "\u{1F600}", "\u{FFFF}", "a", "ab", ""];
+    assertValueEquality(strings.sort(), ["", "a", "ab", "b", "\u{FFFF}", "\u{1F600}"]);
+    assertValueEquality(strings.sort(array:DESCENDING), ["\u{1F600}", "\u{FFFF}", "b", "ab", "a", ""]);
+
+    byte[] bytes = [3, 255, 0, 128, 3];
+    assertValueEquality(bytes.sort(array:DESCENDING), <byte[]>[255, 128, 3, 3, 0]);
+
+    boolean[] booleans = [true, false, true];
+    assertValueEquality(booleans.sort(), [false, true, true]);
+
+    ints:Signed32[] signedInts = [3, -2, 7];
+    any sortedSignedInts = signedInts.sort(array:DESCENDING);
+    assertTrue(sortedSignedInts is ints:Signed32[]);
+    assertValueEquality(<ints:Signed32[]>sortedSignedInts, <ints:Signed32[]>[7, 3, -2]);
+
+    record {|string name; float score;|}[] scores = [
+        {name: "a", score: 0.5},
+        {name: "b", score: float:NaN},
+        {name: "c", score: 0.5},
+        {name: "d", score: 1.0}
+    ];
+    string[] names = from var {name} in scores.sort(array:ASCENDING, s => s.score) select name;
+    assertValueEquality(names, ["a", "c", "d", "b"]);
+    names = from var {name} in scores.sort(array:DESCENDING, s => s.score) select name;
+    assertValueEquality(names, ["d", "a", "c", "b"]);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -61,6 +61,54 @@ function testSleepDecimalValue() {
     runtime:sleep(delay);
 }
 
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    string name;
+|};
+
+final string engineering = "Engineering";
+
+function testCreateIndex() {
+    table<Employee> key(id) employees = table [
+        {id: 1, dept: "Engineering", name: "Anne"},
+        {id: 2, dept: "Sales", name: "Bob"},
+        {id: 3, dept: "Engineering", name: "Carl"}
+    ];
+    runtime:createIndex(employees, "dept");
+    employees.add({id: 4, dept: "Engineering", name: "Dana"});
+    employees.put({id: 1, dept: "Sales", name: "Anne"});
+    employees.put({id: 2, dept: "Engineering", name: "Bob"});
+    _ = employees.remove(3);
+
+    string[] names = from Employee e in employees where e.dept == engineering select e.name;
+    assertEquality(["Bob", "Dana"], names);
+    names = from Employee e in employees where "Sales" == e.dept select e.name;
+    assertEquality(["Anne"], names);
+    names = from Employee e in employees where e.dept == "Marketing" select e.name;
+    assertEquality([], names);
+    names = from Employee e in employees where e.id == 4 select e.name;
+    assertEquality(["Dana"], names);
+    names = getNamesInDept(employees, "Engineering");
+    assertEquality(["Bob", "Dana"], names);
+
+    employees.removeAll();
+    employees.add({id: 5, dept: "Engineering", name: "Eve"});
+    names = getNamesInDept(employees, "Engineering");
+    assertEquality(["Eve"], names);
+}
+
+function getNamesInDept(table<Employee> key(id) employees, string dept) returns string[] {
+    return from Employee e in employees
+        where e.dept == dept
+        select e.name;
+}
+
+function testCreateIndexOnMutableField() {
+    table<Employee> key(id) employees = table [];
+    runtime:createIndex(employees, "name");
+}
+
 function assertEquality(any|error expected, any|error actual) {
     if expected is anydata && actual is anydata && expected == actual {
         return;
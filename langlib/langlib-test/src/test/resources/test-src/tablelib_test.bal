@@ -871,6 +871,28 @@ function testRemoveEmptyIterateThenAddQueryAction() returns boolean|error {
     return data.length() == 1 && data["JesB"]?.name == "JesB" && ar.length() == 0;
 }
 
+function testRemoveManyAddThenIterate() returns boolean {
+    table<Employee> key(name) data = table [];
+    foreach int i in 0 ..< 128 {
+        data.add({name: "emp" + i.toString(), department: "IT"});
+    }
+    foreach int i in 0 ..< 100 {
+        var _ = data.remove("emp" + i.toString());
+    }
+    foreach int i in 0 ..< 20 {
+        data.put({name: "new" + i.toString(), department: "HR"});
+    }
+    data.put({name: "emp110", department: "Admin"});
+
+    string[] names = [];
+    foreach var v in data {
+        names.push(v.name);
+    }
+    return names.length() == 48 && names[0] == "emp100" && names[10] == "emp110" && names[28] == "new0"
+        && names[47] == "new19" && data.get("emp110").department == "Admin" && !data.hasKey("emp99")
+        && data.keys()[27] == "emp127";
+}
+
 function testAddInconsistentDataToKeylessTbl() {
     EngineerTable engineerTbl = table [
       { name: "Lisa", age: 22, intern: true },
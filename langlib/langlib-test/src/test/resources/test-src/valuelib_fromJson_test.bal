@@ -926,6 +926,58 @@ function testFromJsonWithTypeWithRecordOptionalReadOnlyField() {
     assertEquality(t3, <Message3> {id: 1, message: "Hello, World!"});
 }
 
+function testFromJsonArrayStream() {
+    byte[][] blocks = [
+        "[1, {\"name\": \"Jo".toBytes(),
+        "hn\", \"ids\": [1, 2]}, \"a,]\\\"\",".toBytes(),
+        " null, 2.5]\n".toBytes()
+    ];
+    stream<json, error?> members = value:fromJsonArrayStream(blocks.toStream());
+    json[] result = [];
+    record {| json value; |}|error? member = members.next();
+    while member is record {| json value; |} {
+        result.push(member.value);
+        member = members.next();
+    }
+    assertEquality(member, ());
+    assertEquality(result, <json[]>[1, {name: "John", ids: [1, 2]}, "a,]\"", (), 2.5d]);
+
+    members = value:fromJsonArrayStream([" [ ] ".toBytes()].toStream());
+    assertEquality(members.next(), ());
+}
+
+function testFromJsonArrayStreamNegative() {
+    stream<json, error?> members = value:fromJsonArrayStream(["[1, 2,]".toBytes()].toStream());
+    assertEquality(members.next(), {value: 1});
+    assertEquality(members.next(), {value: 2});
+    error err = <error>members.next();
+    assertEquality(err.message(), "{ballerina/lang.value}FromJsonStringError");
+    assertEquality(<string>checkpanic err.detail()["message"], "expected an array element at line: 1 column: 7");
+
+    members = value:fromJsonArrayStream(["[1, {\"a\": }]".toBytes()].toStream());
+    assertEquality(members.next(), {value: 1});
+    err = <error>members.next();
+    assertEquality(err.message(), "{ballerina/lang.value}FromJsonStringError");
+    assertEquality(<string>checkpanic err.detail()["message"], "expected a field value at line: 1 column: 7");
+
+    members = value:fromJsonArrayStream(new stream<byte[], error?>(new FailingByteBlockIterator()));
+    assertEquality(members.next(), {value: 1});
+    err = <error>members.next();
+    assertEquality(err.message(), "byte block error");
+}
+
+class FailingByteBlockIterator {
+    private boolean failed = false;
+
+    public isolated function next() returns record {| byte[] value; |}|error? {
+        if self.failed {
+            return error("byte block error");
+        }
+        self.failed = true;
+        return {value: "[1, ".toBytes()};
+    }
+}
+
 function assert(anydata actual, anydata expected) {
     if (expected == actual) {
         return;
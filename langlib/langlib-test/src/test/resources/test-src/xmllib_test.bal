@@ -1301,6 +1301,72 @@ function testLangLibCallsWithUnions() {
     test:assertValueEqual(get4, xml `<!--foo-->`);
 }
 
+function testFromElementStream() returns error? {
+    byte[][] blocks = [
+        "<?xml version=\"1.0\"?><feed xmlns=\"http://www.w3.org/2005/Atom\"><title>News</title><en".toBytes(),
+        "try><id>1</id></entry><entry><id>2</id><link href=\"a\"/></entry><meta><entry/></meta></feed>".toBytes()
+    ];
+    stream<xml:Element, error?> entries = xml:fromElementStream(blocks.toStream(),
+            "{http://www.w3.org/2005/Atom}feed", "{http://www.w3.org/2005/Atom}entry");
+    xml:Element[] elements = [];
+    check from xml:Element entry in entries
+        do {
+            elements.push(entry);
+        };
+    test:assertValueEqual(elements.length(), 2);
+    test:assertValueEqual(elements[0].getName(), "{http://www.w3.org/2005/Atom}entry");
+    test:assertValueEqual(elements[0].data(), "1");
+    test:assertValueEqual(elements[1].getName(), "{http://www.w3.org/2005/Atom}entry");
+    test:assertValueEqual(elements[1].elementChildren().length(), 2);
+
+    stream<xml:Element, error?> ids = xml:fromElementStream(blocks.toStream(), "{http://www.w3.org/2005/Atom}feed",
+            "{http://www.w3.org/2005/Atom}entry", "{http://www.w3.org/2005/Atom}id");
+    string[] values = [];
+    check from xml:Element id in ids
+        do {
+            values.push(id.data());
+        };
+    test:assertValueEqual(values, ["1", "2"]);
+
+    stream<xml:Element, error?> root = xml:fromElementStream(["<a><b/></a>".toBytes()].toStream());
+    xml:Element[] roots = check from xml:Element element in root select element;
+    test:assertValueEqual(roots.length(), 1);
+    test:assertValueEqual(roots[0].elementChildren().length(), 1);
+}
+
+function testFromElementStreamNegative() {
+    stream<xml:Element, error?> elements = xml:fromElementStream(["<a><b>1</b><b>2</c></a>".toBytes()].toStream(),
+            "a", "b");
+    error? err = readElements(elements);
+    test:assertTrue(err is error);
+    test:assertTrue((<error>err).message().startsWith("failed to parse xml"));
+    test:assertValueEqual(elements.next(), ());
+
+    elements = xml:fromElementStream(new stream<byte[], error?>(new FailingXmlBlockIterator()), "a");
+    err = readElements(elements);
+    test:assertTrue(err is error);
+    test:assertValueEqual((<error>err).message(), "byte block error");
+}
+
+function readElements(stream<xml:Element, error?> elements) returns error? {
+    record {| xml:Element value; |}? next = check elements.next();
+    while next is record {| xml:Element value; |} {
+        next = check elements.next();
+    }
+}
+
+class FailingXmlBlockIterator {
+    private boolean failed = false;
+
+    public isolated function next() returns record {| byte[] value; |}|error? {
+        if self.failed {
+            return error("byte block error");
+        }
+        self.failed = true;
+        return {value: "<a><b>1</b><b>".toBytes()};
+    }
+}
+
 type Error error<record {string message;}>;
 
 function assertError(any|error value, string errorMessage, string expDetailMessage) {
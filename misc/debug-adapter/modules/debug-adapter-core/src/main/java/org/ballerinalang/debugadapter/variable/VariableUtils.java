@@ -16,8 +16,11 @@
 
 package org.ballerinalang.debugadapter.variable;
 
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.CharValue;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
+import com.sun.jdi.IntegerValue;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
@@ -43,6 +46,10 @@ public final class VariableUtils {
     public static final String FIELD_TYPE = "type";
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
+    public static final String FIELD_FLATTENED = "flattened";
+    public static final String FIELD_BUFFER = "buffer";
+    public static final String FIELD_CHARS = "chars";
+    public static final String FIELD_CHAR_LENGTH = "charLength";
     public static final String FIELD_PACKAGE = "pkg";
     public static final String FIELD_PKG_ORG = "org";
     public static final String FIELD_PKG_NAME = "name";
@@ -151,6 +158,9 @@ public final class VariableUtils {
             if (!(stringValue instanceof ObjectReference stringRef)) {
                 return UNKNOWN_VALUE;
             }
+            if (stringRef.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())) {
+                return getRopeStringFrom(stringRef);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -166,6 +176,34 @@ public final class VariableUtils {
         }
     }
 
+    /**
+     * Returns the string value of a string built by concatenation. The characters are read from the buffer of the
+     * string if it is not flattened yet, so that the string is not flattened in the remote VM.
+     *
+     * @param ropeRef JDI value of the string instance
+     * @return actual string.
+     */
+    private static String getRopeStringFrom(ObjectReference ropeRef) throws DebugVariableException {
+        Optional<Value> flattened = getFieldValue(ropeRef, FIELD_FLATTENED);
+        if (flattened.isPresent()) {
+            return getStringFrom(flattened.get());
+        }
+        Optional<Value> buffer = getFieldValue(ropeRef, FIELD_BUFFER);
+        Optional<Value> charLength = getFieldValue(ropeRef, FIELD_CHAR_LENGTH);
+        if (buffer.isEmpty() || charLength.isEmpty() || !(charLength.get() instanceof IntegerValue length)) {
+            return UNKNOWN_VALUE;
+        }
+        Optional<Value> chars = getFieldValue(buffer.get(), FIELD_CHARS);
+        if (chars.isEmpty() || !(chars.get() instanceof ArrayReference charsRef)) {
+            return UNKNOWN_VALUE;
+        }
+        StringBuilder stringValue = new StringBuilder(length.value());
+        for (Value charValue : charsRef.getValues(0, length.value())) {
+            stringValue.append(((CharValue) charValue).value());
+        }
+        return stringValue.toString();
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
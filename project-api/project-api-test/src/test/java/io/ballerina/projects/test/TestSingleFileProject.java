@@ -17,6 +17,8 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
@@ -30,6 +32,9 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.test.BCompileUtil;
 import org.testng.Assert;
 import org.testng.SkipException;
@@ -40,6 +45,9 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.projects.test.TestUtils.isWindows;
 import static io.ballerina.projects.test.TestUtils.resetPermissions;
@@ -210,6 +218,70 @@ public class TestSingleFileProject {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test
+    public void testUpdateDocumentIncrementally() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single_file").resolve("main.bal");
+        SingleFileProject singleFileProject = TestUtils.loadSingleFileProject(filePath);
+        Module module = singleFileProject.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        String content = document.textDocument().toString();
+        ModulePartNode previousModulePart = document.syntaxTree().rootNode();
+        Assert.assertEquals(singleFileProject.currentPackage().getCompilation().diagnosticResult().errorCount(), 0);
+
+        // Add a function with a type error, and parse the document with the previous syntax tree
+        String function = "\nfunction foo() {\n    int x = \"a\";\n}\n";
+        TextEdit textEdit = TextEdit.from(TextRange.from(content.length(), 0), function);
+        document = document.modify().withContentChange(TextDocumentChange.from(new TextEdit[]{textEdit})).apply();
+        ModulePartNode modulePart = document.syntaxTree().rootNode();
+        Assert.assertEquals(modulePart.toSourceCode(), content + function);
+        Assert.assertEquals(modulePart.members().size(), 2);
+        Assert.assertEquals(modulePart.members().get(1).kind(), SyntaxKind.FUNCTION_DEFINITION);
+        // The import before the edit is reused from the previous syntax tree, instead of being parsed again
+        Assert.assertSame(modulePart.imports().get(0).internalNode(),
+                previousModulePart.imports().get(0).internalNode());
+        Assert.assertEquals(singleFileProject.currentPackage().getCompilation().diagnosticResult().errorCount(), 1);
+
+        // Modify the function at the end, so that the unchanged main function is not converted again
+        String validFunction = function.replace("\"a\"", "1");
+        String newContent = content + validFunction;
+        previousModulePart = modulePart;
+        document = document.modify().withContent(newContent).apply();
+        Assert.assertEquals(document.syntaxTree().toSourceCode(), newContent);
+        modulePart = document.syntaxTree().rootNode();
+        Assert.assertSame(modulePart.members().get(0).internalNode(),
+                previousModulePart.members().get(0).internalNode());
+        Assert.assertNotSame(modulePart.members().get(1).internalNode(),
+                previousModulePart.members().get(1).internalNode());
+        Assert.assertEquals(singleFileProject.currentPackage().getCompilation().diagnosticResult().errorCount(), 0);
+
+        // Errors of the unchanged functions are reported after other functions are modified
+        newContent = content.replace("io:println", "io:printlnx") + validFunction;
+        document = document.modify().withContent(newContent).apply();
+        Assert.assertEquals(singleFileProject.currentPackage().getCompilation().diagnosticResult().errorCount(), 1);
+        document = document.modify().withContent(newContent + "\n").apply();
+        Assert.assertEquals(document.syntaxTree().toSourceCode(), newContent + "\n");
+        Assert.assertEquals(singleFileProject.currentPackage().getCompilation().diagnosticResult().errorCount(), 1);
+    }
+
+    @Test(description = "tests removing the unreachable functions of a package before generating code")
+    public void testEliminateDeadCode() {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("single_file").resolve("main_with_unused_functions.bal");
+        BuildOptions buildOptions = BuildOptions.builder().setEliminateDeadCode(true).build();
+        SingleFileProject project = TestUtils.loadSingleFileProject(projectPath, buildOptions);
+        Assert.assertTrue(project.buildOptions().eliminateDeadCode());
+
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                jBallerinaBackend.diagnosticResult().errors().toString());
+
+        // Functions which are called or referred to by a function pointer from main are kept
+        Map<String, List<String>> removedFunctions = jBallerinaBackend.removedFunctions();
+        Assert.assertEquals(removedFunctions.size(), 1);
+        Assert.assertEquals(Set.copyOf(removedFunctions.values().iterator().next()),
+                Set.of("unusedFunction", "calledByUnusedFunction"));
+    }
+
     @Test (description = "tests loading a single file with no read permission")
     public void testSingleFileWithNoReadPermission() {
         // Skip test in windows due to file permission setting issue
@@ -0,0 +1,15 @@
+import ballerina/io;
+
+public function main() {
+    io:println(usedFunction());
+    function () returns int referenced = referencedFunction;
+    io:println(referenced());
+}
+
+function usedFunction() returns string => "used";
+
+function referencedFunction() returns int => 1;
+
+function unusedFunction() returns string => calledByUnusedFunction();
+
+function calledByUnusedFunction() returns string => "unused";
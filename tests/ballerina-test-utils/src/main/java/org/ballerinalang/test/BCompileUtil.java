@@ -121,7 +121,11 @@ public final class BCompileUtil {
     }
 
     public static BIRCompileResult generateBIR(String sourceFilePath) {
-        Project project = loadProject(sourceFilePath);
+        return generateBIR(sourceFilePath, BuildOptions.builder().build());
+    }
+
+    public static BIRCompileResult generateBIR(String sourceFilePath, BuildOptions buildOptions) {
+        Project project = loadProject(sourceFilePath, buildOptions);
         NullBackend nullBackend = NullBackend.from(project.currentPackage().getCompilation());
         Package currentPackage = project.currentPackage();
         if (currentPackage.getCompilation().diagnosticResult().hasErrors() || nullBackend.hasErrors()) {
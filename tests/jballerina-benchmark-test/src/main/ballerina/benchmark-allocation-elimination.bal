@@ -0,0 +1,48 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Interval record {|
+    int lower;
+    int upper;
+|};
+
+type Velocity record {|
+    float dx;
+    float dy;
+|};
+
+public function benchmarkNonEscapingRecords() {
+    int overlap = 0;
+    foreach int i in 0 ..< 10000 {
+        Interval first = {lower: i, upper: i + 20};
+        Interval second = {lower: i + 5, upper: i + 30};
+        if first.upper > second.lower {
+            overlap += first.upper - second.lower;
+        }
+        Velocity velocity = {dx: <float>i * 0.5, dy: <float>i * 0.25};
+        velocity.dx = velocity.dx * 0.9;
+        overlap += <int>(velocity.dx + velocity.dy) % 3;
+    }
+}
+
+public function benchmarkNonEscapingTuples() {
+    int total = 0;
+    foreach int i in 0 ..< 10000 {
+        [int, int] divided = [i / 7, i % 7];
+        [float, float] point = [<float>i, <float>(i * 2)];
+        total += divided[0] + divided[1] + <int>(point[0] * point[1]) % 11;
+    }
+}
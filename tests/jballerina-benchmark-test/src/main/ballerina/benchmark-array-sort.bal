@@ -0,0 +1,54 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+type Reading record {|
+    string sensor;
+    float value;
+|};
+
+final int[] & readonly unsortedInts = createInts(100000).cloneReadOnly();
+final float[] & readonly unsortedFloats = from int i in unsortedInts select <float>i / 7.0;
+final string[] & readonly unsortedStrings = from int i in unsortedInts select i.toHexString();
+final Reading[] & readonly readings = from int i in unsortedInts
+    select {sensor: "sensor-" + (i % 100).toString(), value: <float>i / 3.0};
+
+public function benchmarkIntArraySort() {
+    int[] sorted = unsortedInts.sort();
+}
+
+public function benchmarkFloatArraySort() {
+    float[] sorted = unsortedFloats.sort(array:DESCENDING);
+}
+
+public function benchmarkStringArraySort() {
+    string[] sorted = unsortedStrings.sort();
+}
+
+public function benchmarkArraySortByKey() {
+    Reading[] sorted = readings.sort(array:ASCENDING, reading => reading.value);
+}
+
+isolated function createInts(int count) returns int[] {
+    int[] values = [];
+    int seed = 12345;
+    foreach int i in 0 ..< count {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        values.push(seed);
+    }
+    return values;
+}
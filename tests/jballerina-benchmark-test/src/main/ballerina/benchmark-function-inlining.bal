@@ -0,0 +1,58 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int INLINING_ITERATIONS = 100000;
+
+public function benchmarkInlinedFloatHelpers() {
+    float total = 0.0;
+    float x = 0.0;
+    foreach int i in 0 ..< INLINING_ITERATIONS {
+        float y = lerp(x, 100.0, 0.25);
+        total += clamp(squaredDistance(x, y, 1.5, 2.5), 0.0, 1000.0);
+        x = <float>(i % 100);
+    }
+}
+
+public function benchmarkInlinedIntHelpers() {
+    int hash = 17;
+    foreach int i in 0 ..< INLINING_ITERATIONS {
+        hash = mixBits(hash, i);
+    }
+}
+
+function squaredDistance(float x1, float y1, float x2, float y2) returns float {
+    float dx = x2 - x1;
+    float dy = y2 - y1;
+    return dx * dx + dy * dy;
+}
+
+function lerp(float low, float high, float fraction) returns float {
+    return low + (high - low) * fraction;
+}
+
+function clamp(float value, float lower, float upper) returns float {
+    if value < lower {
+        return lower;
+    }
+    if value > upper {
+        return upper;
+    }
+    return value;
+}
+
+function mixBits(int hash, int value) returns int {
+    return ((hash << 5) ^ (hash >>> 27)) ^ value;
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Invoice record {|
+    int id;
+    string customer;
+    float amount;
+    boolean paid;
+    int[] itemIds;
+|};
+
+public function benchmarkJsonParse1kInvoices(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParseInvoices(1000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParse10kInvoices(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParseInvoices(10000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParse50kInvoices(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParseInvoices(50000, warmupCount, benchmarkCount);
+}
+
+// Parses a JSON array of the given number of invoices into an `Invoice[]`, until about as many invoices as the
+// iteration count are parsed, so the reported time is the time taken to parse an invoice. A payload of 50k invoices
+// is about 5MB.
+function benchmarkJsonParseInvoices(int invoiceCount, int warmupCount, int benchmarkCount) returns int {
+    string payload = createInvoicesPayload(invoiceCount);
+    foreach int i in 0 ..< getPayloadCount(invoiceCount, warmupCount) {
+        _ = parseInvoices(payload);
+    }
+    int startTime = nanoTime();
+    foreach int i in 0 ..< getPayloadCount(invoiceCount, benchmarkCount) {
+        _ = parseInvoices(payload);
+    }
+    return (nanoTime() - startTime);
+}
+
+function getPayloadCount(int invoiceCount, int iterationCount) returns int {
+    int payloadCount = iterationCount / invoiceCount;
+    return payloadCount > 0 ? payloadCount : 1;
+}
+
+function parseInvoices(string payload) returns int {
+    Invoice[]|error invoices = payload.fromJsonStringWithType();
+    if invoices is error {
+        panic invoices;
+    }
+    return invoices.length();
+}
+
+function createInvoicesPayload(int invoiceCount) returns string {
+    string[] invoices = [];
+    foreach int i in 0 ..< invoiceCount {
+        invoices.push(string `{"id": ${i}, "customer": "customer-${i % 100}", "amount": ${i}.25, ` +
+                string `"paid": ${i % 2 == 0}, "itemIds": [${i}, ${i + 1}, ${i + 2}, ${i + 3}, ${i + 4}]}`);
+    }
+    return "[" + string:'join(", ", ...invoices) + "]";
+}
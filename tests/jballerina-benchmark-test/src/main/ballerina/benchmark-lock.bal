@@ -0,0 +1,45 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const LOCK_ITERATION_COUNT = 1000;
+
+int lockedCounter = 0;
+
+isolated class LockedCounter {
+    private int count = 0;
+
+    isolated function increment() {
+        lock {
+            self.count += 1;
+        }
+    }
+}
+
+final LockedCounter lockedCounterObject = new;
+
+public function benchmarkGlobalLock() {
+    foreach int i in 0 ..< LOCK_ITERATION_COUNT {
+        lock {
+            lockedCounter += 1;
+        }
+    }
+}
+
+public function benchmarkObjectLock() {
+    foreach int i in 0 ..< LOCK_ITERATION_COUNT {
+        lockedCounterObject.increment();
+    }
+}
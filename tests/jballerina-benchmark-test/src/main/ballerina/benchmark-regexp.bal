@@ -0,0 +1,42 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.regexp;
+
+const LOG_LINE = "2024-01-15T10:15:30 INFO [http-listener] request id=42 path=/orders status=200";
+
+public function benchmarkRegexFind() {
+    regexp:Span? result = re `status=[0-9]+`.find(LOG_LINE);
+}
+
+public function benchmarkRegexIsFullMatch() {
+    boolean result = re `[0-9]{4}-[0-9]{2}-[0-9]{2}T.*`.isFullMatch(LOG_LINE);
+}
+
+public function benchmarkRegexReplaceAll() {
+    string result = re `[0-9]+`.replaceAll(LOG_LINE, "#");
+}
+
+public function benchmarkRegexSplit() {
+    string[] result = re ` `.split(LOG_LINE);
+}
+
+public function benchmarkRegexFromStringFind() {
+    regexp:RegExp|error pattern = regexp:fromString("path=/[a-z]+");
+    if pattern is regexp:RegExp {
+        regexp:Span? result = pattern.find(LOG_LINE);
+    }
+}
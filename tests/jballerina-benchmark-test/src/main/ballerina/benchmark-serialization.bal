@@ -0,0 +1,58 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type Shipment record {|
+    int id;
+    string origin;
+    string destination;
+    decimal weight;
+    boolean express;
+|};
+
+final Shipment[] & readonly shipments = createShipments(100);
+
+final json shipmentsJson = shipments.toJson();
+
+final xml shipmentsXml = xml `<shipments>${from Shipment shipment in shipments
+        select xml `<shipment id="${shipment.id}"><origin>${shipment.origin}</origin><destination>${
+        shipment.destination}</destination></shipment>`}</shipments>`;
+
+public function benchmarkJsonToJsonString() {
+    string result = shipmentsJson.toJsonString();
+}
+
+public function benchmarkRecordToJsonString() {
+    string result = shipments.toJsonString();
+}
+
+public function benchmarkXmlToString() {
+    string result = shipmentsXml.toString();
+}
+
+isolated function createShipments(int count) returns Shipment[] & readonly {
+    Shipment[] result = [];
+    foreach int i in 0 ..< count {
+        result.push({
+            id: i,
+            origin: "Colombo " + i.toString(),
+            destination: "Zürich " + i.toString(),
+            weight: <decimal>i * 1.25d,
+            express: i % 2 == 0
+        });
+    }
+    return result.cloneReadOnly();
+}
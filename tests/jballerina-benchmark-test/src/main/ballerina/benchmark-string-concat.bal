@@ -0,0 +1,55 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const STRING_FRAGMENT = "fragment";
+
+public function benchmarkStringConcat10kFragments(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringConcatFragments(10000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkStringConcat100kFragments(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringConcatFragments(100000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkStringConcat1MFragments(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkStringConcatFragments(1000000, warmupCount, benchmarkCount);
+}
+
+// Builds strings of the given number of fragments with `s = s + fragment`, until about as many fragments as the
+// iteration count are concatenated, so the reported time is the time taken to concatenate a fragment.
+function benchmarkStringConcatFragments(int fragmentCount, int warmupCount, int benchmarkCount) returns int {
+    foreach int i in 0 ..< getStringCount(fragmentCount, warmupCount) {
+        _ = concatFragments(fragmentCount);
+    }
+    int startTime = nanoTime();
+    foreach int i in 0 ..< getStringCount(fragmentCount, benchmarkCount) {
+        _ = concatFragments(fragmentCount);
+    }
+    return (nanoTime() - startTime);
+}
+
+function getStringCount(int fragmentCount, int iterationCount) returns int {
+    int stringCount = iterationCount / fragmentCount;
+    return stringCount > 0 ? stringCount : 1;
+}
+
+function concatFragments(int fragmentCount) returns int {
+    string s = "";
+    foreach int i in 0 ..< fragmentCount {
+        s = s + STRING_FRAGMENT;
+    }
+    return s.length();
+}
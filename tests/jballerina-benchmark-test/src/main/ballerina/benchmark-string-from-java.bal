@@ -0,0 +1,38 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// Java strings are converted to Ballerina strings by `java:toString`, the same as the strings returned by Java
+// interop functions.
+final handle asciiJavaString = java:fromString("The quick brown fox jumps over the lazy dog, 1234567890.");
+final handle nonBmpJavaString = java:fromString("The quick brown 🦊 jumps over the lazy 🐶, 1234567890.");
+
+const JSON_RECORDS = string `[{"id": 1, "name": "John", "city": "Colombo", "active": true},
+    {"id": 2, "name": "Jane", "city": "Kandy", "active": false},
+    {"id": 3, "name": "Anne", "city": "Galle", "active": true}]`;
+
+public function benchmarkStringFromAsciiJavaString() {
+    string? result = java:toString(asciiJavaString);
+}
+
+public function benchmarkStringFromNonBmpJavaString() {
+    string? result = java:toString(nonBmpJavaString);
+}
+
+public function benchmarkJsonParseRepeatedFieldNames() {
+    json|error result = JSON_RECORDS.fromJsonString();
+}
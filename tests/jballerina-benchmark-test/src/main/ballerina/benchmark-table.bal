@@ -0,0 +1,97 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+
+type Order record {|
+    readonly int id;
+    string item;
+    decimal price;
+|};
+
+type CustomerOrder record {|
+    readonly int id;
+    readonly string customer;
+    decimal price;
+|};
+
+const TABLE_ROW_COUNT = 1000;
+
+table<Order> key(id) orderTable = createOrderTable();
+
+table<CustomerOrder> key(id) customerOrderTable = createCustomerOrderTable(false);
+
+table<CustomerOrder> key(id) indexedCustomerOrderTable = createCustomerOrderTable(true);
+
+function createCustomerOrderTable(boolean indexed) returns table<CustomerOrder> key(id) {
+    table<CustomerOrder> key(id) orders = table [];
+    if indexed {
+        runtime:createIndex(orders, "customer");
+    }
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        orders.add({id: i, customer: "customer" + (i % 100).toString(), price: 10.5d});
+    }
+    return orders;
+}
+
+function createOrderTable() returns table<Order> key(id) {
+    table<Order> key(id) orders = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        orders.add({id: i, item: "item" + i.toString(), price: 10.5d});
+    }
+    return orders;
+}
+
+public function benchmarkTablePut() {
+    table<Order> key(id) orders = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        orders.put({id: i, item: "item", price: 10.5d});
+    }
+}
+
+public function benchmarkTableGet() {
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        Order 'order = orderTable.get(i);
+    }
+}
+
+public function benchmarkTableRemoveAndAdd() {
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        Order 'order = orderTable.remove(i);
+        orderTable.add('order);
+    }
+}
+
+public function benchmarkTableIterate() {
+    decimal total = 0;
+    foreach Order 'order in orderTable {
+        total += 'order.price;
+    }
+}
+
+public function benchmarkTableWhereScan() {
+    CustomerOrder[] orders = getOrdersOfCustomer(customerOrderTable, "customer42");
+}
+
+public function benchmarkTableWhereIndexed() {
+    CustomerOrder[] orders = getOrdersOfCustomer(indexedCustomerOrderTable, "customer42");
+}
+
+function getOrdersOfCustomer(table<CustomerOrder> key(id) orders, string customer) returns CustomerOrder[] {
+    return from CustomerOrder 'order in orders
+        where 'order.customer == customer
+        select 'order;
+}
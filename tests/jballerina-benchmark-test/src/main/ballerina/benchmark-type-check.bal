@@ -0,0 +1,43 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type Employee record {|
+    string name;
+    int id;
+|};
+
+type Customer record {|
+    string name;
+    decimal balance;
+|};
+
+type Party Employee|Customer;
+
+final anydata employeeValue = <Employee>{name: "John", id: 1};
+final anydata customerValue = <Customer>{name: "Jane", balance: 10.5};
+
+public function benchmarkTypeCheckIsRecord() {
+    boolean result = employeeValue is Employee && customerValue !is Employee;
+}
+
+public function benchmarkTypeCheckIsUnion() {
+    boolean result = employeeValue is Party && customerValue is Party;
+}
+
+public function benchmarkTypeCheckCast() {
+    Party|error result = trap <Party>customerValue;
+}
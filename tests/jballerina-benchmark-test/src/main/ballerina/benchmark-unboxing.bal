@@ -0,0 +1,36 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+final (int|string)[] & readonly quantities = from int i in 0 ..< 10000 select i % 10 == 0 ? "none" : i;
+final (float?)[] & readonly prices = from int i in 0 ..< 10000 select i % 10 == 0 ? () : <float>i / 8.0;
+
+public function benchmarkNarrowedIntArithmetic() {
+    int score = 0;
+    foreach int|string quantity in quantities {
+        if quantity is int {
+            score += quantity * quantity + (quantity >> 2) - quantity % 7;
+        }
+    }
+}
+
+public function benchmarkNarrowedFloatArithmetic() {
+    float total = 0.0;
+    foreach float? price in prices {
+        if price !is () {
+            total += price * 0.85 + price / 100.0 * 3.0 - price * 0.02;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Each call passes three messages through a pipeline of workers, so the messages per second is three times the
+// number of calls per second.
+public function benchmarkWorkerPipelineAsyncSend() {
+    worker producer {
+        1 -> stage;
+    }
+
+    worker stage {
+        int value = <- producer;
+        value + 1 -> consumer;
+        value + 2 -> consumer;
+    }
+
+    worker consumer returns int {
+        int first = <- stage;
+        int second = <- stage;
+        return first + second;
+    }
+
+    int result = wait consumer;
+}
+
+public function benchmarkWorkerPipelineSyncSend() {
+    worker producer {
+        1 ->> stage;
+    }
+
+    worker stage {
+        int value = <- producer;
+        value + 1 ->> consumer;
+        value + 2 ->> consumer;
+    }
+
+    worker consumer returns int {
+        int first = <- stage;
+        int second = <- stage;
+        return first + second;
+    }
+
+    int result = wait consumer;
+}
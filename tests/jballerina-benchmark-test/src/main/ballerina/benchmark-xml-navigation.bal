@@ -0,0 +1,38 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+final xml envelope = createEnvelope(10000);
+
+public function benchmarkXmlChildNavigation() {
+    xml result = envelope/<Body>/<Response>/<Result>;
+}
+
+public function benchmarkXmlElementFilter() {
+    int count = (envelope/<Body>/<Response>/*).elements("Result").length();
+}
+
+public function benchmarkXmlDescendants() {
+    xml result = envelope/**/<Total>;
+}
+
+isolated function createEnvelope(int resultCount) returns xml {
+    xml results = xml ``;
+    foreach int i in 0 ..< resultCount {
+        results += xml `<Result><Id>${i}</Id><Total>${i * 10}</Total></Result>`;
+    }
+    return xml `<Envelope><Header/><Body><Response>${results}<Status>OK</Status></Response></Body></Envelope>`;
+}
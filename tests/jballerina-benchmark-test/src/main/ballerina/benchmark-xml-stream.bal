@@ -0,0 +1,46 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+final byte[] & readonly feedBytes = createFeed(10000).toBytes().cloneReadOnly();
+
+public function benchmarkXmlFromString() {
+    xml|error feed = xml:fromString(checkpanic string:fromBytes(feedBytes));
+}
+
+public function benchmarkXmlFromElementStream() {
+    stream<xml:Element, error?> entries = xml:fromElementStream(toBlocks(feedBytes, 8192).toStream(), "feed", "entry");
+    int|error count = from xml:Element entry in entries collect count(entry);
+}
+
+isolated function toBlocks(byte[] bytes, int blockSize) returns byte[][] {
+    byte[][] blocks = [];
+    int index = 0;
+    while index < bytes.length() {
+        int end = index + blockSize < bytes.length() ? index + blockSize : bytes.length();
+        blocks.push(bytes.slice(index, end));
+        index = end;
+    }
+    return blocks;
+}
+
+isolated function createFeed(int entryCount) returns string {
+    string[] entries = [];
+    foreach int i in 0 ..< entryCount {
+        entries.push(string `<entry><id>${i}</id><title>Entry ${i}</title><updated>2026-01-01</updated></entry>`);
+    }
+    return string `<feed><title>Feed</title>${string:'join("", ...entries)}</feed>`;
+}
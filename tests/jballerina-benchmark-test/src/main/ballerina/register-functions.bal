@@ -36,6 +36,12 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStringConcat10kFragments", benchmarkStringConcat10kFragments);
+    addSingleExecFunction("benchmarkStringConcat100kFragments", benchmarkStringConcat100kFragments);
+    addSingleExecFunction("benchmarkStringConcat1MFragments", benchmarkStringConcat1MFragments);
+    addSingleExecFunction("benchmarkJsonParse1kInvoices", benchmarkJsonParse1kInvoices);
+    addSingleExecFunction("benchmarkJsonParse10kInvoices", benchmarkJsonParse10kInvoices);
+    addSingleExecFunction("benchmarkJsonParse50kInvoices", benchmarkJsonParse50kInvoices);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +61,32 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringFromAsciiJavaString", benchmarkStringFromAsciiJavaString);
+    addMultiExecFunction("benchmarkStringFromNonBmpJavaString", benchmarkStringFromNonBmpJavaString);
+    addMultiExecFunction("benchmarkJsonParseRepeatedFieldNames", benchmarkJsonParseRepeatedFieldNames);
+    addMultiExecFunction("benchmarkWorkerPipelineAsyncSend", benchmarkWorkerPipelineAsyncSend);
+    addMultiExecFunction("benchmarkWorkerPipelineSyncSend", benchmarkWorkerPipelineSyncSend);
+    addMultiExecFunction("benchmarkTypeCheckIsRecord", benchmarkTypeCheckIsRecord);
+    addMultiExecFunction("benchmarkTypeCheckIsUnion", benchmarkTypeCheckIsUnion);
+    addMultiExecFunction("benchmarkTypeCheckCast", benchmarkTypeCheckCast);
+    addMultiExecFunction("benchmarkJsonToJsonString", benchmarkJsonToJsonString);
+    addMultiExecFunction("benchmarkRecordToJsonString", benchmarkRecordToJsonString);
+    addMultiExecFunction("benchmarkXmlToString", benchmarkXmlToString);
+    addMultiExecFunction("benchmarkXmlChildNavigation", benchmarkXmlChildNavigation);
+    addMultiExecFunction("benchmarkXmlElementFilter", benchmarkXmlElementFilter);
+    addMultiExecFunction("benchmarkXmlDescendants", benchmarkXmlDescendants);
+    addMultiExecFunction("benchmarkXmlFromString", benchmarkXmlFromString);
+    addMultiExecFunction("benchmarkXmlFromElementStream", benchmarkXmlFromElementStream);
+    addMultiExecFunction("benchmarkIntArraySort", benchmarkIntArraySort);
+    addMultiExecFunction("benchmarkFloatArraySort", benchmarkFloatArraySort);
+    addMultiExecFunction("benchmarkStringArraySort", benchmarkStringArraySort);
+    addMultiExecFunction("benchmarkArraySortByKey", benchmarkArraySortByKey);
+    addMultiExecFunction("benchmarkInlinedFloatHelpers", benchmarkInlinedFloatHelpers);
+    addMultiExecFunction("benchmarkInlinedIntHelpers", benchmarkInlinedIntHelpers);
+    addMultiExecFunction("benchmarkNarrowedIntArithmetic", benchmarkNarrowedIntArithmetic);
+    addMultiExecFunction("benchmarkNarrowedFloatArithmetic", benchmarkNarrowedFloatArithmetic);
+    addMultiExecFunction("benchmarkNonEscapingRecords", benchmarkNonEscapingRecords);
+    addMultiExecFunction("benchmarkNonEscapingTuples", benchmarkNonEscapingTuples);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
@@ -63,4 +95,19 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkRegexFind", benchmarkRegexFind);
+    addMultiExecFunction("benchmarkRegexIsFullMatch", benchmarkRegexIsFullMatch);
+    addMultiExecFunction("benchmarkRegexReplaceAll", benchmarkRegexReplaceAll);
+    addMultiExecFunction("benchmarkRegexSplit", benchmarkRegexSplit);
+    addMultiExecFunction("benchmarkRegexFromStringFind", benchmarkRegexFromStringFind);
+    addMultiExecFunction("benchmarkTablePut", benchmarkTablePut);
+    addMultiExecFunction("benchmarkTableGet", benchmarkTableGet);
+    addMultiExecFunction("benchmarkTableRemoveAndAdd", benchmarkTableRemoveAndAdd);
+    addMultiExecFunction("benchmarkTableIterate", benchmarkTableIterate);
+    addMultiExecFunction("benchmarkTableWhereScan", benchmarkTableWhereScan);
+    addMultiExecFunction("benchmarkTableWhereIndexed", benchmarkTableWhereIndexed);
+    addMultiExecFunction("benchmarkGlobalLock", benchmarkGlobalLock);
+    addMultiExecFunction("benchmarkObjectLock", benchmarkObjectLock);
+    addMultiExecFunction("benchmarkServiceMethodDispatch", benchmarkServiceMethodDispatch);
+    addMultiExecFunction("benchmarkConcurrentNonIsolatedCalls", benchmarkConcurrentNonIsolatedCalls);
 }
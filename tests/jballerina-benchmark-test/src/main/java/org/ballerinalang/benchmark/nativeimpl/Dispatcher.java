@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Dispatches calls to Ballerina objects and functions from Java, the way listeners dispatch incoming requests to
+ * services.
+ *
+ * @since 2201.14.0
+ */
+public final class Dispatcher {
+
+    private static final BString MESSAGE = StringUtils.fromString("message");
+    private static final String WORKLOAD_MODULE_SUFFIX = ".workload";
+    private static final StrandMetadata NON_ISOLATED_METADATA = new StrandMetadata(false, null);
+
+    private Dispatcher() {
+    }
+
+    public static void dispatchRemoteMethod(Environment env, BObject serviceObject, BString methodName, long count) {
+        Runtime runtime = env.getRuntime();
+        String name = methodName.getValue();
+        for (long i = 0; i < count; i++) {
+            runtime.callMethod(serviceObject, name, null, MESSAGE);
+        }
+    }
+
+    public static void callConcurrently(Environment env, BString functionName, long callerCount, long callCount) {
+        Runtime runtime = env.getRuntime();
+        Module currentModule = env.getCurrentModule();
+        Module workloadModule = new Module(currentModule.getOrg(), currentModule.getName() + WORKLOAD_MODULE_SUFFIX,
+                currentModule.getMajorVersion());
+        String name = functionName.getValue();
+        // The calling strand yields, so that the callers do not wait for the non-isolated lock it holds
+        env.yieldAndRun(() -> {
+            Thread[] callers = new Thread[(int) callerCount];
+            for (int i = 0; i < callers.length; i++) {
+                long seed = i;
+                callers[i] = Thread.ofPlatform().start(() -> {
+                    for (long j = 0; j < callCount; j++) {
+                        runtime.callFunction(workloadModule, name, NON_ISOLATED_METADATA, seed + j);
+                    }
+                });
+            }
+            for (Thread caller : callers) {
+                try {
+                    caller.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            return null;
+        });
+    }
+}
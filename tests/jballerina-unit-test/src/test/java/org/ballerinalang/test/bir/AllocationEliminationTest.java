@@ -0,0 +1,90 @@
+/*
+ *   Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+
+import java.util.List;
+
+/**
+ * This class contains unit tests to validate the replacement of non-escaping records and tuples with local variables
+ * in BIR.
+ *
+ * @since 2201.14.0
+ */
+public class AllocationEliminationTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/allocation_elimination.bal";
+
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setEliminateAllocations(true).build();
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE, buildOptions);
+        result = BCompileUtil.compile(SOURCE_FILE, buildOptions);
+    }
+
+    @Test(description = "Test the records and tuples, which do not escape their functions, are not allocated")
+    public void testEliminatedAllocations() {
+        BIRPackage birPackage = birResult.getExpectedBIR();
+        for (String functionName : List.of("scaledLength", "spanWidth", "clampedSpan")) {
+            Assert.assertEquals(getAllocationCount(functionName), 0,
+                    "unexpected allocation in '" + functionName + "'");
+            Assert.assertTrue(birPackage.eliminatedAllocations.containsKey(functionName),
+                    "eliminated allocation is not recorded for '" + functionName + "'");
+        }
+    }
+
+    @Test(description = "Test the records and tuples, which escape their functions, are still allocated")
+    public void testEscapingAllocations() {
+        BIRPackage birPackage = birResult.getExpectedBIR();
+        for (String functionName : List.of("escapingRecord", "escapingTuple")) {
+            Assert.assertEquals(getAllocationCount(functionName), 1);
+            Assert.assertFalse(birPackage.eliminatedAllocations.containsKey(functionName));
+        }
+    }
+
+    @Test(description = "Test the results of the functions with eliminated allocations")
+    public void testEliminatedAllocationResults() {
+        BRunUtil.invoke(result, "testEliminatedAllocations");
+    }
+
+    private int getAllocationCount(String functionName) {
+        return BIRTestUtils.countInstructions(birResult.getExpectedBIR(), functionName,
+                instruction -> instruction instanceof NewStructure || instruction instanceof NewArray);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        result = null;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *   Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Utilities to inspect the functions of a BIR package in the tests of the BIR optimizations.
+ *
+ * @since 2201.14.0
+ */
+final class BIRTestUtils {
+
+    private BIRTestUtils() {
+    }
+
+    static BIRFunction getFunction(BIRPackage birPackage, String functionName) {
+        return birPackage.functions.stream()
+                .filter(function -> function.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Returns the number of non-terminator instructions of a function, which match the given condition.
+     *
+     * @param birPackage   package of the function
+     * @param functionName name of the function
+     * @param condition    condition of the counted instructions
+     * @return number of matching instructions
+     */
+    static int countInstructions(BIRPackage birPackage, String functionName, Predicate<BIRNonTerminator> condition) {
+        int count = 0;
+        for (BIRBasicBlock basicBlock : getFunction(birPackage, functionName).basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (condition.test(instruction)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the names of the functions called by a function, in the order of its basic blocks.
+     *
+     * @param birPackage   package of the function
+     * @param functionName name of the function
+     * @return names of the called functions
+     */
+    static List<String> getCalledFunctions(BIRPackage birPackage, String functionName) {
+        List<String> calledFunctions = new ArrayList<>();
+        for (BIRBasicBlock basicBlock : getFunction(birPackage, functionName).basicBlocks) {
+            if (basicBlock.terminator instanceof Call call) {
+                calledFunctions.add(call.name.value);
+            }
+        }
+        return calledFunctions;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *   Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.NullBackend;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+
+import java.util.List;
+
+/**
+ * This class contains unit tests to validate the inlining of small functions and the folding of constants in BIR.
+ *
+ * @since 2201.14.0
+ */
+public class FunctionInliningTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/function_inlining.bal";
+    private static final String MOCKS_PROJECT = "test-src/bir/InliningMocksProject";
+    private static final String MOCKED_MODULE = "inlining_mocks.util";
+
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE);
+        result = BCompileUtil.compile(SOURCE_FILE);
+    }
+
+    @Test(description = "Test the calls to small functions, which cannot panic, are inlined")
+    public void testInlinedCalls() {
+        List<String> inlinedFunctions = List.of("squaredDistance", "clamp", "isPositive", "mixBits");
+        for (String functionName : List.of("testInlinedFloatFunctions", "testInlinedIntFunctions",
+                "testFoldedConstants")) {
+            List<String> calledFunctions = getCalledFunctions(functionName);
+            Assert.assertTrue(calledFunctions.contains("assertEquality"));
+            for (String inlinedFunction : inlinedFunctions) {
+                Assert.assertFalse(calledFunctions.contains(inlinedFunction),
+                        "call to '" + inlinedFunction + "' is not inlined in '" + functionName + "'");
+            }
+        }
+    }
+
+    @Test(description = "Test the calls to functions, which can panic, are not inlined")
+    public void testNotInlinedCalls() {
+        List<String> calledFunctions = getCalledFunctions("testPanicInNonInlinedFunction");
+        Assert.assertEquals(calledFunctions.stream().filter("increment"::equals).count(), 2);
+    }
+
+    @Test(description = "Test the branches on constant conditions exposed by inlining are removed")
+    public void testFoldedBranch() {
+        for (BIRBasicBlock basicBlock : BIRTestUtils.getFunction(birResult.getExpectedBIR(),
+                "testFoldedConstants").basicBlocks) {
+            Assert.assertFalse(basicBlock.terminator instanceof Branch,
+                    "unexpected branch in basic block: " + basicBlock.id.value);
+        }
+    }
+
+    @Test(description = "Test the calls to functions, which can be mocked by the tests of another module, are not " +
+            "inlined when the tests are compiled")
+    public void testCallsNotInlinedWhenTestsAreCompiled() {
+        Assert.assertFalse(BIRTestUtils.getCalledFunctions(getMockedModule(true), "scaledWidth").contains("scale"));
+        Assert.assertTrue(BIRTestUtils.getCalledFunctions(getMockedModule(false), "scaledWidth").contains("scale"));
+    }
+
+    @Test(dataProvider = "inliningFunctionProvider")
+    public void testInlinedFunctionResults(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @DataProvider
+    public Object[] inliningFunctionProvider() {
+        return new Object[]{
+                "testInlinedFloatFunctions",
+                "testInlinedIntFunctions",
+                "testFoldedConstants",
+                "testPanicInNonInlinedFunction"
+        };
+    }
+
+    private List<String> getCalledFunctions(String functionName) {
+        return BIRTestUtils.getCalledFunctions(birResult.getExpectedBIR(), functionName);
+    }
+
+    private static BIRPackage getMockedModule(boolean skipTests) {
+        // The module is mocked by the tests of the default module, which are compiled after the module
+        Project project = BCompileUtil.loadProject(MOCKS_PROJECT,
+                BuildOptions.builder().setSkipTests(skipTests).build());
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(NullBackend.from(compilation).hasErrors());
+        return compilation.defaultModuleBLangPackage().imports.stream()
+                .filter(importPkg -> importPkg.symbol.pkgID.name.value.equals(MOCKED_MODULE))
+                .map(importPkg -> importPkg.symbol.bir)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        result = null;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *   Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+/**
+ * This class contains unit tests to validate the reuse of unboxed int and float values in BIR.
+ *
+ * @since 2201.14.0
+ */
+public class UnboxingOptimizationTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/unboxing_optimization.bal";
+
+    private BCompileUtil.BIRCompileResult birResult;
+    private BCompileUtil.BIRCompileResult unoptimizedBirResult;
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE);
+        unoptimizedBirResult = BCompileUtil.generateBIR(SOURCE_FILE,
+                BuildOptions.builder().setDisableUnboxingOptimization(true).build());
+        result = BCompileUtil.compile(SOURCE_FILE);
+    }
+
+    @Test(description = "Test a narrowed variable is unboxed only once")
+    public void testNarrowedVariableUnboxing() {
+        // Each reference to the narrowed variable unboxes it without the optimization
+        assertUnboxingCastCounts("scoreNarrowedInt", TypeTags.INT, 1, 4);
+        assertUnboxingCastCounts("scoreNarrowedFloat", TypeTags.FLOAT, 1, 3);
+    }
+
+    @Test(description = "Test a boxed int is not unboxed again")
+    public void testBoxedVariableUnboxing() {
+        assertUnboxingCastCounts("reuseBoxedValue", TypeTags.INT, 0, 2);
+        // Only the cast of the float value to int remains
+        assertUnboxingCastCounts("reassignBoxedValue", TypeTags.INT, 1, 3);
+    }
+
+    @Test(description = "Test the results of the functions with reused unboxed values")
+    public void testUnboxedValues() {
+        BRunUtil.invoke(result, "testUnboxedValues");
+    }
+
+    private void assertUnboxingCastCounts(String functionName, int typeTag, int expectedCount,
+                                          int unoptimizedCount) {
+        Assert.assertEquals(getUnboxingCastCount(birResult, functionName, typeTag), expectedCount,
+                "unexpected number of unboxing casts in '" + functionName + "'");
+        Assert.assertEquals(getUnboxingCastCount(unoptimizedBirResult, functionName, typeTag), unoptimizedCount,
+                "unexpected number of unboxing casts in '" + functionName + "' without the optimization");
+    }
+
+    private static int getUnboxingCastCount(BCompileUtil.BIRCompileResult birResult, String functionName,
+                                            int typeTag) {
+        return BIRTestUtils.countInstructions(birResult.getExpectedBIR(), functionName,
+                instruction -> instruction instanceof TypeCast typeCast &&
+                        Types.getImpliedType(typeCast.lhsOp.variableDcl.type).tag == typeTag);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        unoptimizedBirResult = null;
+        result = null;
+    }
+}
@@ -125,6 +125,11 @@ public class JoinClauseTest {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
     
+    @Test(description = "Test join clause with keys that have the same string representation")
+    public void testJoinClauseWithKeysOfSameStringForm() {
+        BRunUtil.invoke(result, "testJoinClauseWithKeysOfSameStringForm");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         int i = 0;
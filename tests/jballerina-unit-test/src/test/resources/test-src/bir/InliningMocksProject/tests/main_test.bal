@@ -0,0 +1,34 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import inlining_mocks.util;
+
+@test:Mock {
+    moduleName: "inlining_mocks.util",
+    functionName: "scale"
+}
+test:MockFunction mockScale = new ();
+
+function mockedScale(float value) returns float {
+    return value;
+}
+
+@test:Config {}
+function testMockedScale() {
+    test:when(mockScale).call("mockedScale");
+    test:assertEquals(util:scaledWidth(2.0), 3.0);
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Vector record {|
+    float x;
+    float y;
+|};
+
+type Span record {|
+    int low;
+    int high;
+|};
+
+function scaledLength(float x, float y, float factor) returns float {
+    Vector vector = {x: x * factor, y: y * factor};
+    vector.x = vector.x + 1.0;
+    return vector.x * vector.x + vector.y * vector.y;
+}
+
+function spanWidth(int low, int high) returns int {
+    [int, int] bounds = [low, high];
+    if bounds[0] > bounds[1] {
+        return bounds[0] - bounds[1];
+    }
+    return bounds[1] - bounds[0];
+}
+
+function clampedSpan(int value, int low, int high) returns int {
+    Span span = {low, high};
+    if value < span.low {
+        span.high = span.low;
+    }
+    return span.high - span.low;
+}
+
+function escapingRecord(int low, int high) returns Span {
+    Span span = {low, high};
+    span.high = span.high + 1;
+    return span;
+}
+
+function escapingTuple(int first, int second) returns int {
+    [int, int] pair = [first, second];
+    return sumPair(pair);
+}
+
+function sumPair([int, int] pair) returns int {
+    return pair[0] + pair[1];
+}
+
+function testEliminatedAllocations() {
+    assertEquality(4.0 * 4.0 + 4.0 * 4.0, scaledLength(1.5, 2.0, 2.0));
+    assertEquality(7, spanWidth(3, 10));
+    assertEquality(7, spanWidth(10, 3));
+    assertEquality(0, clampedSpan(1, 5, 9));
+    assertEquality(4, clampedSpan(6, 5, 9));
+    Span span = escapingRecord(2, 4);
+    assertEquality(2, span.low);
+    assertEquality(5, span.high);
+    assertEquality(9, escapingTuple(4, 5));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
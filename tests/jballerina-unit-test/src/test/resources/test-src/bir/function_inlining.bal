@@ -0,0 +1,85 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function squaredDistance(float x1, float y1, float x2, float y2) returns float {
+    float dx = x2 - x1;
+    float dy = y2 - y1;
+    return dx * dx + dy * dy;
+}
+
+function clamp(float value, float lower, float upper) returns float {
+    if value < lower {
+        return lower;
+    }
+    if value > upper {
+        return upper;
+    }
+    return value;
+}
+
+function isPositive(int value) returns boolean {
+    return value > 0;
+}
+
+function mixBits(int hash, int value) returns int {
+    return ((hash << 5) ^ (hash >>> 27)) ^ value;
+}
+
+function increment(int value) returns int {
+    return value + 1;
+}
+
+function testInlinedFloatFunctions() {
+    assertEquality(25.0, squaredDistance(1.0, 2.0, 4.0, 6.0));
+    float x = 0.5;
+    assertEquality(0.5, clamp(x, 0.0, 1.0));
+    assertEquality(0.0, clamp(-x, 0.0, 1.0));
+    assertEquality(1.0, clamp(x * 4, 0.0, 1.0));
+    float nan = 0.0 / 0.0;
+    assertEquality(true, clamp(nan, 0.0, 1.0).isNaN());
+}
+
+function testInlinedIntFunctions() {
+    int hash = 17;
+    foreach int i in 0 ..< 10 {
+        hash = mixBits(hash, i);
+    }
+    assertEquality(19141470004124953, hash);
+    assertEquality(true, isPositive(hash));
+    assertEquality(false, isPositive(-hash));
+}
+
+function testFoldedConstants() {
+    boolean positive = isPositive(10);
+    if positive {
+        assertEquality(-9223372036854775807, mixBits(0, 9223372036854775807) * -1);
+        return;
+    }
+    panic error("expected the positive branch to be taken");
+}
+
+function testPanicInNonInlinedFunction() {
+    int|error result = trap increment(9223372036854775807);
+    assertEquality(true, result is error);
+    assertEquality(2, increment(1));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function scoreNarrowedInt(int|string value) returns int {
+    if value is int {
+        return value * value + value - (value >> 1);
+    }
+    return value.length();
+}
+
+function scoreNarrowedFloat(float? price) returns float {
+    if price is () {
+        return 0.0;
+    }
+    return price * 0.9 + price / 4.0 - price;
+}
+
+function reuseBoxedValue(int count) returns int {
+    any boxed = count;
+    int first = <int>boxed;
+    int second = <int>boxed;
+    return first + second;
+}
+
+function reassignBoxedValue(int count) returns int {
+    int|float value = count;
+    int first = <int>value;
+    value = 2.75;
+    int second = <int>value;
+    value = count * 2;
+    int third = <int>value;
+    return first + second + third;
+}
+
+function testUnboxedValues() {
+    assertEquality(25 + 5 - 2, scoreNarrowedInt(5));
+    assertEquality(5, scoreNarrowedInt("hello"));
+    assertEquality(100.0 * 0.9 + 100.0 / 4.0 - 100.0, scoreNarrowedFloat(100.0));
+    assertEquality(0.0, scoreNarrowedFloat(()));
+    assertEquality(14, reuseBoxedValue(7));
+    assertEquality(7 + 3 + 14, reassignBoxedValue(7));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -527,6 +527,35 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+public function testJoinClauseWithKeysOfSameStringForm() {
+    (int|string)[] lhsKeys = [1, "1", 2];
+    (int|string)[] rhsKeys = ["1", 2, "2"];
+    (int|string)[] joined = from var a in lhsKeys
+            join var b in rhsKeys on a equals b
+            select a;
+    assertEquality(2, joined.length());
+    assertEquality("1", joined[0]);
+    assertEquality(2, joined[1]);
+
+    decimal[] lhsDecimals = [1.0, 2.50];
+    decimal[] rhsDecimals = [1.00, 2.5];
+    decimal[] joinedDecimals = from var a in lhsDecimals
+            join var b in rhsDecimals on a equals b
+            select b;
+    assertEquality(2, joinedDecimals.length());
+
+    float[] lhsFloats = [0.0, 1.5];
+    float[] rhsFloats = [-0.0];
+    float[] joinedFloats = from var a in lhsFloats
+            outer join var b in rhsFloats on a equals b
+            select a;
+    assertEquality(2, joinedFloats.length());
+    int[] matched = from var a in lhsFloats
+            join var b in rhsFloats on a equals b
+            select 1;
+    assertEquality(1, matched.length());
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {